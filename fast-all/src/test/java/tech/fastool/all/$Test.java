@@ -1,10 +1,16 @@
 package tech.fastool.all;
 
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
 import tech.fastool.all.dto.EmployeeDto;
+import tech.fastool.core.lang.Charsets;
 import tech.fastool.core.lang.Lists;
 import tech.fastool.json.api.BaseTypeRef;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.util.List;
 import java.util.Map;
 
@@ -272,11 +278,27 @@ public class $Test {
     }
 
     @Test
-    public void get() {
-        List<Map<String, Object>> list = $.get("https://gitee.com/api/v5/search/repositories?q=fastool&page=1&per_page=20&order=desc")
-                .bean(new BaseTypeRef<List<Map<String, Object>>>() {
-                });
-        System.out.println("list = " + list);
-    }
-
-}
\ No newline at end of file
+    public void get() throws IOException {
+        // 请求发送到进程内的HttpServer，不依赖外部网络
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/repositories", exchange -> {
+            byte[] body = "[{\"name\":\"fastool\"},{\"name\":\"fast-tool\"}]".getBytes(Charsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            List<Map<String, Object>> list = $.get("http://127.0.0.1:" + server.getAddress().getPort() + "/repositories?q=fastool")
+                    .bean(new BaseTypeRef<List<Map<String, Object>>>() {
+                    });
+            assertEquals(2, list.size());
+            assertEquals("fastool", list.get(0).get("name"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+}
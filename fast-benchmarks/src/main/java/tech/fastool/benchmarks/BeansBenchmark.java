@@ -0,0 +1,68 @@
+package tech.fastool.benchmarks;
+
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+import tech.fastool.core.lang.Beans;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@linkplain Beans}的基准测试
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeansBenchmark {
+
+    private UserEntity source;
+
+    @Setup
+    public void setup() {
+        source = new UserEntity();
+        source.setId(1L);
+        source.setName("miles");
+        source.setAge(18);
+        source.setEmail("and.mz.yq@gmail.com");
+        source.setAddress("Shanghai");
+        source.setCreateTime(new Date());
+        source.setEnabled(true);
+    }
+
+    @Benchmark
+    public UserDto copyProperties() {
+        UserDto target = new UserDto();
+        Beans.copyProperties(source, target);
+        return target;
+    }
+
+    @Data
+    public static class UserEntity {
+        private Long id;
+        private String name;
+        private Integer age;
+        private String email;
+        private String address;
+        private Date createTime;
+        private Boolean enabled;
+    }
+
+    @Data
+    public static class UserDto {
+        private Long id;
+        private String name;
+        private Integer age;
+        private String email;
+        private String address;
+        private Date createTime;
+        private Boolean enabled;
+    }
+
+}
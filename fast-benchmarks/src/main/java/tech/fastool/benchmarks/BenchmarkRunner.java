@@ -0,0 +1,42 @@
+package tech.fastool.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，默认运行全部基准并输出JSON结果，便于跨版本对比：
+ * <pre>
+ * mvn -P benchmark package -pl fast-benchmarks -am
+ * java -jar fast-benchmarks/target/benchmarks.jar [JMH参数，如 StringsBenchmark -rff result.json]
+ * </pre>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class BenchmarkRunner {
+
+    /**
+     * 默认的结果文件
+     */
+    private static final String DEFAULT_RESULT_FILE = "fastool-jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (cmdOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(builder.build()).run();
+    }
+
+}
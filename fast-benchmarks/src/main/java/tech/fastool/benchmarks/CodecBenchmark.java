@@ -0,0 +1,62 @@
+package tech.fastool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.fastool.core.lang.Base64s;
+import tech.fastool.core.lang.Hexes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@linkplain Hexes}、{@linkplain Base64s}的基准测试
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private byte[] data;
+
+    private String hex;
+
+    private String base64;
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        new Random(2022).nextBytes(data);
+        hex = new String(Hexes.encode(data));
+        base64 = Base64s.encode(data);
+    }
+
+    @Benchmark
+    public char[] hexEncode() {
+        return Hexes.encode(data);
+    }
+
+    @Benchmark
+    public byte[] hexDecode() {
+        return Hexes.decode(hex);
+    }
+
+    @Benchmark
+    public String base64Encode() {
+        return Base64s.encode(data);
+    }
+
+    @Benchmark
+    public byte[] base64Decode() {
+        return Base64s.decode(base64);
+    }
+
+}
@@ -0,0 +1,43 @@
+package tech.fastool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.fastool.core.convert.Converts;
+import tech.fastool.core.date.Dates;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@linkplain Converts}、{@linkplain Dates#tryParse(CharSequence)}的基准测试
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertsBenchmark {
+
+    @Param({"2022-06-11", "2022-06-11 12:00:00", "2022-06-11T12:00:00.000Z"})
+    private String dateText;
+
+    @Benchmark
+    public Integer toInt() {
+        return Converts.toInt("123456");
+    }
+
+    @Benchmark
+    public Date toDate() {
+        return Converts.toDate(dateText);
+    }
+
+    @Benchmark
+    public Date tryParse() {
+        return Dates.tryParse(dateText);
+    }
+
+}
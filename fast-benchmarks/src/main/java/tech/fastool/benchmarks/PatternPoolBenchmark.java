@@ -0,0 +1,46 @@
+package tech.fastool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.fastool.core.lang.regex.PatternPool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@linkplain PatternPool#get(String)}的多线程基准测试
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class PatternPoolBenchmark {
+
+    private static final String[] REGEXES = {
+            PatternPool.EMAIL_STR, PatternPool.MOBILE_PHONE_STR, PatternPool.DATE_STR, PatternPool.TIME_STR
+    };
+
+    @Benchmark
+    public Pattern get(ThreadIndex index) {
+        return PatternPool.get(REGEXES[index.next()]);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+
+        private int i;
+
+        int next() {
+            i = (i + 1) & 3;
+            return i;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package tech.fastool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.fastool.core.id.snowflake.AtomicSnowflake;
+import tech.fastool.core.id.snowflake.FastSnowflake;
+import tech.fastool.core.id.snowflake.SnowFlakeOptions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 雪花算法的多线程基准测试，序列数位长设置为12以避免测试被时钟限速
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SnowflakeBenchmark {
+
+    private FastSnowflake fastSnowflake;
+
+    private AtomicSnowflake atomicSnowflake;
+
+    private AtomicSnowflake shardedSnowflake;
+
+    @Setup
+    public void setup() {
+        fastSnowflake = new FastSnowflake(SnowFlakeOptions.builder().seqBitLength(12).build());
+        atomicSnowflake = new AtomicSnowflake(SnowFlakeOptions.builder().seqBitLength(12).build());
+        shardedSnowflake = new AtomicSnowflake(SnowFlakeOptions.builder().seqBitLength(12).shardCount(8).build());
+    }
+
+    @Benchmark
+    public long fastNextId() {
+        return fastSnowflake.nextId();
+    }
+
+    @Benchmark
+    public long atomicNextId() {
+        return atomicSnowflake.nextId();
+    }
+
+    @Benchmark
+    public long shardedNextId() {
+        return shardedSnowflake.nextId();
+    }
+
+}
@@ -0,0 +1,53 @@
+package tech.fastool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.fastool.core.lang.Strings;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@linkplain Strings}的基准测试
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringsBenchmark {
+
+    private String csv;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        csv = "id,name,age,email,phone,address,company,title,department,salary";
+        text = "The quick brown fox jumps over the lazy dog. The dog sleeps, the fox runs.";
+    }
+
+    @Benchmark
+    public String[] splitChar() {
+        return Strings.split(csv, ',');
+    }
+
+    @Benchmark
+    public String[] splitString() {
+        return Strings.split(csv, ",");
+    }
+
+    @Benchmark
+    public String replace() {
+        return Strings.replace(text, "fox", "cat");
+    }
+
+    @Benchmark
+    public String format() {
+        return Strings.format("user {} logged in from {} at {}", "miles", "127.0.0.1", 1654920000000L);
+    }
+
+}
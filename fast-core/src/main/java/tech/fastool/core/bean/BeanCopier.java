@@ -0,0 +1,339 @@
+package tech.fastool.core.bean;
+
+import tech.fastool.core.convert.Converter;
+import tech.fastool.core.convert.ConverterRegistry;
+import tech.fastool.core.exceptions.BeanException;
+import tech.fastool.core.lang.Objects;
+import tech.fastool.core.lang.reflect.Classes;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 预编译的Bean复制器
+ * <p>
+ * 创建时一次性匹配源类型与目标类型中同名的可读、可写属性，直接复用{@linkplain BeanMeta}中预先生成的访问函数，
+ * 复制时只是依次调用{@code getter/setter}，不再查找属性描述，也没有反射调用的装箱和参数数组开销。
+ * 复制器是无状态的，可以在多线程间共享，通过{@linkplain #create(Class, Class, CopyOption)}获取的实例会被缓存。
+ * </p>
+ * <p>
+ * 源属性与目标属性的声明类型不兼容时（如{@code String -> Integer}、{@code Date -> LocalDateTime}），
+ * 创建时从{@linkplain ConverterRegistry}中确定转换器，复制时值不是目标类型的实例才进行转换。
+ * 转换器在创建时确定，之后注册的自定义转换器需要调用{@linkplain #clearCache()}后才会生效。
+ * </p>
+ *
+ * @param <S> 源对象类型
+ * @param <T> 目标对象类型
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public final class BeanCopier<S, T> {
+
+    /**
+     * 缓存已经编译过的复制器，外层{@linkplain ClassValue}按源类型取得内层{@linkplain ClassValue}，
+     * 内层按目标类型挂在目标类型上，缓存不会强引用目标类型，复制器随目标类型的卸载一起回收，清理时整体替换
+     */
+    private static volatile ClassValue<ClassValue<ConcurrentMap<Key, BeanCopier<?, ?>>>> copiersValue = newCopiersValue();
+
+    private final Class<S> sourceClass;
+
+    private final Class<T> targetClass;
+
+    /**
+     * 需要复制的属性名
+     */
+    private final String[] propertyNames;
+
+    /**
+     * 源对象的属性读取函数
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 目标对象的属性写入函数
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * 声明类型不兼容时需要在运行时检查的目标类型，兼容时为{@code null}
+     */
+    private final Class<?>[] checkedTypes;
+
+    /**
+     * 声明类型不兼容时使用的转换器，没有对应转换器时为{@code null}，此时交给{@linkplain ConverterRegistry}处理
+     */
+    private final Converter<?>[] converters;
+
+    /**
+     * 目标属性是否为原始类型，原始类型无法写入{@code null}
+     */
+    private final boolean[] primitives;
+
+    /**
+     * 目标对象的无参构造函数，没有可用的无参构造器时为{@code null}
+     */
+    private final Supplier<T> instantiator;
+
+    private final boolean ignoreNullValue;
+
+    private final boolean ignoreEmptyString;
+
+    @SuppressWarnings("unchecked")
+    private BeanCopier(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.ignoreNullValue = copyOption.isIgnoreNullValue();
+        this.ignoreEmptyString = copyOption.isIgnoreEmptyString();
+
+        BeanMeta sourceMeta = BeanMeta.of(sourceClass);
+        BeanMeta targetMeta = BeanMeta.of(targetClass);
+        List<String> names = new ArrayList<>();
+        List<Function<Object, Object>> getterList = new ArrayList<>();
+        List<BiConsumer<Object, Object>> setterList = new ArrayList<>();
+        List<Class<?>> checkedTypeList = new ArrayList<>();
+        List<Class<?>> targetTypeList = new ArrayList<>();
+        for (int sourceIndex = 0, count = sourceMeta.size(); sourceIndex < count; sourceIndex++) {
+            String name = sourceMeta.getPropertyName(sourceIndex);
+            if (!sourceMeta.isReadable(sourceIndex) || copyOption.getIgnoreProperties().contains(name)) {
+                continue;
+            }
+            int targetIndex = targetMeta.indexOf(name);
+            if (targetIndex < 0 || !targetMeta.isWritable(targetIndex)) {
+                continue;
+            }
+            Class<?> targetType = targetMeta.getPropertyType(targetIndex);
+            names.add(name);
+            targetTypeList.add(targetType);
+            getterList.add(sourceMeta.getter(sourceIndex));
+            setterList.add(targetMeta.setter(targetIndex));
+            checkedTypeList.add(Classes.isAssignable(targetType, sourceMeta.getPropertyType(sourceIndex))
+                    ? null : Classes.resolveWrapperType(targetType));
+        }
+        int size = names.size();
+        this.propertyNames = names.toArray(new String[0]);
+        this.getters = getterList.toArray(new Function[0]);
+        this.setters = setterList.toArray(new BiConsumer[0]);
+        this.checkedTypes = checkedTypeList.toArray(new Class<?>[0]);
+        this.converters = new Converter<?>[size];
+        this.primitives = new boolean[size];
+        ConverterRegistry registry = ConverterRegistry.getInstance();
+        for (int i = 0; i < size; i++) {
+            this.primitives[i] = targetTypeList.get(i).isPrimitive();
+            if (checkedTypes[i] != null) {
+                this.converters[i] = registry.getConverter(checkedTypes[i], true);
+            }
+        }
+        this.instantiator = resolveInstantiator(targetClass);
+    }
+
+    /**
+     * 获取复制器，相同的源类型、目标类型和复制配置共享同一个实例
+     *
+     * @param sourceClass 源对象类型
+     * @param targetClass 目标对象类型
+     * @param copyOption  复制配置，可以为{@code null}
+     * @param <S>         源对象类型
+     * @param <T>         目标对象类型
+     * @return 复制器
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> BeanCopier<S, T> create(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption) {
+        Objects.requireNonNull(sourceClass, "sourceClass == null");
+        Objects.requireNonNull(targetClass, "targetClass == null");
+        final CopyOption option = copyOption == null ? new CopyOption() : copyOption;
+        Key key = new Key(option);
+        ConcurrentMap<Key, BeanCopier<?, ?>> copiers = copiersValue.get(sourceClass).get(targetClass);
+        BeanCopier<?, ?> copier = copiers.get(key);
+        if (copier == null) {
+            copier = copiers.computeIfAbsent(key, k -> new BeanCopier<>(sourceClass, targetClass, option));
+        }
+        return (BeanCopier<S, T>) copier;
+    }
+
+    /**
+     * 将源对象的属性复制到目标对象
+     *
+     * @param source 源对象，为{@code null}时不做任何处理
+     * @param target 目标对象
+     * @throws BeanException 属性值转换失败
+     */
+    public void copy(S source, T target) throws BeanException {
+        if (source == null) {
+            return;
+        }
+        Objects.requireNonNull(target, "target == null");
+        final Function<Object, Object>[] getters = this.getters;
+        final BiConsumer<Object, Object>[] setters = this.setters;
+        for (int i = 0, size = getters.length; i < size; i++) {
+            Object value = getters[i].apply(source);
+            if (value != null) {
+                if (ignoreEmptyString && value instanceof String && ((String) value).isEmpty()) {
+                    continue;
+                }
+                if (checkedTypes[i] != null && !checkedTypes[i].isInstance(value)) {
+                    value = convert(i, value);
+                }
+            }
+            if (value == null && (ignoreNullValue || primitives[i])) {
+                continue;
+            }
+            setters[i].accept(target, value);
+        }
+    }
+
+    /**
+     * 创建目标对象并复制属性
+     *
+     * @param source 源对象
+     * @return 目标对象，源对象为{@code null}时返回{@code null}
+     * @throws BeanException 目标类型没有可用的无参构造器或者属性值转换失败
+     */
+    public T copy(S source) throws BeanException {
+        if (source == null) {
+            return null;
+        }
+        T target = newTarget();
+        copy(source, target);
+        return target;
+    }
+
+    /**
+     * 批量复制，所有元素共享同一个复制计划
+     *
+     * @param sources 源对象列表
+     * @return 目标对象列表，与源对象一一对应，源对象为{@code null}的位置结果也为{@code null}
+     * @throws BeanException 目标类型没有可用的无参构造器或者属性值转换失败
+     */
+    public List<T> copyAll(List<? extends S> sources) throws BeanException {
+        if (sources == null || sources.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        List<T> targets = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            targets.add(copy(source));
+        }
+        return targets;
+    }
+
+    private T newTarget() {
+        if (instantiator == null) {
+            throw new BeanException(String.format("No accessible no-arg constructor in [%s]", targetClass.getName()));
+        }
+        return instantiator.get();
+    }
+
+    private Object convert(int index, Object value) {
+        try {
+            Converter<?> converter = converters[index];
+            if (converter != null) {
+                return converter.handle(value, null);
+            }
+            return ConverterRegistry.getInstance().convert(value, checkedTypes[index]);
+        } catch (RuntimeException e) {
+            throw new BeanException(String.format("Can not convert property [%s] of type [%s] from [%s] to [%s]",
+                    propertyNames[index], value.getClass().getName(), sourceClass.getName(), targetClass.getName()), e);
+        }
+    }
+
+    private static <T> Supplier<T> resolveInstantiator(Class<T> targetClass) {
+        if (targetClass.isInterface() || Modifier.isAbstract(targetClass.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<T> constructor = targetClass.getDeclaredConstructor();
+            return PropertyAccessors.constructor(constructor);
+        } catch (NoSuchMethodException | BeanException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 需要复制的属性名
+     *
+     * @return 属性名数组的副本
+     */
+    public String[] getPropertyNames() {
+        return propertyNames.clone();
+    }
+
+    public Class<S> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * 清理缓存的复制器
+     */
+    public static void clearCache() {
+        copiersValue = newCopiersValue();
+    }
+
+    private static ClassValue<ClassValue<ConcurrentMap<Key, BeanCopier<?, ?>>>> newCopiersValue() {
+        return new ClassValue<ClassValue<ConcurrentMap<Key, BeanCopier<?, ?>>>>() {
+            @Override
+            protected ClassValue<ConcurrentMap<Key, BeanCopier<?, ?>>> computeValue(Class<?> sourceType) {
+                return new ClassValue<ConcurrentMap<Key, BeanCopier<?, ?>>>() {
+                    @Override
+                    protected ConcurrentMap<Key, BeanCopier<?, ?>> computeValue(Class<?> targetType) {
+                        return new ConcurrentHashMap<>(4);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * 同一源类型、目标类型下复制器缓存的键，{@linkplain CopyOption}是可变对象，这里保存其快照
+     */
+    private static final class Key {
+
+        private final boolean ignoreNullValue;
+
+        private final boolean ignoreEmptyString;
+
+        private final Set<String> ignoreProperties;
+
+        private final int hash;
+
+        Key(CopyOption copyOption) {
+            this.ignoreNullValue = copyOption.isIgnoreNullValue();
+            this.ignoreEmptyString = copyOption.isIgnoreEmptyString();
+            List<String> ignores = copyOption.getIgnoreProperties();
+            this.ignoreProperties = ignores == null || ignores.isEmpty()
+                    ? Collections.emptySet() : new HashSet<>(ignores);
+            int h = ignoreNullValue ? 1 : 0;
+            h = 31 * h + (ignoreEmptyString ? 1 : 0);
+            this.hash = 31 * h + ignoreProperties.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return ignoreNullValue == other.ignoreNullValue && ignoreEmptyString == other.ignoreEmptyString
+                    && ignoreProperties.equals(other.ignoreProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
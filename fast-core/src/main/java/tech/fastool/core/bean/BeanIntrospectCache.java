@@ -1,19 +1,24 @@
 package tech.fastool.core.bean;
 
 import tech.fastool.core.exceptions.BeanException;
+import tech.fastool.core.lang.Beans;
 import tech.fastool.core.lang.Objects;
-import tech.fastool.core.lang.SimpleCache;
 import tech.fastool.core.lang.Singletons;
+import tech.fastool.core.lang.reflect.ClassScanner;
 
-import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Bean内省缓存
+ * <p>
+ * 属性通过{@linkplain BeanIntrospector}直接从公共方法和字段推导，不再使用{@linkplain java.beans.Introspector}；
+ * 结果保存在{@linkplain ClassValue}中，读取无锁，并且随类的卸载一起回收，不会导致类加载器泄漏。
+ * </p>
  *
  * @author miles.tang
  * @version 0.0.1
@@ -22,44 +27,39 @@ import java.util.List;
 public class BeanIntrospectCache {
 
     /**
-     * 缓存已经内省过的Class
+     * 缓存已经内省过的Class，清理时整体替换
      */
-    private final SimpleCache<Class<?>, List<PropertyDescriptor>> descriptorsCache = new SimpleCache<>(1024);
+    private volatile ClassValue<List<BeanProperty>> propertiesValue = newPropertiesValue();
+
+    /**
+     * 兼容{@linkplain PropertyDescriptor}的属性描述，按需生成
+     */
+    private volatile ClassValue<List<PropertyDescriptor>> descriptorsValue = newDescriptorsValue();
 
     private BeanIntrospectCache() {
 
     }
 
+    /**
+     * 获取Javabean的属性列表
+     *
+     * @param beanClass 对象内容
+     * @return 不可修改的属性列表，按属性名排序
+     */
+    public List<BeanProperty> getProperties(Class<?> beanClass) {
+        Objects.requireNonNull(beanClass, "BeanClass == null");
+        return propertiesValue.get(beanClass);
+    }
+
     /**
      * 获取Javabean的属性描述列表
      *
      * @param beanClass 对象内容
-     * @return {@code PropertyDescriptor}数组
+     * @return 不可修改的{@code PropertyDescriptor}列表
      */
     public List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass) {
         Objects.requireNonNull(beanClass, "BeanClass == null");
-        List<PropertyDescriptor> propertyDescriptorList;
-        synchronized (descriptorsCache) {
-            propertyDescriptorList = descriptorsCache.get(beanClass);
-        }
-        if (propertyDescriptorList == null) {
-            try {
-                BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-                PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-                propertyDescriptorList = new ArrayList<>(propertyDescriptors.length);
-                for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-                    if (!"class".equals(propertyDescriptor.getName())) {
-                        propertyDescriptorList.add(propertyDescriptor);
-                    }
-                }
-                synchronized (descriptorsCache) {
-                    descriptorsCache.put(beanClass, propertyDescriptorList);
-                }
-            } catch (IntrospectionException e) {
-                throw new BeanException(String.format("Failed to obtain BeanInfo for class [%s]", beanClass.getName()), e);
-            }
-        }
-        return propertyDescriptorList;
+        return descriptorsValue.get(beanClass);
     }
 
     /**
@@ -79,11 +79,26 @@ public class BeanIntrospectCache {
         return null;
     }
 
+    /**
+     * 预先内省指定包下的所有JavaBean，用于启动时预热
+     *
+     * @param packageName 包名
+     * @return 内省的类的个数
+     */
+    public int warmUp(String packageName) {
+        Set<Class<?>> classes = ClassScanner.scanPackage(packageName, Beans::isBeanType);
+        for (Class<?> clazz : classes) {
+            getProperties(clazz);
+        }
+        return classes.size();
+    }
+
     /**
      * 清理缓存
      */
     public void clearDescriptors() {
-        descriptorsCache.clear();
+        this.propertiesValue = newPropertiesValue();
+        this.descriptorsValue = newDescriptorsValue();
     }
 
     /**
@@ -95,4 +110,40 @@ public class BeanIntrospectCache {
         return Singletons.get(BeanIntrospectCache.class);
     }
 
+    private static ClassValue<List<BeanProperty>> newPropertiesValue() {
+        return new ClassValue<List<BeanProperty>>() {
+            @Override
+            protected List<BeanProperty> computeValue(Class<?> type) {
+                try {
+                    return Collections.unmodifiableList(BeanIntrospector.introspect(type));
+                } catch (SecurityException | LinkageError e) {
+                    throw new BeanException(String.format("Failed to introspect class [%s]", type.getName()), e);
+                }
+            }
+        };
+    }
+
+    private ClassValue<List<PropertyDescriptor>> newDescriptorsValue() {
+        return new ClassValue<List<PropertyDescriptor>>() {
+            @Override
+            protected List<PropertyDescriptor> computeValue(Class<?> type) {
+                List<BeanProperty> properties = getProperties(type);
+                List<PropertyDescriptor> descriptors = new ArrayList<>(properties.size());
+                for (BeanProperty property : properties) {
+                    descriptors.add(toPropertyDescriptor(type, property));
+                }
+                return Collections.unmodifiableList(descriptors);
+            }
+        };
+    }
+
+    private static PropertyDescriptor toPropertyDescriptor(Class<?> beanClass, BeanProperty property) {
+        try {
+            return new PropertyDescriptor(property.getName(), property.getReadMethod(), property.getWriteMethod());
+        } catch (IntrospectionException e) {
+            throw new BeanException(String.format("Failed to describe property [%s] of class [%s]",
+                    property.getName(), beanClass.getName()), e);
+        }
+    }
+
 }
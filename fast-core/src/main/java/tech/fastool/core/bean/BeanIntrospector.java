@@ -0,0 +1,187 @@
+package tech.fastool.core.bean;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * 轻量的Bean内省实现，直接根据公共方法和字段推导属性，不依赖{@linkplain java.beans.Introspector}
+ * <p>
+ * 支持的访问器：
+ * <pre>
+ *     1. getXxx()、isXxx()（仅限{@code boolean}返回值）
+ *     2. setXxx(value)，返回值可以不是{@code void}，即链式setter
+ *     3. xxx()、xxx(value)，要求存在同名同类型的字段，即流式访问器
+ * </pre>
+ * 属性按名称排序，与{@linkplain java.beans.Introspector}的结果顺序一致。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+final class BeanIntrospector {
+
+    private static final String GET_PREFIX = "get";
+
+    private static final String IS_PREFIX = "is";
+
+    private static final String SET_PREFIX = "set";
+
+    private BeanIntrospector() {
+
+    }
+
+    /**
+     * 内省Bean的属性
+     *
+     * @param beanClass Bean类
+     * @return 按属性名排序的属性列表
+     */
+    static List<BeanProperty> introspect(Class<?> beanClass) {
+        Map<String, Field> fields = collectFields(beanClass);
+        Map<String, Method> getters = new HashMap<>();
+        Map<String, List<Method>> setters = new HashMap<>();
+        for (Method method : beanClass.getMethods()) {
+            int modifiers = method.getModifiers();
+            if (Modifier.isStatic(modifiers) || method.isBridge() || method.isSynthetic()
+                    || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            String methodName = method.getName();
+            int parameterCount = method.getParameterCount();
+            Class<?> returnType = method.getReturnType();
+            if (parameterCount == 0 && returnType != void.class) {
+                String name = getterPropertyName(methodName, returnType, fields);
+                if (name != null) {
+                    Method existing = getters.get(name);
+                    if (existing == null || getterPriority(method) > getterPriority(existing)) {
+                        getters.put(name, method);
+                    }
+                }
+            } else if (parameterCount == 1) {
+                String name = setterPropertyName(methodName, method.getParameterTypes()[0], fields);
+                if (name != null) {
+                    setters.computeIfAbsent(name, k -> new ArrayList<>(1)).add(method);
+                }
+            }
+        }
+
+        Set<String> names = new TreeSet<>(getters.keySet());
+        names.addAll(setters.keySet());
+        List<BeanProperty> properties = new ArrayList<>(names.size());
+        for (String name : names) {
+            Method readMethod = getters.get(name);
+            Field field = fields.get(name);
+            Method writeMethod = chooseSetter(setters.get(name), readMethod, field);
+            if (readMethod == null && writeMethod == null) {
+                continue;
+            }
+            properties.add(new BeanProperty(name, readMethod, writeMethod, field));
+        }
+        return properties;
+    }
+
+    /**
+     * 与{@linkplain java.beans.Introspector#decapitalize(String)}规则一致，前两个字母都是大写时保持原样
+     *
+     * @param name 名称
+     * @return 首字母小写的名称
+     */
+    static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    private static String getterPropertyName(String methodName, Class<?> returnType, Map<String, Field> fields) {
+        if (methodName.length() > 3 && methodName.startsWith(GET_PREFIX)) {
+            return decapitalize(methodName.substring(3));
+        }
+        if (methodName.length() > 2 && methodName.startsWith(IS_PREFIX) && returnType == boolean.class) {
+            return decapitalize(methodName.substring(2));
+        }
+        Field field = fields.get(methodName);
+        if (field != null && field.getType() == returnType) {
+            return methodName;
+        }
+        return null;
+    }
+
+    private static String setterPropertyName(String methodName, Class<?> parameterType, Map<String, Field> fields) {
+        if (methodName.length() > 3 && methodName.startsWith(SET_PREFIX)) {
+            return decapitalize(methodName.substring(3));
+        }
+        Field field = fields.get(methodName);
+        if (field != null && field.getType() == parameterType) {
+            return methodName;
+        }
+        return null;
+    }
+
+    /**
+     * 同一属性有多个getter时的优先级：isXxx &gt; getXxx &gt; 流式访问器
+     *
+     * @param method getter
+     * @return 优先级
+     */
+    private static int getterPriority(Method method) {
+        String methodName = method.getName();
+        if (methodName.startsWith(IS_PREFIX) && method.getReturnType() == boolean.class) {
+            return 2;
+        }
+        return methodName.startsWith(GET_PREFIX) ? 1 : 0;
+    }
+
+    /**
+     * 选择setter：优先参数类型与getter返回类型相同的，其次参数类型可以接受getter返回类型的；
+     * 没有getter时优先参数类型与字段类型相同的
+     *
+     * @param candidates 候选的setter
+     * @param readMethod getter
+     * @param field      同名字段
+     * @return setter，没有合适的返回{@code null}
+     */
+    private static Method chooseSetter(List<Method> candidates, Method readMethod, Field field) {
+        if (candidates == null) {
+            return null;
+        }
+        Class<?> expectedType = readMethod != null ? readMethod.getReturnType() : (field != null ? field.getType() : null);
+        if (expectedType != null) {
+            Method assignable = null;
+            for (Method candidate : candidates) {
+                Class<?> parameterType = candidate.getParameterTypes()[0];
+                if (parameterType == expectedType) {
+                    return candidate;
+                }
+                if (assignable == null && parameterType.isAssignableFrom(expectedType)) {
+                    assignable = candidate;
+                }
+            }
+            if (assignable != null || readMethod != null) {
+                return assignable;
+            }
+        }
+        // 没有可以参照的类型时，多个重载的setter按参数类型名选择，保证结果稳定
+        return candidates.stream()
+                .min(Comparator.comparing(m -> m.getParameterTypes()[0].getName()))
+                .orElse(null);
+    }
+
+    private static Map<String, Field> collectFields(Class<?> beanClass) {
+        Map<String, Field> fields = new HashMap<>();
+        for (Class<?> c = beanClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+        return fields;
+    }
+
+}
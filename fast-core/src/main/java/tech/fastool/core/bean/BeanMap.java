@@ -0,0 +1,162 @@
+package tech.fastool.core.bean;
+
+import java.util.*;
+
+/**
+ * 基于{@linkplain BeanMeta}的Bean{@code Map}视图，读写直接调用属性的访问函数，不复制属性值
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+final class BeanMap extends AbstractMap<String, Object> {
+
+    private final BeanMeta meta;
+
+    private final Object bean;
+
+    private Set<Entry<String, Object>> entrySet;
+
+    BeanMap(BeanMeta meta, Object bean) {
+        this.meta = meta;
+        this.bean = bean;
+    }
+
+    @Override
+    public int size() {
+        return meta.getReadableCount();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return meta.getReadableCount() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+        int index = meta.indexOf((String) key);
+        return index >= 0 && meta.isReadable(index);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int index = meta.indexOf((String) key);
+        return index >= 0 && meta.isReadable(index) ? meta.read(bean, index) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = meta.indexOf(key);
+        if (index < 0 || !meta.isWritable(index)) {
+            throw new IllegalArgumentException("No writable property [" + key + "] in " + meta.getBeanClass().getName());
+        }
+        Object previous = meta.isReadable(index) ? meta.read(bean, index) : null;
+        meta.write(bean, index, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("clear");
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> es = entrySet;
+        if (es == null) {
+            es = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return meta.getReadableCount();
+                }
+            };
+            entrySet = es;
+        }
+        return es;
+    }
+
+    /**
+     * 按槽位顺序遍历可读属性，值在访问时才读取
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next = advance(0);
+
+        private int advance(int from) {
+            int size = meta.size();
+            while (from < size && !meta.isReadable(from)) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < meta.size();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int index = next;
+            next = advance(index + 1);
+            return new Entry<String, Object>() {
+                @Override
+                public String getKey() {
+                    return meta.getPropertyName(index);
+                }
+
+                @Override
+                public Object getValue() {
+                    return meta.read(bean, index);
+                }
+
+                @Override
+                public Object setValue(Object value) {
+                    Object previous = meta.read(bean, index);
+                    meta.write(bean, index, value);
+                    return previous;
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    if (!(o instanceof Entry)) {
+                        return false;
+                    }
+                    Entry<?, ?> e = (Entry<?, ?>) o;
+                    return getKey().equals(e.getKey()) && java.util.Objects.equals(getValue(), e.getValue());
+                }
+
+                @Override
+                public int hashCode() {
+                    return getKey().hashCode() ^ java.util.Objects.hashCode(getValue());
+                }
+
+                @Override
+                public String toString() {
+                    return getKey() + "=" + getValue();
+                }
+            };
+        }
+
+    }
+
+}
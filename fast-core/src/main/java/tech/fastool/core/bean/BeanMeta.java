@@ -0,0 +1,312 @@
+package tech.fastool.core.bean;
+
+import tech.fastool.core.exceptions.BeanException;
+import tech.fastool.core.lang.Objects;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bean的属性索引
+ * <p>
+ * 每个类只解析一次，属性按槽位（slot）存放在数组中：属性名、属性、属性类型以及预先生成的读写函数。
+ * 属性名到槽位的映射使用开放寻址的散列表，构建时尽量扩大表使其没有冲突，查找通常一次命中，不产生任何对象。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public final class BeanMeta {
+
+    /**
+     * 缓存已经解析过的Class，随类的卸载一起回收，清理时整体替换
+     */
+    private static volatile ClassValue<BeanMeta> metasValue = newMetasValue();
+
+    /**
+     * 无冲突散列表最多扩大的倍数，超过后允许冲突并线性探测
+     */
+    private static final int MAX_TABLE_EXPANSION = 16;
+
+    private final Class<?> beanClass;
+
+    private final String[] names;
+
+    private final BeanProperty[] properties;
+
+    private final Class<?>[] types;
+
+    /**
+     * 读取函数，不可读时为{@code null}
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 写入函数，不可写时为{@code null}
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * 属性名的散列表，值为槽位，空位为{@code -1}
+     */
+    private final int[] table;
+
+    /**
+     * 可读属性的个数
+     */
+    private final int readableCount;
+
+    /**
+     * 属性名与属性描述的映射，按需生成
+     */
+    private volatile Map<String, PropertyDescriptor> descriptorMap;
+
+    @SuppressWarnings("unchecked")
+    private BeanMeta(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.properties = BeanIntrospectCache.getInstance().getProperties(beanClass).toArray(new BeanProperty[0]);
+        int size = properties.length;
+        this.names = new String[size];
+        this.types = new Class<?>[size];
+        this.getters = new Function[size];
+        this.setters = new BiConsumer[size];
+        int readable = 0;
+        for (int i = 0; i < size; i++) {
+            BeanProperty property = properties[i];
+            names[i] = property.getName();
+            types[i] = property.getType();
+            Method readMethod = property.getReadMethod();
+            if (readMethod != null) {
+                getters[i] = PropertyAccessors.getter(readMethod);
+                readable++;
+            }
+            Method writeMethod = property.getWriteMethod();
+            if (writeMethod != null) {
+                setters[i] = PropertyAccessors.setter(writeMethod);
+            }
+        }
+        this.readableCount = readable;
+        this.table = buildTable(names);
+    }
+
+    /**
+     * 获取类的属性索引
+     *
+     * @param beanClass Bean类
+     * @return {@linkplain BeanMeta}
+     * @throws BeanException 解析属性异常
+     */
+    public static BeanMeta of(Class<?> beanClass) throws BeanException {
+        Objects.requireNonNull(beanClass, "beanClass == null");
+        return metasValue.get(beanClass);
+    }
+
+    /**
+     * 属性名对应的槽位
+     *
+     * @param name 属性名
+     * @return 槽位，属性不存在时返回{@code -1}
+     */
+    public int indexOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        final int[] table = this.table;
+        final int mask = table.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        int index;
+        while ((index = table[slot]) != -1) {
+            if (names[index].equals(name)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param bean  bean实例
+     * @param index 槽位
+     * @return 属性值
+     * @throws BeanException 属性不可读
+     */
+    public Object read(Object bean, int index) throws BeanException {
+        Function<Object, Object> getter = getters[index];
+        if (getter == null) {
+            throw new BeanException(String.format("Property [%s] of [%s] is not readable", names[index], beanClass.getName()));
+        }
+        return getter.apply(bean);
+    }
+
+    /**
+     * 写入属性值，值的类型需要与属性类型兼容
+     *
+     * @param bean  bean实例
+     * @param index 槽位
+     * @param value 属性值
+     * @throws BeanException 属性不可写
+     */
+    public void write(Object bean, int index, Object value) throws BeanException {
+        BiConsumer<Object, Object> setter = setters[index];
+        if (setter == null) {
+            throw new BeanException(String.format("Property [%s] of [%s] is not writable", names[index], beanClass.getName()));
+        }
+        setter.accept(bean, value);
+    }
+
+    /**
+     * 返回bean的{@code Map}视图，读写都直接作用于bean，不会复制属性值。
+     * 视图只包含可读属性，不支持删除。
+     *
+     * @param bean bean实例
+     * @return {@code Map}视图
+     */
+    public Map<String, Object> asMap(Object bean) {
+        Objects.requireNonNull(bean, "bean == null");
+        if (!beanClass.isInstance(bean)) {
+            throw new IllegalArgumentException("bean is not an instance of " + beanClass.getName());
+        }
+        return new BeanMap(this, bean);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 属性的个数
+     *
+     * @return 属性个数
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 可读属性的个数
+     *
+     * @return 可读属性个数
+     */
+    public int getReadableCount() {
+        return readableCount;
+    }
+
+    public String getPropertyName(int index) {
+        return names[index];
+    }
+
+    public Class<?> getPropertyType(int index) {
+        return types[index];
+    }
+
+    public BeanProperty getProperty(int index) {
+        return properties[index];
+    }
+
+    public PropertyDescriptor getPropertyDescriptor(int index) {
+        return getPropertyDescriptors().get(index);
+    }
+
+    public boolean isReadable(int index) {
+        return getters[index] != null;
+    }
+
+    public boolean isWritable(int index) {
+        return setters[index] != null;
+    }
+
+    /**
+     * 属性描述列表
+     *
+     * @return 不可修改的属性描述列表
+     */
+    public List<PropertyDescriptor> getPropertyDescriptors() {
+        return BeanIntrospectCache.getInstance().getPropertyDescriptors(beanClass);
+    }
+
+    /**
+     * 属性名与属性描述的映射
+     *
+     * @return 不可修改的属性描述映射
+     */
+    public Map<String, PropertyDescriptor> getPropertyDescriptorMap() {
+        Map<String, PropertyDescriptor> map = descriptorMap;
+        if (map == null) {
+            List<PropertyDescriptor> descriptors = getPropertyDescriptors();
+            map = new LinkedHashMap<>(descriptors.size() * 4 / 3 + 1);
+            for (PropertyDescriptor descriptor : descriptors) {
+                map.put(descriptor.getName(), descriptor);
+            }
+            descriptorMap = map = Collections.unmodifiableMap(map);
+        }
+        return map;
+    }
+
+    Function<Object, Object> getter(int index) {
+        return getters[index];
+    }
+
+    BiConsumer<Object, Object> setter(int index) {
+        return setters[index];
+    }
+
+    /**
+     * 清理缓存的属性索引
+     */
+    public static void clearCache() {
+        metasValue = newMetasValue();
+    }
+
+    private static ClassValue<BeanMeta> newMetasValue() {
+        return new ClassValue<BeanMeta>() {
+            @Override
+            protected BeanMeta computeValue(Class<?> type) {
+                return new BeanMeta(type);
+            }
+        };
+    }
+
+    /**
+     * 构建属性名的散列表，优先选择没有冲突的表长
+     *
+     * @param names 属性名
+     * @return 散列表
+     */
+    private static int[] buildTable(String[] names) {
+        int minSize = tableSizeFor(Math.max(2, names.length * 2));
+        int maxSize = minSize * MAX_TABLE_EXPANSION;
+        for (int size = minSize; ; size <<= 1) {
+            int[] table = new int[size];
+            Arrays.fill(table, -1);
+            int mask = size - 1;
+            boolean perfect = true;
+            for (int i = 0; i < names.length; i++) {
+                int slot = spread(names[i].hashCode()) & mask;
+                while (table[slot] != -1) {
+                    perfect = false;
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i;
+            }
+            if (perfect || size >= maxSize) {
+                return table;
+            }
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int cap) {
+        int n = Integer.highestOneBit(cap);
+        return n == cap ? n : n << 1;
+    }
+
+}
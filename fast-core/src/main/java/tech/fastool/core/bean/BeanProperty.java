@@ -0,0 +1,81 @@
+package tech.fastool.core.bean;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Bean属性的描述，{@linkplain java.beans.PropertyDescriptor}的轻量替代
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public final class BeanProperty {
+
+    /**
+     * 属性名
+     */
+    private final String name;
+
+    /**
+     * 属性类型，可读时为{@code getter}的返回类型，否则为{@code setter}的参数类型
+     */
+    private final Class<?> type;
+
+    /**
+     * {@code getter}方法，可以为{@code null}
+     */
+    private final Method readMethod;
+
+    /**
+     * {@code setter}方法，可以为{@code null}
+     */
+    private final Method writeMethod;
+
+    /**
+     * 同名的字段，可以为{@code null}
+     */
+    private final Field field;
+
+    BeanProperty(String name, Method readMethod, Method writeMethod, Field field) {
+        this.name = name;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.field = field;
+        this.type = readMethod != null ? readMethod.getReturnType() : writeMethod.getParameterTypes()[0];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isReadable() {
+        return readMethod != null;
+    }
+
+    public boolean isWritable() {
+        return writeMethod != null;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanProperty{name='" + name + "', type=" + type.getName() + "}";
+    }
+
+}
@@ -0,0 +1,207 @@
+package tech.fastool.core.bean;
+
+import lombok.experimental.UtilityClass;
+import tech.fastool.core.exceptions.BeanException;
+import tech.fastool.core.lang.Objects;
+import tech.fastool.core.lang.reflect.Classes;
+import tech.fastool.core.lang.reflect.Reflects;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 属性访问器的生成工具，将{@code getter/setter}方法转为函数对象
+ * <p>
+ * 优先通过{@linkplain LambdaMetafactory}生成与手写lambda等价的实现，调用开销与直接调用方法相当；
+ * 方法或类不可访问、类加载器不可见时退化为{@linkplain MethodHandle}调用。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@UtilityClass
+public class PropertyAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_FACTORY_TYPE = MethodType.methodType(Function.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CONSTRUCTOR_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /**
+     * 生成读取属性的函数
+     *
+     * @param readMethod {@code getter}方法
+     * @return 读取属性的函数
+     * @throws BeanException 生成失败
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getter(Method readMethod) throws BeanException {
+        Objects.requireNonNull(readMethod, "readMethod == null");
+        if (readMethod.getParameterCount() != 0 || readMethod.getReturnType() == void.class) {
+            throw new BeanException("Not a getter method: " + readMethod);
+        }
+        if (isLambdaAccessible(readMethod)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(readMethod);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", GETTER_FACTORY_TYPE, GETTER_TYPE, handle,
+                        MethodType.methodType(Classes.resolveWrapperType(readMethod.getReturnType()), readMethod.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // 退化为MethodHandle调用
+            }
+        }
+        final MethodHandle handle = unreflect(readMethod).asType(GETTER_TYPE);
+        return bean -> {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BeanException("Failed to invoke getter: " + readMethod, e);
+            }
+        };
+    }
+
+    /**
+     * 生成写入属性的函数，支持返回值非{@code void}的链式{@code setter}
+     *
+     * @param writeMethod {@code setter}方法
+     * @return 写入属性的函数
+     * @throws BeanException 生成失败
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> setter(Method writeMethod) throws BeanException {
+        Objects.requireNonNull(writeMethod, "writeMethod == null");
+        if (writeMethod.getParameterCount() != 1) {
+            throw new BeanException("Not a setter method: " + writeMethod);
+        }
+        if (isLambdaAccessible(writeMethod)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(writeMethod);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", SETTER_FACTORY_TYPE, SETTER_TYPE, handle,
+                        MethodType.methodType(void.class, writeMethod.getDeclaringClass(),
+                                Classes.resolveWrapperType(writeMethod.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // 退化为MethodHandle调用
+            }
+        }
+        final MethodHandle handle = unreflect(writeMethod).asType(SETTER_TYPE);
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BeanException("Failed to invoke setter: " + writeMethod, e);
+            }
+        };
+    }
+
+    /**
+     * 生成调用无参构造器创建实例的函数
+     *
+     * @param constructor 无参构造器
+     * @param <T>         实例类型
+     * @return 创建实例的函数
+     * @throws BeanException 生成失败
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> constructor(Constructor<T> constructor) throws BeanException {
+        Objects.requireNonNull(constructor, "constructor == null");
+        if (constructor.getParameterCount() != 0 || Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            throw new BeanException("Not a no-arg constructor: " + constructor);
+        }
+        if (isLambdaAccessible(constructor)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", CONSTRUCTOR_FACTORY_TYPE, CONSTRUCTOR_TYPE, handle,
+                        MethodType.methodType(constructor.getDeclaringClass()));
+                return (Supplier<T>) site.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // 退化为MethodHandle调用
+            }
+        }
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectConstructor(Reflects.setAccessible(constructor)).asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new BeanException("Failed to access constructor: " + constructor, e);
+        }
+        return () -> {
+            try {
+                return (T) (Object) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BeanException("Failed to invoke constructor: " + constructor, e);
+            }
+        };
+    }
+
+    /**
+     * 生成的lambda类定义在当前类的类加载器中，要求方法及其声明类为{@code public}并且对当前类加载器可见
+     *
+     * @param method 方法或构造器
+     * @return 是否可以使用{@linkplain LambdaMetafactory}
+     */
+    private static boolean isLambdaAccessible(Executable method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())
+                || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        if (!isVisible(declaringClass)) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+        return !(method instanceof Method) || isVisible(((Method) method).getReturnType());
+    }
+
+    private static boolean isVisible(Class<?> clazz) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive() || clazz.getClassLoader() == null) {
+            return true;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, PropertyAccessors.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(Reflects.setAccessible(method));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new BeanException("Failed to access method: " + method, e);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package tech.fastool.core.cache;
+
+import java.util.function.Function;
+
+/**
+ * 缓存接口，所有实现都必须是线程安全的
+ * <p>键和值都不支持{@code null}</p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ * @see CacheBuilder
+ */
+public interface Cache<K, V> {
+
+    /**
+     * 从缓存中获取值
+     *
+     * @param key 键
+     * @return 值，不存在、已过期或已被回收时返回{@code null}
+     */
+    V get(K key);
+
+    /**
+     * 将值放入到缓存中
+     *
+     * @param key   键
+     * @param value 值
+     * @return 之前的值，可能为{@code null}
+     */
+    V put(K key, V value);
+
+    /**
+     * 如果不存在设置键值对
+     *
+     * @param key   键
+     * @param value 值
+     * @return 已存在的值，如果不存在则返回{@code null}
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * 如果key对应的值不存在，则调用{@code mappingFunction}的计算结果设置到缓存中，同一个key的计算是原子的。
+     * <p>计算函数应当简短，且不能修改当前缓存。</p>
+     *
+     * @param key             键
+     * @param mappingFunction 值的计算函数，返回{@code null}则不缓存
+     * @return 值，可能为{@code null}
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * 移除缓存
+     *
+     * @param key 键
+     * @return 移除的值，可能为{@code null}
+     */
+    V remove(K key);
+
+    /**
+     * 返回缓存的条目数，可能包含已过期但未清理的条目
+     *
+     * @return 条目数
+     */
+    int size();
+
+    /**
+     * 清空缓存
+     */
+    void clear();
+
+    /**
+     * 清理已过期或已被回收的条目
+     */
+    void cleanUp();
+
+    /**
+     * 缓存名称
+     *
+     * @return 名称，未设置时为{@code null}
+     */
+    String getName();
+
+    /**
+     * 缓存统计的快照，未开启统计时返回{@linkplain CacheStats#EMPTY}
+     *
+     * @return 统计快照
+     */
+    CacheStats getStats();
+
+}
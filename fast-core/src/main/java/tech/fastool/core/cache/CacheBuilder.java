@@ -0,0 +1,284 @@
+package tech.fastool.core.cache;
+
+import tech.fastool.core.lang.Builder;
+import tech.fastool.core.lang.Objects;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@linkplain Cache}的构建，示例：
+ * <pre>
+ * Cache&lt;String, Pattern&gt; cache = CacheBuilder.&lt;String, Pattern&gt;builder()
+ *         .maximumSize(128)
+ *         .expireAfterAccess(10, TimeUnit.MINUTES)
+ *         .build();
+ * </pre>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class CacheBuilder<K, V> implements Builder<Cache<K, V>> {
+
+    /**
+     * 未设置
+     */
+    static final long UNSET = -1;
+
+    /**
+     * 初始容量
+     */
+    int initialCapacity = 16;
+
+    /**
+     * 最大条目数
+     */
+    long maximumSize = UNSET;
+
+    /**
+     * 最大权重
+     */
+    long maximumWeight = UNSET;
+
+    /**
+     * 权重计算器
+     */
+    Weigher<? super K, ? super V> weigher;
+
+    /**
+     * 写入后过期时间（纳秒）
+     */
+    long expireAfterWriteNanos = UNSET;
+
+    /**
+     * 访问后过期时间（纳秒）
+     */
+    long expireAfterAccessNanos = UNSET;
+
+    /**
+     * 是否使用{@linkplain java.lang.ref.SoftReference}包装值
+     */
+    boolean softValues;
+
+    /**
+     * 时间源（纳秒）
+     */
+    LongSupplier ticker = System::nanoTime;
+
+    /**
+     * 缓存名称
+     */
+    String name;
+
+    /**
+     * 是否开启统计
+     */
+    boolean recordStats;
+
+    /**
+     * 移除监听器
+     */
+    RemovalListener<? super K, ? super V> removalListener;
+
+    /**
+     * 创建{@linkplain CacheBuilder}
+     *
+     * @param <K> 键的类型
+     * @param <V> 值的类型
+     * @return {@code CacheBuilder}
+     */
+    public static <K, V> CacheBuilder<K, V> builder() {
+        return new CacheBuilder<>();
+    }
+
+    /**
+     * 初始容量，默认16
+     *
+     * @param initialCapacity 初始容量
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> initialCapacity(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initialCapacity: " + initialCapacity);
+        }
+        this.initialCapacity = initialCapacity;
+        return this;
+    }
+
+    /**
+     * 最大条目数，超出后按近似LRU（CLOCK）淘汰，不能与{@linkplain #maximumWeight(long)}同时使用
+     *
+     * @param maximumSize 最大条目数
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> maximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Illegal maximumSize: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * 最大权重，需要配合{@linkplain #weigher(Weigher)}使用，不能与{@linkplain #maximumSize(long)}同时使用
+     *
+     * @param maximumWeight 最大权重
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> maximumWeight(long maximumWeight) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Illegal maximumWeight: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        return this;
+    }
+
+    /**
+     * 权重计算器
+     *
+     * @param weigher 权重计算器
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> weigher(Weigher<? super K, ? super V> weigher) {
+        this.weigher = Objects.requireNonNull(weigher, "weigher == null");
+        return this;
+    }
+
+    /**
+     * 写入后经过指定时间过期
+     *
+     * @param duration 时长
+     * @param unit     时间单位
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+        this.expireAfterWriteNanos = toNanos(duration, unit);
+        return this;
+    }
+
+    /**
+     * 写入后经过指定时间过期
+     *
+     * @param duration 时长
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> expireAfterWrite(Duration duration) {
+        return expireAfterWrite(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 最后一次访问后经过指定时间过期
+     *
+     * @param duration 时长
+     * @param unit     时间单位
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> expireAfterAccess(long duration, TimeUnit unit) {
+        this.expireAfterAccessNanos = toNanos(duration, unit);
+        return this;
+    }
+
+    /**
+     * 最后一次访问后经过指定时间过期
+     *
+     * @param duration 时长
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> expireAfterAccess(Duration duration) {
+        return expireAfterAccess(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 值使用{@linkplain java.lang.ref.SoftReference}包装，内存不足时允许被垃圾回收
+     *
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> softValues() {
+        this.softValues = true;
+        return this;
+    }
+
+    /**
+     * 设置时间源，主要用于测试
+     *
+     * @param ticker 纳秒时间源
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> ticker(LongSupplier ticker) {
+        this.ticker = Objects.requireNonNull(ticker, "ticker == null");
+        return this;
+    }
+
+    /**
+     * 缓存名称，设置后构建的缓存会注册到{@linkplain CacheRegistry}
+     *
+     * @param name 缓存名称
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 开启统计
+     *
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> recordStats() {
+        return recordStats(true);
+    }
+
+    /**
+     * 是否开启统计
+     *
+     * @param recordStats 是否开启
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> recordStats(boolean recordStats) {
+        this.recordStats = recordStats;
+        return this;
+    }
+
+    /**
+     * 条目移除的监听器
+     *
+     * @param removalListener 监听器
+     * @return 当前对象
+     */
+    public CacheBuilder<K, V> removalListener(RemovalListener<? super K, ? super V> removalListener) {
+        this.removalListener = Objects.requireNonNull(removalListener, "removalListener == null");
+        return this;
+    }
+
+    /**
+     * 构建
+     *
+     * @return 被构建的对象
+     */
+    @Override
+    public Cache<K, V> build() {
+        if (maximumSize != UNSET && maximumWeight != UNSET) {
+            throw new IllegalStateException("maximumSize and maximumWeight cannot be combined");
+        }
+        if (weigher != null && maximumWeight == UNSET) {
+            throw new IllegalStateException("weigher requires maximumWeight");
+        }
+        if (maximumWeight != UNSET && weigher == null) {
+            throw new IllegalStateException("maximumWeight requires weigher");
+        }
+        Cache<K, V> cache = new ConcurrentCache<>(this);
+        CacheRegistry.register(cache);
+        return cache;
+    }
+
+    private static long toNanos(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Illegal duration: " + duration);
+        }
+        return Objects.requireNonNull(unit, "unit == null").toNanos(duration);
+    }
+
+}
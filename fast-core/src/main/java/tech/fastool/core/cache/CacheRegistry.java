@@ -0,0 +1,89 @@
+package tech.fastool.core.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 具名缓存的注册中心，{@linkplain CacheBuilder#name(String)}设置了名称的缓存构建后自动注册，用于枚举缓存及其统计信息
+ * <p>内部缓存默认不开启统计，可通过系统属性{@code -Dfastool.cache.recordStats=true}开启。</p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public final class CacheRegistry {
+
+    /**
+     * 内部缓存是否开启统计的系统属性名
+     */
+    public static final String RECORD_STATS_PROPERTY = "fastool.cache.recordStats";
+
+    private static final Map<String, Cache<?, ?>> CACHES = new ConcurrentHashMap<>();
+
+    private CacheRegistry() {
+    }
+
+    /**
+     * 内部缓存是否开启统计
+     *
+     * @return {@code true} or {@code false}
+     */
+    public static boolean isRecordStatsByDefault() {
+        return Boolean.getBoolean(RECORD_STATS_PROPERTY);
+    }
+
+    /**
+     * 注册缓存，同名的缓存会被覆盖
+     *
+     * @param cache 具名缓存
+     */
+    public static void register(Cache<?, ?> cache) {
+        if (cache != null && cache.getName() != null) {
+            CACHES.put(cache.getName(), cache);
+        }
+    }
+
+    /**
+     * 注销缓存
+     *
+     * @param name 缓存名
+     * @return 被注销的缓存，可能为{@code null}
+     */
+    public static Cache<?, ?> unregister(String name) {
+        return name == null ? null : CACHES.remove(name);
+    }
+
+    /**
+     * 根据名称获取缓存
+     *
+     * @param name 缓存名
+     * @return 缓存，可能为{@code null}
+     */
+    public static Cache<?, ?> get(String name) {
+        return name == null ? null : CACHES.get(name);
+    }
+
+    /**
+     * 所有已注册的缓存名
+     *
+     * @return 缓存名集合
+     */
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(CACHES.keySet());
+    }
+
+    /**
+     * 所有已注册缓存的统计快照
+     *
+     * @return 缓存名与统计快照
+     */
+    public static Map<String, CacheStats> stats() {
+        Map<String, CacheStats> result = new LinkedHashMap<>(CACHES.size());
+        CACHES.forEach((name, cache) -> result.put(name, cache.getStats()));
+        return result;
+    }
+
+}
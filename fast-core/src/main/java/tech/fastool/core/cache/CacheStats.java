@@ -0,0 +1,126 @@
+package tech.fastool.core.cache;
+
+import lombok.Getter;
+
+/**
+ * 缓存统计的快照
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@Getter
+public class CacheStats {
+
+    /**
+     * 未开启统计时的空快照
+     */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * 命中次数
+     */
+    private final long hitCount;
+
+    /**
+     * 未命中次数
+     */
+    private final long missCount;
+
+    /**
+     * 加载成功次数
+     */
+    private final long loadSuccessCount;
+
+    /**
+     * 加载失败次数（抛出异常或返回{@code null}）
+     */
+    private final long loadFailureCount;
+
+    /**
+     * 加载总耗时（纳秒）
+     */
+    private final long totalLoadTime;
+
+    /**
+     * 超出容量被淘汰的次数
+     */
+    private final long evictionCount;
+
+    /**
+     * 过期被移除的次数
+     */
+    private final long expiredCount;
+
+    /**
+     * 软引用被垃圾回收的次数
+     */
+    private final long collectedCount;
+
+    public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+                      long totalLoadTime, long evictionCount, long expiredCount, long collectedCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.expiredCount = expiredCount;
+        this.collectedCount = collectedCount;
+    }
+
+    /**
+     * 请求总次数
+     *
+     * @return 命中次数 + 未命中次数
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * 命中率，没有请求时为{@code 1.0}
+     *
+     * @return 命中率
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * 未命中率，没有请求时为{@code 0.0}
+     *
+     * @return 未命中率
+     */
+    public double missRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 0.0 : (double) missCount / requestCount;
+    }
+
+    /**
+     * 平均加载耗时（纳秒）
+     *
+     * @return 平均加载耗时
+     */
+    public double averageLoadPenalty() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRate=" + hitRate() +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", evictionCount=" + evictionCount +
+                ", expiredCount=" + expiredCount +
+                ", collectedCount=" + collectedCount +
+                '}';
+    }
+
+}
@@ -0,0 +1,540 @@
+package tech.fastool.core.cache;
+
+import tech.fastool.core.lang.Objects;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 基于{@linkplain ConcurrentHashMap}的并发缓存，读操作无锁。
+ * <p>
+ * 容量淘汰采用CLOCK（second-chance）算法：读操作只设置条目的访问标记，不修改任何链表；
+ * 写操作超出容量后，由持有淘汰锁的线程扫描环形队列，清除访问标记或淘汰未被访问的条目。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ * @see CacheBuilder
+ */
+public class ConcurrentCache<K, V> implements Cache<K, V> {
+
+    /**
+     * 真正缓存的池
+     */
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+
+    /**
+     * 最大权重，小于0表示不限制
+     */
+    private final long maximumWeight;
+
+    /**
+     * 权重计算器，为空时每个条目权重为1
+     */
+    private final Weigher<? super K, ? super V> weigher;
+
+    /**
+     * 写入后过期时间（纳秒），小于0表示不过期
+     */
+    private final long expireAfterWriteNanos;
+
+    /**
+     * 访问后过期时间（纳秒），小于0表示不过期
+     */
+    private final long expireAfterAccessNanos;
+
+    /**
+     * 是否软引用值
+     */
+    private final boolean softValues;
+
+    /**
+     * 时间源
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * 缓存名称
+     */
+    private final String name;
+
+    /**
+     * 统计计数器，未开启统计时为{@code null}
+     */
+    private final StatsCounter statsCounter;
+
+    /**
+     * 移除监听器，可能为{@code null}
+     */
+    private final RemovalListener<? super K, ? super V> removalListener;
+
+    /**
+     * CLOCK环形队列
+     */
+    private final ConcurrentLinkedQueue<Node<K, V>> clockQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 队列中的节点数（含已移除但尚未出队的节点）
+     */
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    /**
+     * 当前总权重
+     */
+    private final AtomicLong weightedSize = new AtomicLong();
+
+    /**
+     * 淘汰锁，只在写入超出容量时获取
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    ConcurrentCache(CacheBuilder<? super K, ? super V> builder) {
+        this.data = new ConcurrentHashMap<>(builder.initialCapacity);
+        this.maximumWeight = builder.maximumSize != CacheBuilder.UNSET ? builder.maximumSize : builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.softValues = builder.softValues;
+        this.ticker = builder.ticker;
+        this.name = builder.name;
+        this.statsCounter = builder.recordStats ? new StatsCounter() : null;
+        this.removalListener = builder.removalListener;
+    }
+
+    @Override
+    public V get(K key) {
+        V value = getIfPresent(key);
+        if (statsCounter != null) {
+            if (value != null) {
+                statsCounter.recordHit();
+            } else {
+                statsCounter.recordMiss();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "key == null");
+        Objects.requireNonNull(value, "value == null");
+        final long now = now();
+        final int weight = weigh(key, value);
+        final WriteResult<K, V> result = new WriteResult<>();
+        data.compute(key, (k, old) -> {
+            if (old != null) {
+                // 原地更新，避免在CLOCK队列中留下失效节点
+                V oldValue = unwrap(old);
+                result.value = alive(old, oldValue, now);
+                result.removed(oldValue, result.value != null ? RemovalCause.REPLACED : deadCause(oldValue));
+                weightedSize.addAndGet(weight - old.weight);
+                old.update(wrap(value), weight, now);
+                return old;
+            }
+            result.created = new Node<>(k, wrap(value), weight, now);
+            weightedSize.addAndGet(weight);
+            return result.created;
+        });
+        afterWrite(key, result);
+        return result.value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(key, "key == null");
+        Objects.requireNonNull(value, "value == null");
+        final long now = now();
+        final WriteResult<K, V> result = new WriteResult<>();
+        data.compute(key, (k, old) -> {
+            if (old != null) {
+                V oldValue = unwrap(old);
+                V existing = alive(old, oldValue, now);
+                if (existing != null) {
+                    result.value = existing;
+                    return old;
+                }
+                retire(old);
+                result.removed(oldValue, deadCause(oldValue));
+            }
+            result.created = new Node<>(k, wrap(value), weigh(k, value), now);
+            weightedSize.addAndGet(result.created.weight);
+            return result.created;
+        });
+        afterWrite(key, result);
+        return result.value;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = getIfPresent(key);
+        if (value != null || mappingFunction == null) {
+            if (statsCounter != null) {
+                if (value != null) {
+                    statsCounter.recordHit();
+                } else {
+                    statsCounter.recordMiss();
+                }
+            }
+            return value;
+        }
+        final long now = now();
+        final WriteResult<K, V> result = new WriteResult<>();
+        data.compute(key, (k, old) -> {
+            if (old != null) {
+                V oldValue = unwrap(old);
+                V existing = alive(old, oldValue, now);
+                if (existing != null) {
+                    result.value = existing;
+                    result.hit = true;
+                    return old;
+                }
+                retire(old);
+                result.removed(oldValue, deadCause(oldValue));
+            }
+            V computed = load(k, mappingFunction);
+            if (computed == null) {
+                return null;
+            }
+            result.value = computed;
+            result.created = new Node<>(k, wrap(computed), weigh(k, computed), now);
+            weightedSize.addAndGet(result.created.weight);
+            return result.created;
+        });
+        if (statsCounter != null && result.hit) {
+            statsCounter.recordHit();
+        }
+        afterWrite(key, result);
+        return result.value;
+    }
+
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        retire(node);
+        V value = unwrap(node);
+        notifyRemoval(key, value, RemovalCause.EXPLICIT);
+        return alive(node, value, now());
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        for (Node<K, V> node : data.values()) {
+            removeNode(node, RemovalCause.EXPLICIT);
+        }
+    }
+
+    @Override
+    public void cleanUp() {
+        long now = now();
+        for (Node<K, V> node : data.values()) {
+            V value = unwrap(node);
+            if (alive(node, value, now) == null) {
+                removeNode(node, deadCause(value));
+            }
+        }
+        if (isBounded()) {
+            evictionLock.lock();
+            try {
+                purgeRetired();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return statsCounter == null ? CacheStats.EMPTY : statsCounter.snapshot();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentCache{name=" + name + ", size=" + data.size() + '}';
+    }
+
+    // region internal
+
+    /**
+     * 查找未过期的值，不记录统计
+     */
+    private V getIfPresent(K key) {
+        if (key == null) {
+            return null;
+        }
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        long now = now();
+        V value = unwrap(node);
+        if (alive(node, value, now) == null) {
+            removeNode(node, deadCause(value));
+            return null;
+        }
+        node.referenced = true;
+        if (expireAfterAccessNanos >= 0) {
+            node.accessTime = now;
+        }
+        return value;
+    }
+
+    private V load(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (statsCounter == null) {
+            return mappingFunction.apply(key);
+        }
+        statsCounter.recordMiss();
+        long start = System.nanoTime();
+        V value = null;
+        try {
+            value = mappingFunction.apply(key);
+            return value;
+        } finally {
+            long loadTime = System.nanoTime() - start;
+            if (value != null) {
+                statsCounter.recordLoadSuccess(loadTime);
+            } else {
+                statsCounter.recordLoadFailure(loadTime);
+            }
+        }
+    }
+
+    private boolean isBounded() {
+        return maximumWeight >= 0;
+    }
+
+    private long now() {
+        return (expireAfterWriteNanos >= 0 || expireAfterAccessNanos >= 0) ? ticker.getAsLong() : 0L;
+    }
+
+    private int weigh(K key, V value) {
+        if (weigher == null) {
+            return 1;
+        }
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Illegal weight: " + weight);
+        }
+        return weight;
+    }
+
+    private Object wrap(V value) {
+        return softValues ? new SoftReference<>(value) : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unwrap(Node<K, V> node) {
+        Object ref = node.value;
+        return softValues ? ((SoftReference<V>) ref).get() : (V) ref;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos >= 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos >= 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    /**
+     * 返回节点中未过期、未被回收的值
+     */
+    private V alive(Node<K, V> node, V value, long now) {
+        return (value == null || isExpired(node, now)) ? null : value;
+    }
+
+    /**
+     * 失效节点的移除原因
+     */
+    private RemovalCause deadCause(V value) {
+        return value == null ? RemovalCause.COLLECTED : RemovalCause.EXPIRED;
+    }
+
+    /**
+     * 节点已从{@code data}中移除，扣减权重并标记为失效
+     */
+    private void retire(Node<K, V> node) {
+        weightedSize.addAndGet(-node.weight);
+        node.retired = true;
+    }
+
+    private boolean removeNode(Node<K, V> node, RemovalCause cause) {
+        if (data.remove(node.key, node)) {
+            retire(node);
+            notifyRemoval(node.key, unwrap(node), cause);
+            return true;
+        }
+        return false;
+    }
+
+    private void notifyRemoval(K key, V value, RemovalCause cause) {
+        if (statsCounter != null) {
+            statsCounter.recordRemoval(cause);
+        }
+        if (removalListener != null) {
+            try {
+                removalListener.onRemoval(key, value, cause);
+            } catch (RuntimeException ignored) {
+                // 监听器的异常不能影响缓存本身
+            }
+        }
+    }
+
+    private void afterWrite(K key, WriteResult<K, V> result) {
+        if (result.removedCause != null) {
+            notifyRemoval(key, result.removedValue, result.removedCause);
+        }
+        if (!isBounded()) {
+            return;
+        }
+        if (result.created != null) {
+            clockQueue.offer(result.created);
+            queuedCount.incrementAndGet();
+        }
+        if (weightedSize.get() > maximumWeight || queuedCount.get() > purgeThreshold()) {
+            evict();
+        }
+    }
+
+    private int purgeThreshold() {
+        return (data.size() << 1) + 64;
+    }
+
+    private void evict() {
+        evictionLock.lock();
+        try {
+            long now = now();
+            // 每个节点最多给一次"第二次机会"，避免并发读导致的无限扫描
+            int budget = (queuedCount.get() << 1) + 16;
+            while (weightedSize.get() > maximumWeight && budget-- > 0) {
+                Node<K, V> node = clockQueue.poll();
+                if (node == null) {
+                    break;
+                }
+                queuedCount.decrementAndGet();
+                if (node.retired) {
+                    continue;
+                }
+                V value = unwrap(node);
+                if (alive(node, value, now) == null) {
+                    removeNode(node, deadCause(value));
+                    continue;
+                }
+                if (node.referenced) {
+                    node.referenced = false;
+                    clockQueue.offer(node);
+                    queuedCount.incrementAndGet();
+                    continue;
+                }
+                removeNode(node, RemovalCause.SIZE);
+            }
+            if (queuedCount.get() > purgeThreshold()) {
+                purgeRetired();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 清理队列中已失效的节点，需要持有淘汰锁
+     */
+    private void purgeRetired() {
+        int removed = 0;
+        for (Iterator<Node<K, V>> it = clockQueue.iterator(); it.hasNext(); ) {
+            if (it.next().retired) {
+                it.remove();
+                removed++;
+            }
+        }
+        queuedCount.addAndGet(-removed);
+    }
+
+    // endregion
+
+    /**
+     * 缓存条目
+     */
+    private static final class Node<K, V> {
+
+        private final K key;
+
+        private volatile Object value;
+
+        private volatile int weight;
+
+        private volatile long writeTime;
+
+        private volatile long accessTime;
+
+        /**
+         * CLOCK访问标记
+         */
+        private volatile boolean referenced;
+
+        /**
+         * 是否已从缓存中移除
+         */
+        private volatile boolean retired;
+
+        private Node(K key, Object value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        private void update(Object value, int weight, long now) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+            this.referenced = true;
+        }
+
+    }
+
+    /**
+     * 在{@linkplain ConcurrentHashMap#compute}中收集的写入结果，回调与统计在锁外执行
+     */
+    private static final class WriteResult<K, V> {
+
+        private V value;
+
+        private Node<K, V> created;
+
+        private boolean hit;
+
+        private V removedValue;
+
+        private RemovalCause removedCause;
+
+        private void removed(V value, RemovalCause cause) {
+            this.removedValue = value;
+            this.removedCause = cause;
+        }
+
+    }
+
+}
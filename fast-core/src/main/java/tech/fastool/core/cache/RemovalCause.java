@@ -0,0 +1,46 @@
+package tech.fastool.core.cache;
+
+/**
+ * 缓存条目被移除的原因
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public enum RemovalCause {
+
+    /**
+     * 主动移除，如{@code remove}、{@code clear}
+     */
+    EXPLICIT,
+
+    /**
+     * 值被{@code put}替换
+     */
+    REPLACED,
+
+    /**
+     * 超出容量被淘汰
+     */
+    SIZE,
+
+    /**
+     * 过期
+     */
+    EXPIRED,
+
+    /**
+     * 软引用的值已被垃圾回收
+     */
+    COLLECTED;
+
+    /**
+     * 是否属于自动淘汰（非主动移除或替换）
+     *
+     * @return {@code true} or {@code false}
+     */
+    public boolean wasEvicted() {
+        return this != EXPLICIT && this != REPLACED;
+    }
+
+}
@@ -0,0 +1,22 @@
+package tech.fastool.core.cache;
+
+/**
+ * 缓存条目移除的监听器，在执行移除操作的线程中同步回调，实现应当简短且不能抛出异常
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    /**
+     * 条目被移除
+     *
+     * @param key   键
+     * @param value 值，软引用已被回收时为{@code null}
+     * @param cause 移除原因
+     */
+    void onRemoval(K key, V value, RemovalCause cause);
+
+}
@@ -0,0 +1,62 @@
+package tech.fastool.core.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于{@linkplain LongAdder}的缓存统计计数器，高并发下无竞争热点
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+final class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder collectedCount = new LongAdder();
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordLoadSuccess(long loadTime) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    void recordLoadFailure(long loadTime) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    void recordRemoval(RemovalCause cause) {
+        switch (cause) {
+            case SIZE:
+                evictionCount.increment();
+                break;
+            case EXPIRED:
+                expiredCount.increment();
+                break;
+            case COLLECTED:
+                collectedCount.increment();
+                break;
+            default:
+                break;
+        }
+    }
+
+    CacheStats snapshot() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadFailureCount.sum(),
+                totalLoadTime.sum(), evictionCount.sum(), expiredCount.sum(), collectedCount.sum());
+    }
+
+}
@@ -0,0 +1,22 @@
+package tech.fastool.core.cache;
+
+/**
+ * 缓存条目的权重计算器，用于按权重限制缓存容量
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * 计算缓存条目的权重，不能为负数
+     *
+     * @param key   键
+     * @param value 值
+     * @return 权重
+     */
+    int weigh(K key, V value);
+
+}
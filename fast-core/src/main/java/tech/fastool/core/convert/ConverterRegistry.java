@@ -9,6 +9,7 @@ import tech.fastool.core.lang.reflect.Types;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.*;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -57,6 +58,19 @@ public class ConverterRegistry {
         builtin.put(BigInteger.class, BigIntegerConverter.getInstance());
         builtin.put(CharSequence.class, new StringConverter());
         builtin.put(String.class, new StringConverter());
+
+        // 日期时间转换器
+        builtin.put(java.util.Date.class, new DateConverter());
+        builtin.put(java.sql.Date.class, new DateConverter(java.sql.Date.class));
+        builtin.put(java.sql.Time.class, new DateConverter(java.sql.Time.class));
+        builtin.put(java.sql.Timestamp.class, new DateConverter(java.sql.Timestamp.class));
+        builtin.put(Instant.class, new TemporalAccessorConverter(Instant.class));
+        builtin.put(LocalDateTime.class, new TemporalAccessorConverter(LocalDateTime.class));
+        builtin.put(LocalDate.class, new TemporalAccessorConverter(LocalDate.class));
+        builtin.put(LocalTime.class, new TemporalAccessorConverter(LocalTime.class));
+        builtin.put(ZonedDateTime.class, new TemporalAccessorConverter(ZonedDateTime.class));
+        builtin.put(OffsetDateTime.class, new TemporalAccessorConverter(OffsetDateTime.class));
+        builtin.put(OffsetTime.class, new TemporalAccessorConverter(OffsetTime.class));
     }
 
     /**
@@ -1,6 +1,8 @@
 package tech.fastool.core.date;
 
-import tech.fastool.core.lang.SimpleCache;
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
+import tech.fastool.core.cache.CacheRegistry;
 
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -25,7 +27,11 @@ public class ThreadSafeDateParse {
     /**
      * 日期格式化缓存
      */
-    private static final SimpleCache<String, DateTimeFormatter> NEW_FORMATTER_CACHE = new SimpleCache<>(32);
+    private static final Cache<String, DateTimeFormatter> NEW_FORMATTER_CACHE = CacheBuilder.<String, DateTimeFormatter>builder()
+            .name("fastool.ThreadSafeDateParse.formatters")
+            .maximumSize(32)
+            .recordStats(CacheRegistry.isRecordStatsByDefault())
+            .build();
 
     /**
      * 创建Formatter并且缓存
@@ -34,17 +40,7 @@ public class ThreadSafeDateParse {
      * @return 返回Formatter
      */
     static DateTimeFormatter getOrCreateFormatter(String pattern) {
-        DateTimeFormatter formatter;
-        synchronized (NEW_FORMATTER_CACHE) {
-            formatter = NEW_FORMATTER_CACHE.get(pattern);
-        }
-        if (formatter == null) {
-            formatter = DateTimeFormatter.ofPattern(pattern);
-            synchronized (NEW_FORMATTER_CACHE) {
-                NEW_FORMATTER_CACHE.put(pattern, formatter);
-            }
-        }
-        return formatter;
+        return NEW_FORMATTER_CACHE.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
     }
 
     /**
@@ -31,4 +31,14 @@ public class ZipRuntimeException extends GenericRuntimeException {
         super(e);
     }
 
+    /**
+     * Zip Runtime Exception Constructor
+     *
+     * @param message 异常消息
+     * @param cause   原因
+     */
+    public ZipRuntimeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
@@ -11,7 +11,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @version 0.0.1
  * @date 2022-06-06
  */
-public class AutoIncrementIdGenerator implements IdGenerator<Long> {
+public class AutoIncrementIdGenerator implements LongIdGenerator {
 
     private final AtomicLong val;
 
@@ -29,10 +29,28 @@ public class AutoIncrementIdGenerator implements IdGenerator<Long> {
      * @return ID
      */
     @Override
-    public Long get() {
+    public long nextId() {
         return val.getAndIncrement();
     }
 
+    /**
+     * 一次性预留连续的ID并写入数组的指定区间
+     *
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 个数
+     */
+    @Override
+    public void fill(long[] dst, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + dst.length);
+        }
+        long start = val.getAndAdd(length);
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = start + i;
+        }
+    }
+
     /**
      * 返回指定位数的ID，如果不够则左补零
      * 生成ID长度超出给定的长度，则返回{@code null}
@@ -41,7 +59,7 @@ public class AutoIncrementIdGenerator implements IdGenerator<Long> {
      * @return 固定长度的ID
      */
     public String get(int formatSize) {
-        long next = get();
+        long next = nextId();
         String id = Long.toString(next);
         if (formatSize == id.length()) {
             return id;
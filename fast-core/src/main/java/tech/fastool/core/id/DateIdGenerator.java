@@ -5,6 +5,9 @@ import tech.fastool.core.date.Jdk8DateUtil;
 import tech.fastool.core.lang.Singletons;
 import tech.fastool.core.lang.Strings;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -27,40 +30,72 @@ public class DateIdGenerator implements IdGenerator<String> {
     @Override
     public String get() {
         String datetimePrefix = Jdk8DateUtil.format(DatePattern.PURE_DATETIME_MS_FORMATTER);
-        return datetimePrefix + Strings.DASH + getSeqId() + getRandomString(8);
+        return datetimePrefix + Strings.DASH + formatSeqId(reserveSeqId(1)) + getRandomString(8);
+    }
+
+    /**
+     * 批量返回ID，整个批次共用一次日期格式化，序列号一次性预留
+     *
+     * @param n ID个数
+     * @return ID列表
+     */
+    @Override
+    public List<String> nextIds(int n) {
+        if (n < 0 || n > maxId) {
+            throw new IllegalArgumentException("Illegal n: " + n);
+        }
+        List<String> ids = new ArrayList<>(n);
+        if (n == 0) {
+            return ids;
+        }
+        String prefix = Jdk8DateUtil.format(DatePattern.PURE_DATETIME_MS_FORMATTER) + Strings.DASH;
+        int start = reserveSeqId(n);
+        for (int i = 0; i < n; i++) {
+            ids.add(prefix + formatSeqId(start + i) + getRandomString(8));
+        }
+        return ids;
     }
 
     private static final int maxId = 999999;
     //    private static int curId = 0;
     private static final AtomicInteger cursor = new AtomicInteger();
-    private static final Object lock = new Object();
 
 //    private String getShortId() { //25
 //        return datetimePrefix() + getSeqId("#000000") + getRandomString(2);
 //    }
 
-    private String getSeqId() {
-        int id = cursor.incrementAndGet();
-        if (id > maxId) {
-            synchronized (lock) {
-                cursor.set(0);
-                id = cursor.incrementAndGet();
+    /**
+     * 预留连续的{@code n}个序列号，超出最大值后从1重新开始
+     *
+     * @param n 个数
+     * @return 第一个序列号
+     */
+    private int reserveSeqId(int n) {
+        for (; ; ) {
+            int current = cursor.get();
+            int start = current + 1;
+            if (current + n > maxId) {
+                start = 1;
             }
+            if (cursor.compareAndSet(current, start + n - 1)) {
+                return start;
+            }
+        }
+    }
+
+    private String formatSeqId(int id) {
+        char[] chars = {'0', '0', '0', '0', '0', '0'};
+        for (int i = chars.length - 1; id > 0; i--, id /= 10) {
+            chars[i] = (char) ('0' + id % 10);
         }
-//        synchronized (lock) {
-//            if (curId >= maxId) {
-//                curId = 0;
-//            }
-////            NumberFormat format = new DecimalFormat(type);
-////            return format.format(value);
-//        }
-        return String.format("%06d", id);
+        return new String(chars);
     }
 
     private String getRandomString(int count) {
         StringBuilder sb = new StringBuilder(count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         for (int i = 0; i < count; i++) {
-            int psd = (int) (Math.random() * (26 * 2 + 10));
+            int psd = random.nextInt(26 * 2 + 10);
             if (psd >= 26 + 10) { //a~z
                 char a = (char) (psd + 97 - 10 - 26);
                 sb.append(a);
@@ -1,5 +1,7 @@
 package tech.fastool.core.id;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -19,4 +21,21 @@ public interface IdGenerator<T> extends Supplier<T> {
     @Override
     T get();
 
+    /**
+     * 批量返回ID，实现类可以一次性预留一段ID以减少同步开销
+     *
+     * @param n ID个数
+     * @return ID列表
+     */
+    default List<T> nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Illegal n: " + n);
+        }
+        List<T> ids = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ids.add(get());
+        }
+        return ids;
+    }
+
 }
@@ -0,0 +1,81 @@
+package tech.fastool.core.id;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 生成{@code long}类型ID的生成器，支持直接写入原始类型数组，避免装箱
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public interface LongIdGenerator extends IdGenerator<Long> {
+
+    /**
+     * 返回ID
+     *
+     * @return ID
+     */
+    long nextId();
+
+    /**
+     * 返回ID
+     *
+     * @return ID
+     */
+    @Override
+    default Long get() {
+        return nextId();
+    }
+
+    /**
+     * 生成ID并写入数组的指定区间
+     *
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 个数
+     */
+    void fill(long[] dst, int offset, int length);
+
+    /**
+     * 生成ID并填满数组
+     *
+     * @param dst 目标数组
+     */
+    default void fill(long[] dst) {
+        fill(dst, 0, dst.length);
+    }
+
+    /**
+     * 批量返回ID
+     *
+     * @param n ID个数
+     * @return ID数组
+     */
+    default long[] nextLongIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Illegal n: " + n);
+        }
+        long[] ids = new long[n];
+        fill(ids, 0, n);
+        return ids;
+    }
+
+    /**
+     * 批量返回ID
+     *
+     * @param n ID个数
+     * @return ID列表
+     */
+    @Override
+    default List<Long> nextIds(int n) {
+        long[] ids = nextLongIds(n);
+        List<Long> result = new ArrayList<>(n);
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+}
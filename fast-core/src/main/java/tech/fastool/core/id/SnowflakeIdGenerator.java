@@ -1,6 +1,6 @@
 package tech.fastool.core.id;
 
-import tech.fastool.core.id.snowflake.FastSnowflake;
+import tech.fastool.core.id.snowflake.AtomicSnowflake;
 import tech.fastool.core.lang.Singletons;
 
 /**
@@ -15,7 +15,7 @@ import tech.fastool.core.lang.Singletons;
  * @version 0.0.1
  * @date 2022-06-06
  */
-public class SnowflakeIdGenerator implements IdGenerator<Long> {
+public class SnowflakeIdGenerator implements LongIdGenerator {
 
     /**
      * 返回ID
@@ -23,8 +23,20 @@ public class SnowflakeIdGenerator implements IdGenerator<Long> {
      * @return ID
      */
     @Override
-    public Long get() {
-        return Singletons.get(FastSnowflake.class).nextId();
+    public long nextId() {
+        return Singletons.get(AtomicSnowflake.class).nextId();
+    }
+
+    /**
+     * 生成ID并写入数组的指定区间
+     *
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 个数
+     */
+    @Override
+    public void fill(long[] dst, int offset, int length) {
+        Singletons.get(AtomicSnowflake.class).nextIds(dst, offset, length);
     }
 
 }
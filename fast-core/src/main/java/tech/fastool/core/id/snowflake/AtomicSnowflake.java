@@ -0,0 +1,197 @@
+package tech.fastool.core.id.snowflake;
+
+import tech.fastool.core.exceptions.IdGeneratorException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 无锁的雪花算法，生成的ID与{@linkplain FastSnowflake}的位布局完全一致（时间戳 + 机器码 + 序列数）
+ * <p>
+ * 时间戳和序列数打包在一个{@code long}中，通过CAS原子更新，不再需要全局锁。
+ * 当前毫秒的序列数用尽时借用下一毫秒（漂移），漂移超过{@linkplain SnowFlakeOptions#getTopOverCostCount()}毫秒则挂起线程等待时钟追上（每次最多{@value #MAX_PARK_MILLIS}毫秒），不会空转占用CPU；
+ * 系统时钟回拨时继续沿用上一次的时间戳，ID保持递增。
+ * </p>
+ * <p>
+ * 分片模式下序列数空间被平均切分给多个分片，线程按ID映射到分片，不同分片之间没有CAS竞争，
+ * 同一毫秒内各分片的序列数区间互不重叠，因此ID仍然唯一，但只在分片内保证递增。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class AtomicSnowflake extends FastSnowflake {
+
+    /**
+     * 分片状态在数组中的间隔（128字节），避免伪共享
+     */
+    private static final int PADDING = 16;
+
+    /**
+     * 等待时钟追上时单次挂起的最长时间（毫秒）
+     */
+    private static final long MAX_PARK_MILLIS = 10L;
+
+    /**
+     * 每个分片的状态：时间戳左移{@code seqBitLength}位后与序列数合并
+     */
+    private final AtomicLongArray states;
+
+    /**
+     * 分片数，2的幂
+     */
+    private final int shardCount;
+
+    /**
+     * 每个分片的序列数个数
+     */
+    private final int seqPerShard;
+
+    /**
+     * 序列数掩码
+     */
+    private final long seqMask;
+
+    public AtomicSnowflake() {
+        this(SnowFlakeOptions.builder().build());
+    }
+
+    public AtomicSnowflake(SnowFlakeOptions options) {
+        super(options);
+        this.shardCount = options.getShardCount();
+        int maxSeq = options.getMaxSeqNumber() == 0 ? (1 << this.seqBitLength) - 1 : options.getMaxSeqNumber();
+        this.seqPerShard = (maxSeq - this.minSeqNumber + 1) / this.shardCount;
+        if (this.seqPerShard < 1) {
+            throw new IllegalArgumentException("Too many shards for sequence range [" + this.minSeqNumber + "," + maxSeq + "]");
+        }
+        this.seqMask = (1L << this.seqBitLength) - 1;
+        this.states = new AtomicLongArray(this.shardCount * PADDING);
+        for (int i = 0; i < this.shardCount; i++) {
+            // 初始状态为"时间0的最后一个序列数"，第一次调用即进入新的毫秒
+            this.states.set(i * PADDING, shardMaxSeq(i));
+        }
+    }
+
+    /**
+     * 生成ID
+     *
+     * @return id
+     */
+    @Override
+    public long nextId() {
+        final int shard = shardCount == 1 ? 0 : (int) (Thread.currentThread().getId() & (shardCount - 1));
+        final int index = shard * PADDING;
+        final int shardMinSeq = shardMinSeq(shard);
+        final int shardMaxSeq = shardMaxSeq(shard);
+        for (; ; ) {
+            long current = states.get(index);
+            long lastTick = current >>> seqBitLength;
+            int seq = (int) (current & seqMask);
+            long now = getCurrentTimeTick();
+
+            long nextTick;
+            int nextSeq;
+            if (now > lastTick) {
+                nextTick = now;
+                nextSeq = shardMinSeq;
+            } else if (seq < shardMaxSeq) {
+                // 同一毫秒，或者时钟回拨时继续使用上一次的时间戳
+                nextTick = lastTick;
+                nextSeq = seq + 1;
+            } else {
+                nextTick = lastTick + 1;
+                nextSeq = shardMinSeq;
+                if (nextTick - now > topOverCostCount) {
+                    // 漂移过多，等待时钟追上
+                    awaitClock(nextTick - now - topOverCostCount);
+                    continue;
+                }
+            }
+            if (states.compareAndSet(index, current, (nextTick << seqBitLength) | nextSeq)) {
+                return (nextTick << timestampShift) + ((long) workerId << seqBitLength) + nextSeq;
+            }
+        }
+    }
+
+    /**
+     * 批量生成ID并写入数组的指定区间，每次CAS预留当前毫秒内尽可能多的连续序列数
+     *
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 个数
+     */
+    @Override
+    public void nextIds(long[] dst, int offset, int length) {
+        checkRange(dst, offset, length);
+        final int shard = shardCount == 1 ? 0 : (int) (Thread.currentThread().getId() & (shardCount - 1));
+        final int index = shard * PADDING;
+        final int shardMinSeq = shardMinSeq(shard);
+        final int shardMaxSeq = shardMaxSeq(shard);
+        final long workerBits = (long) workerId << seqBitLength;
+        int pos = offset;
+        final int end = offset + length;
+        while (pos < end) {
+            long current = states.get(index);
+            long lastTick = current >>> seqBitLength;
+            int seq = (int) (current & seqMask);
+            long now = getCurrentTimeTick();
+
+            long nextTick;
+            int firstSeq;
+            if (now > lastTick) {
+                nextTick = now;
+                firstSeq = shardMinSeq;
+            } else if (seq < shardMaxSeq) {
+                nextTick = lastTick;
+                firstSeq = seq + 1;
+            } else {
+                nextTick = lastTick + 1;
+                firstSeq = shardMinSeq;
+                if (nextTick - now > topOverCostCount) {
+                    awaitClock(nextTick - now - topOverCostCount);
+                    continue;
+                }
+            }
+            int lastSeq = (int) Math.min((long) firstSeq + (end - pos) - 1, shardMaxSeq);
+            if (states.compareAndSet(index, current, (nextTick << seqBitLength) | lastSeq)) {
+                long base = (nextTick << timestampShift) + workerBits;
+                for (int s = firstSeq; s <= lastSeq; s++) {
+                    dst[pos++] = base + s;
+                }
+            }
+        }
+    }
+
+    /**
+     * 分片数
+     *
+     * @return 分片数
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 挂起当前线程等待时钟追上，时钟回拨较多时分多次挂起，每次最多{@value #MAX_PARK_MILLIS}毫秒
+     *
+     * @param lagMillis 时钟落后的毫秒数
+     * @throws IdGeneratorException 等待过程中线程被中断
+     */
+    private static void awaitClock(long lagMillis) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.min(Math.max(lagMillis, 1L), MAX_PARK_MILLIS)));
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IdGeneratorException("Interrupted while waiting for the clock to catch up");
+        }
+    }
+
+    private int shardMinSeq(int shard) {
+        return minSeqNumber + shard * seqPerShard;
+    }
+
+    private int shardMaxSeq(int shard) {
+        return shardMinSeq(shard) + seqPerShard - 1;
+    }
+
+}
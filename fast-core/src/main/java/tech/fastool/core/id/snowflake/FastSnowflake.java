@@ -90,6 +90,29 @@ public class FastSnowflake {
         this.currentSeqNumber = this.minSeqNumber;
     }
 
+    /**
+     * 按{@linkplain SnowFlakeOptions#getRule()}创建对应的雪花算法实现
+     * <ul>
+     *     <li>{@linkplain SnowFlakeOptions.Rule#FAST}：{@linkplain FastSnowflake}</li>
+     *     <li>{@linkplain SnowFlakeOptions.Rule#TRAD}：{@linkplain TwitterSnowflake}</li>
+     *     <li>{@linkplain SnowFlakeOptions.Rule#ATOMIC}：{@linkplain AtomicSnowflake}</li>
+     * </ul>
+     *
+     * @param options 配置项
+     * @return 雪花算法
+     */
+    public static FastSnowflake create(SnowFlakeOptions options) {
+        switch (options.getRule()) {
+            case TRAD:
+                return new TwitterSnowflake(options);
+            case ATOMIC:
+                return new AtomicSnowflake(options);
+            case FAST:
+            default:
+                return new FastSnowflake(options);
+        }
+    }
+
     private void endOverCostAction(long useTimeTick) {
         if (this.termIndex > 10000) {
             this.termIndex = 0;
@@ -239,4 +262,33 @@ public class FastSnowflake {
         }
     }
 
+    /**
+     * 批量生成ID并写入数组的指定区间，整个批次只获取一次锁
+     *
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 个数
+     */
+    public void nextIds(long[] dst, int offset, int length) {
+        checkRange(dst, offset, length);
+        synchronized (SYNC_LOCK) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                dst[i] = this.nextId();
+            }
+        }
+    }
+
+    /**
+     * 检查数组区间
+     *
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 个数
+     */
+    protected static void checkRange(long[] dst, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + dst.length);
+        }
+    }
+
 }
@@ -60,6 +60,12 @@ public class SnowFlakeOptions {
      */
     public final short topOverCostCount;
 
+    /**
+     * 分片数，仅{@linkplain AtomicSnowflake}使用
+     * 默认1，取值为2的幂，序列数空间会被平均切分给各个分片
+     */
+    private final int shardCount;
+
     public SnowFlakeOptions(SnowFlakeOptionsBuilder builder) {
         this.rule = builder.rule;
         this.baseTime = builder.baseTime;
@@ -69,6 +75,7 @@ public class SnowFlakeOptions {
         this.maxSeqNumber = builder.maxSeqNumber;
         this.minSeqNumber = builder.minSeqNumber;
         this.topOverCostCount = builder.topOverCostCount;
+        this.shardCount = builder.shardCount;
     }
 
     /**
@@ -86,6 +93,10 @@ public class SnowFlakeOptions {
          */
         TRAD,
 
+        /**
+         * 无锁CAS
+         */
+        ATOMIC,
 
     }
 
@@ -137,6 +148,11 @@ public class SnowFlakeOptions {
          */
         private short topOverCostCount = 2000;
 
+        /**
+         * 分片数
+         */
+        private int shardCount = 1;
+
         /**
          * 雪花算法的运算规则
          *
@@ -237,6 +253,19 @@ public class SnowFlakeOptions {
             return this;
         }
 
+        /**
+         * 默认1，取值为2的幂，推荐不超过CPU核数，仅{@linkplain AtomicSnowflake}使用
+         *
+         * @param shardCount 分片数
+         */
+        public SnowFlakeOptionsBuilder shardCount(int shardCount) {
+            if (shardCount < 1 || shardCount > 1024 || (shardCount & (shardCount - 1)) != 0) {
+                throw new IllegalArgumentException("Illegal shardCount,must be a power of two in range[1,1024]");
+            }
+            this.shardCount = shardCount;
+            return this;
+        }
+
         /**
          * 构建
          *
@@ -0,0 +1,190 @@
+package tech.fastool.core.io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 字节数组池，按2的幂划分大小等级（{@value #MIN_BUFFER_SIZE}字节到{@value #MAX_BUFFER_SIZE}字节）
+ * <p>
+ * 每个等级是一个定长的槽位数组，线程从各自的起始槽位开始借还，线程之间几乎没有竞争；
+ * 池满时归还的数组直接丢弃，池空时分配新数组，因此不会阻塞，保留的内存也有上限。
+ * 超过{@value #MAX_BUFFER_SIZE}字节的请求不做池化。
+ * </p>
+ * <p>
+ * 借出的数组内容是未定义的，归还后不能再使用。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public final class BufferPool {
+
+    /**
+     * 最小的池化数组大小
+     */
+    public static final int MIN_BUFFER_SIZE = 1024;
+
+    /**
+     * 最大的池化数组大小
+     */
+    public static final int MAX_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * 默认每个等级最多保留的字节数
+     */
+    public static final int DEFAULT_MAX_BYTES_PER_CLASS = 4 << 20;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+
+    private static final int CLASS_COUNT = Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE) - MIN_SHIFT + 1;
+
+    /**
+     * 每个等级最多的槽位数
+     */
+    private static final int MAX_SLOTS = 256;
+
+    /**
+     * 借还时最多探测的槽位数
+     */
+    private static final int PROBES = 4;
+
+    private static final BufferPool DEFAULT = new BufferPool(DEFAULT_MAX_BYTES_PER_CLASS);
+
+    /**
+     * 各个等级的槽位
+     */
+    private final AtomicReferenceArray<byte[]>[] slots;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 构造
+     *
+     * @param maxBytesPerClass 每个等级最多保留的字节数，至少保留一个数组
+     */
+    @SuppressWarnings("unchecked")
+    public BufferPool(int maxBytesPerClass) {
+        if (maxBytesPerClass < 0) {
+            throw new IllegalArgumentException("Illegal maxBytesPerClass: " + maxBytesPerClass);
+        }
+        this.slots = new AtomicReferenceArray[CLASS_COUNT];
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            int size = MIN_BUFFER_SIZE << i;
+            int count = Math.max(1, Math.min(MAX_SLOTS, maxBytesPerClass / size));
+            this.slots[i] = new AtomicReferenceArray<>(Integer.highestOneBit(count));
+        }
+    }
+
+    /**
+     * 默认的共享池
+     *
+     * @return {@linkplain BufferPool}
+     */
+    public static BufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 借出一个长度不小于{@code minSize}的数组，池化范围内的数组长度为2的幂
+     *
+     * @param minSize 最小长度
+     * @return 数组
+     */
+    public byte[] acquire(int minSize) {
+        if (minSize < 0) {
+            throw new IllegalArgumentException("Illegal size: " + minSize);
+        }
+        if (minSize > MAX_BUFFER_SIZE) {
+            misses.increment();
+            return new byte[minSize];
+        }
+        int index = classIndex(minSize);
+        AtomicReferenceArray<byte[]> array = slots[index];
+        int mask = array.length() - 1;
+        int start = probe();
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & mask;
+            byte[] buffer = array.get(slot);
+            if (buffer != null && array.compareAndSet(slot, buffer, null)) {
+                hits.increment();
+                return buffer;
+            }
+        }
+        misses.increment();
+        return new byte[MIN_BUFFER_SIZE << index];
+    }
+
+    /**
+     * 归还数组，长度不在池化等级中的数组直接丢弃
+     *
+     * @param buffer 数组，可以为{@code null}
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        int length = buffer.length;
+        if (length < MIN_BUFFER_SIZE || length > MAX_BUFFER_SIZE || (length & (length - 1)) != 0) {
+            return;
+        }
+        AtomicReferenceArray<byte[]> array = slots[classIndex(length)];
+        int mask = array.length() - 1;
+        int start = probe();
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & mask;
+            if (array.get(slot) == null && array.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 从池中借出的次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 池中没有可用数组而新分配的次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 清空池中保留的数组
+     */
+    public void clear() {
+        for (AtomicReferenceArray<byte[]> array : slots) {
+            for (int i = 0; i < array.length(); i++) {
+                array.set(i, null);
+            }
+        }
+    }
+
+    private static int classIndex(int size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * 线程的起始槽位，按线程分散以减少竞争
+     *
+     * @return 起始槽位
+     */
+    private static int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) * 0x9E3779B9 >>> 16;
+    }
+
+}
@@ -0,0 +1,56 @@
+package tech.fastool.core.io;
+
+import lombok.Getter;
+
+/**
+ * 一次流拷贝的统计
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ * @see IOes#copyWithStats(java.io.InputStream, java.io.OutputStream, boolean)
+ */
+@Getter
+public class CopyStats {
+
+    /**
+     * 拷贝的字节数
+     */
+    private final long bytes;
+
+    /**
+     * 拷贝耗时（纳秒）
+     */
+    private final long elapsedNanos;
+
+    /**
+     * 是否通过{@linkplain java.nio.channels.FileChannel#transferTo}等零拷贝方式完成
+     */
+    private final boolean zeroCopy;
+
+    public CopyStats(long bytes, long elapsedNanos, boolean zeroCopy) {
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+        this.zeroCopy = zeroCopy;
+    }
+
+    /**
+     * 吞吐量（字节/秒），耗时为0时返回{@code 0.0}
+     *
+     * @return 吞吐量
+     */
+    public double bytesPerSecond() {
+        return elapsedNanos <= 0 ? 0.0 : bytes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "CopyStats{" +
+                "bytes=" + bytes +
+                ", elapsedNanos=" + elapsedNanos +
+                ", bytesPerSecond=" + bytesPerSecond() +
+                ", zeroCopy=" + zeroCopy +
+                '}';
+    }
+
+}
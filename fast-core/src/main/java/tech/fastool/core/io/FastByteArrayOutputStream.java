@@ -18,12 +18,44 @@ public class FastByteArrayOutputStream extends OutputStream {
 
     private final FastByteBuffer fastByteBuffer;
 
+    private final boolean pooled;
+
     public FastByteArrayOutputStream() {
         this(1024);
     }
 
     public FastByteArrayOutputStream(int bufferSize) {
-        this.fastByteBuffer = new FastByteBuffer(bufferSize);
+        this(bufferSize, null);
+    }
+
+    /**
+     * 构造，缓冲区从池中借出，{@link #close()}或{@link #reset()}时归还
+     *
+     * @param bufferSize 一个缓冲区的最小字节数
+     * @param pool       缓冲区池，为{@code null}时不做池化
+     */
+    public FastByteArrayOutputStream(int bufferSize, BufferPool pool) {
+        this.fastByteBuffer = new FastByteBuffer(bufferSize, pool);
+        this.pooled = pool != null;
+    }
+
+    /**
+     * 创建使用默认缓冲区池的输出流，数据必须在{@link #close()}之前读取
+     *
+     * @return {@linkplain FastByteArrayOutputStream}
+     */
+    public static FastByteArrayOutputStream pooled() {
+        return pooled(BufferPool.MIN_BUFFER_SIZE);
+    }
+
+    /**
+     * 创建使用默认缓冲区池的输出流，数据必须在{@link #close()}之前读取
+     *
+     * @param bufferSize 一个缓冲区的最小字节数，通常传入预估的数据大小
+     * @return {@linkplain FastByteArrayOutputStream}
+     */
+    public static FastByteArrayOutputStream pooled(int bufferSize) {
+        return new FastByteArrayOutputStream(Math.min(bufferSize, BufferPool.MAX_BUFFER_SIZE), BufferPool.getDefault());
     }
 
     /**
@@ -97,11 +129,13 @@ public class FastByteArrayOutputStream extends OutputStream {
     }
 
     /**
-     * 此方法无任何效果，当流被关闭后不会抛出IOException
+     * 非池化时此方法无任何效果；池化时清空数据并将缓冲区归还到池中。关闭后不会抛出IOException，仍然可以继续写入
      */
     @Override
     public void close() {
-        //ignore
+        if (pooled) {
+            reset();
+        }
     }
 
     /**
@@ -113,6 +147,9 @@ public class FastByteArrayOutputStream extends OutputStream {
 
     public void writeTo(OutputStream out) {
         final int index = fastByteBuffer.index();
+        if (index < 0) {
+            return;
+        }
         byte[] buffer;
         try {
             for (int i = 0; i < index; i++) {
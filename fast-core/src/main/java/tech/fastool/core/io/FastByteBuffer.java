@@ -61,12 +61,28 @@ public class FastByteBuffer {
      */
     private final int minChunkLen;
 
+    /**
+     * 缓冲区来源的池，为{@code null}时直接分配
+     */
+    private final BufferPool pool;
+
     public FastByteBuffer() {
-        this.minChunkLen = 1024;
+        this(1024);
     }
 
     public FastByteBuffer(int size) {
+        this(size, null);
+    }
+
+    /**
+     * 构造，缓冲区从池中借出，{@link #reset()}时归还
+     *
+     * @param size 一个缓冲区的最小字节数
+     * @param pool 缓冲区池，为{@code null}时不做池化
+     */
+    public FastByteBuffer(int size, BufferPool pool) {
         this.minChunkLen = Math.abs(size);
+        this.pool = pool;
     }
 
     /**
@@ -79,7 +95,7 @@ public class FastByteBuffer {
         int newBufferSize = Math.max(minChunkLen, delta);
 
         currentBufferIndex++;
-        currentBuffer = new byte[newBufferSize];
+        currentBuffer = pool != null ? pool.acquire(newBufferSize) : new byte[newBufferSize];
         offset = 0;
 
         // add buffer
@@ -213,7 +229,16 @@ public class FastByteBuffer {
         return buffers[index];
     }
 
+    /**
+     * 清空数据，池化的缓冲区归还到池中，之前通过{@link #array(int)}获得的缓冲区不能再使用
+     */
     public void reset() {
+        if (pool != null) {
+            for (int i = 0; i < buffersCount; i++) {
+                pool.release(buffers[i]);
+                buffers[i] = null;
+            }
+        }
         size = 0;
         offset = 0;
         currentBufferIndex = -1;
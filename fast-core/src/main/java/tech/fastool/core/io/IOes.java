@@ -8,8 +8,11 @@ import tech.fastool.core.lang.Objects;
 import tech.fastool.core.lang.Strings;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +47,16 @@ public class IOes {
      */
     public static final int DEFAULT_LARGE_BUFFER_SIZE = 8192;
 
+    /**
+     * 自适应缓冲区的最大大小
+     */
+    private static final int MAX_ADAPTIVE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 通道之间每次传输的最大字节数
+     */
+    private static final long MAX_TRANSFER_SIZE = 8L * 1024 * 1024;
+
     /**
      * 关闭<code>Closeable</code>,该方法等效于{@linkplain Closeable#close()}
      * <p>
@@ -99,9 +112,8 @@ public class IOes {
         if (in == null) {
             return null;
         }
-        try {
-            FastByteArrayOutputStream out = new FastByteArrayOutputStream();
-            copy(in, out);
+        try (FastByteArrayOutputStream out = FastByteArrayOutputStream.pooled()) {
+            copy(in, out, false);
             return out.toByteArray();
         } finally {
             if (autoClose) {
@@ -329,13 +341,52 @@ public class IOes {
 
     /**
      * 流拷贝
+     * <p>
+     * 输入输出都是文件流时通过{@linkplain FileChannel#transferTo}零拷贝；
+     * 否则使用池化的缓冲区，缓冲区大小随读取量自适应调整。
+     * </p>
      *
-     * @param in  输入流
-     * @param out 输出流
+     * @param in        输入流
+     * @param out       输出流
+     * @param autoClose 拷贝完毕后是否关闭输入/输出流
      * @return 返回流大小，如果拷贝失败或流过大均返回-1
      */
     public static long copy(final InputStream in, final OutputStream out, final boolean autoClose) {
-        return copy(in, out, DEFAULT_LARGE_BUFFER_SIZE, autoClose);
+        if (in == null) {
+            return -1;
+        }
+        if (out == null) {
+            return -1;
+        }
+        try {
+            if (isFileStreams(in, out)) {
+                return transferTo(((FileInputStream) in).getChannel(), ((FileOutputStream) out).getChannel());
+            }
+            return copyAdaptive(in, out);
+        } catch (IOException e) {
+            throw new IoRuntimeException("Copy bytes from a large InputStream to an OutputStream error", e);
+        } finally {
+            if (autoClose) {
+                closeQuietly(out);
+                closeQuietly(in);
+            }
+        }
+    }
+
+    /**
+     * 流拷贝，并返回拷贝的字节数、耗时和是否零拷贝
+     *
+     * @param in        输入流
+     * @param out       输出流
+     * @param autoClose 拷贝完毕后是否关闭输入/输出流
+     * @return 拷贝的统计，流为{@code null}时字节数为-1
+     * @see #copy(InputStream, OutputStream, boolean)
+     */
+    public static CopyStats copyWithStats(final InputStream in, final OutputStream out, final boolean autoClose) {
+        boolean zeroCopy = isFileStreams(in, out);
+        long start = System.nanoTime();
+        long bytes = copy(in, out, autoClose);
+        return new CopyStats(bytes, System.nanoTime() - start, zeroCopy);
     }
 
     /**
@@ -358,7 +409,16 @@ public class IOes {
      * @return 返回流大小，如果拷贝失败则返回-1
      */
     public static long copy(final InputStream in, final OutputStream out, final int bufferSize, final boolean autoClose) {
-        return copy(in, out, new byte[bufferSize], autoClose);
+        if (bufferSize <= 0) {
+            return -1;
+        }
+        BufferPool pool = BufferPool.getDefault();
+        byte[] buffer = pool.acquire(bufferSize);
+        try {
+            return copy(in, out, buffer, autoClose);
+        } finally {
+            pool.release(buffer);
+        }
     }
 
     /**
@@ -442,7 +502,7 @@ public class IOes {
         FileChannel outFileChannel = out.getChannel();
 
         try {
-            return inFileChannel.transferTo(0, inFileChannel.size(), outFileChannel);
+            return transferTo(inFileChannel, outFileChannel);
         } catch (IOException e) {
             throw new IoRuntimeException(e);
         } finally {
@@ -455,6 +515,157 @@ public class IOes {
         }
     }
 
+    /**
+     * 通道拷贝，自动关闭输入通道和输出通道
+     *
+     * @param in  输入通道
+     * @param out 输出通道
+     * @return 拷贝的字节数，通道为{@code null}时返回-1
+     */
+    public static long copy(final ReadableByteChannel in, final WritableByteChannel out) {
+        return copy(in, out, true);
+    }
+
+    /**
+     * 通道拷贝
+     * <p>
+     * 任意一端是{@linkplain FileChannel}时使用{@code transferTo}/{@code transferFrom}，
+     * 文件到套接字通道时由操作系统直接发送（如Linux的{@code sendfile}），数据不经过Java堆；其它情况使用池化的缓冲区。
+     * </p>
+     *
+     * @param in        输入通道
+     * @param out       输出通道
+     * @param autoClose 拷贝完毕后是否关闭输入/输出通道
+     * @return 拷贝的字节数，通道为{@code null}时返回-1
+     */
+    public static long copy(final ReadableByteChannel in, final WritableByteChannel out, final boolean autoClose) {
+        if (in == null) {
+            return -1;
+        }
+        if (out == null) {
+            return -1;
+        }
+        try {
+            if (in instanceof FileChannel) {
+                return transferTo((FileChannel) in, out);
+            }
+            if (out instanceof FileChannel) {
+                return transferFrom(in, (FileChannel) out);
+            }
+            BufferPool pool = BufferPool.getDefault();
+            byte[] array = pool.acquire(MAX_ADAPTIVE_BUFFER_SIZE);
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(array);
+                long count = 0;
+                while (in.read(buffer) != EOF) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        count += out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                return count;
+            } finally {
+                pool.release(array);
+            }
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        } finally {
+            if (autoClose) {
+                closeQuietly(out);
+                closeQuietly(in);
+            }
+        }
+    }
+
+    /**
+     * 输入输出是否都是原生的文件流，子类可能重写了读写方法，不能绕过
+     *
+     * @param in  输入流
+     * @param out 输出流
+     * @return 是否可以直接通过文件通道拷贝
+     */
+    private static boolean isFileStreams(InputStream in, OutputStream out) {
+        return in != null && out != null && in.getClass() == FileInputStream.class && out.getClass() == FileOutputStream.class;
+    }
+
+    /**
+     * 从文件通道的当前位置拷贝到末尾，拷贝完毕后移动输入通道的位置
+     *
+     * @param in  文件通道
+     * @param out 输出通道
+     * @return 拷贝的字节数
+     * @throws IOException 拷贝失败
+     */
+    private static long transferTo(FileChannel in, WritableByteChannel out) throws IOException {
+        long position = in.position();
+        long size = in.size();
+        long count = 0;
+        while (position < size) {
+            long n = in.transferTo(position, size - position, out);
+            if (n <= 0) {
+                break;
+            }
+            position += n;
+            count += n;
+        }
+        in.position(position);
+        return count;
+    }
+
+    /**
+     * 从输入通道读取到末尾，写入文件通道的当前位置，拷贝完毕后移动输出通道的位置
+     *
+     * @param in  输入通道
+     * @param out 文件通道
+     * @return 拷贝的字节数
+     * @throws IOException 拷贝失败
+     */
+    private static long transferFrom(ReadableByteChannel in, FileChannel out) throws IOException {
+        long position = out.position();
+        long count = 0;
+        long n;
+        // 阻塞的输入通道返回0表示已经读到末尾
+        while ((n = out.transferFrom(in, position, MAX_TRANSFER_SIZE)) > 0) {
+            position += n;
+            count += n;
+        }
+        out.position(position);
+        return count;
+    }
+
+    /**
+     * 使用池化的缓冲区拷贝，缓冲区初始大小参考{@linkplain InputStream#available()}，
+     * 每次读取都填满缓冲区时加倍，最大为{@value #MAX_ADAPTIVE_BUFFER_SIZE}字节
+     *
+     * @param in  输入流
+     * @param out 输出流
+     * @return 拷贝的字节数
+     * @throws IOException 拷贝失败
+     */
+    private static long copyAdaptive(InputStream in, OutputStream out) throws IOException {
+        BufferPool pool = BufferPool.getDefault();
+        int available = in.available();
+        byte[] buffer = pool.acquire(Math.max(DEFAULT_LARGE_BUFFER_SIZE, Math.min(available, MAX_ADAPTIVE_BUFFER_SIZE)));
+        try {
+            long count = 0;
+            int n;
+            while (EOF != (n = in.read(buffer))) {
+                out.write(buffer, 0, n);
+                count += n;
+                if (n == buffer.length && buffer.length < MAX_ADAPTIVE_BUFFER_SIZE) {
+                    byte[] larger = pool.acquire(n << 1);
+                    pool.release(buffer);
+                    buffer = larger;
+                }
+            }
+            out.flush();
+            return count;
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
     //endregion
 
 
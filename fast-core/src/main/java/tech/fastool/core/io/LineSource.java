@@ -0,0 +1,389 @@
+package tech.fastool.core.io;
+
+import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.lang.Charsets;
+import tech.fastool.core.lang.Files;
+import tech.fastool.core.lang.Objects;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 按行读取的数据源，不会把全部内容读入内存，适合超大文件
+ * <p>
+ * 顺序读取：{@link #iterator()}或{@link #lines()}逐行读取，只能遍历一次，读取完毕后自动关闭；
+ * 未读取完毕时需要调用{@link #close()}，或者在try-with-resources中使用。
+ * </p>
+ * <p>
+ * 并行读取：{@link #mapChunks(File, Charset, Function)}和{@link #forEachParallel(File, Charset, Consumer)}
+ * 将文件按字节范围切分为若干块，块的边界对齐到换行符，每块映射到内存后直接解码，在{@linkplain ForkJoinPool}中并行处理。
+ * 块内的行是有序的，块之间的处理顺序不确定。
+ * 换行符不是单字节{@code 0x0A}的编码（如UTF-16）无法按字节切分，此时整个文件作为一块顺序处理。
+ * </p>
+ * <p>
+ * 行的划分与{@linkplain BufferedReader#readLine()}一致：{@code \n}、{@code \r}和{@code \r\n}都是行结束符，行内容不包括结束符。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public final class LineSource implements Iterable<String>, Closeable {
+
+    /**
+     * 并行读取时默认的块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 << 20;
+
+    /**
+     * 查找块边界时每次读取的字节数
+     */
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final BufferedReader reader;
+
+    private String nextLine;
+
+    private boolean finished;
+
+    private boolean iterated;
+
+    private LineSource(Reader reader) {
+        this.reader = IOes.getBufferedReader(reader);
+    }
+
+    /**
+     * 按UTF-8编码读取文件
+     *
+     * @param file 文件
+     * @return {@linkplain LineSource}
+     */
+    public static LineSource of(File file) {
+        return of(file, Charsets.UTF_8);
+    }
+
+    /**
+     * 按指定编码读取文件
+     *
+     * @param file    文件
+     * @param charset 编码，为{@code null}时采用系统默认编码
+     * @return {@linkplain LineSource}
+     */
+    public static LineSource of(File file, Charset charset) {
+        return of(Files.openFileInputStream(file), charset);
+    }
+
+    /**
+     * 按指定编码读取输入流，关闭时会关闭输入流
+     *
+     * @param in      输入流
+     * @param charset 编码，为{@code null}时采用系统默认编码
+     * @return {@linkplain LineSource}
+     */
+    public static LineSource of(InputStream in, Charset charset) {
+        Objects.requireNonNull(in, "in == null");
+        return new LineSource(new InputStreamReader(in, Charsets.getCharset(charset)));
+    }
+
+    /**
+     * 读取字符流，关闭时会关闭字符流
+     *
+     * @param reader 字符流
+     * @return {@linkplain LineSource}
+     */
+    public static LineSource of(Reader reader) {
+        return new LineSource(Objects.requireNonNull(reader, "reader == null"));
+    }
+
+    /**
+     * 返回逐行读取的迭代器，只能获取一次
+     *
+     * @return 迭代器
+     * @throws IllegalStateException 重复获取迭代器
+     */
+    @Override
+    public Iterator<String> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("LineSource can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return advance();
+            }
+
+            @Override
+            public String next() {
+                if (!advance()) {
+                    throw new NoSuchElementException();
+                }
+                String line = nextLine;
+                nextLine = null;
+                return line;
+            }
+        };
+    }
+
+    /**
+     * 返回逐行读取的流，关闭流时关闭数据源
+     *
+     * @return 行的流
+     */
+    public Stream<String> lines() {
+        Spliterator<String> spliterator = Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        nextLine = null;
+        IOes.closeQuietly(reader);
+    }
+
+    private boolean advance() {
+        if (nextLine != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            nextLine = reader.readLine();
+        } catch (IOException e) {
+            close();
+            throw new IoRuntimeException(e);
+        }
+        if (nextLine == null) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    // region Parallel
+
+    /**
+     * 在公共{@linkplain ForkJoinPool}中并行处理文件的每一行
+     *
+     * @param file    文件
+     * @param charset 编码，为{@code null}时采用系统默认编码
+     * @param action  行处理器，需要是线程安全的
+     */
+    public static void forEachParallel(File file, Charset charset, Consumer<? super String> action) {
+        Objects.requireNonNull(action, "action == null");
+        mapChunks(file, charset, lines -> {
+            lines.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * 在公共{@linkplain ForkJoinPool}中按块并行处理文件，块大小为{@value #DEFAULT_CHUNK_SIZE}字节
+     *
+     * @param file          文件
+     * @param charset       编码，为{@code null}时采用系统默认编码
+     * @param chunkFunction 块处理函数，参数为块内按顺序排列的行
+     * @param <R>           块处理结果的类型
+     * @return 各块的处理结果，按块在文件中的顺序排列
+     */
+    public static <R> List<R> mapChunks(File file, Charset charset, Function<? super Stream<String>, ? extends R> chunkFunction) {
+        return mapChunks(file, charset, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool(), chunkFunction);
+    }
+
+    /**
+     * 在指定的{@linkplain ForkJoinPool}中按块并行处理文件
+     *
+     * @param file          文件
+     * @param charset       编码，为{@code null}时采用系统默认编码
+     * @param chunkSize     块的大致字节数，实际的块会延伸到下一个换行符
+     * @param pool          执行的线程池
+     * @param chunkFunction 块处理函数，参数为块内按顺序排列的行
+     * @param <R>           块处理结果的类型
+     * @return 各块的处理结果，按块在文件中的顺序排列
+     * @throws IoRuntimeException 读取文件失败，或某一行超过2GB
+     */
+    public static <R> List<R> mapChunks(File file, Charset charset, int chunkSize, ForkJoinPool pool,
+                                        Function<? super Stream<String>, ? extends R> chunkFunction) {
+        Objects.requireNonNull(pool, "pool == null");
+        Objects.requireNonNull(chunkFunction, "chunkFunction == null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Illegal chunkSize: " + chunkSize);
+        }
+        Charset encoding = Charsets.getCharset(charset);
+        if (!isNewlineAligned(encoding)) {
+            return Collections.singletonList(pool.submit(() -> {
+                try (LineSource source = of(file, encoding); Stream<String> lines = source.lines()) {
+                    return chunkFunction.apply(lines);
+                }
+            }).join());
+        }
+
+        try (FileInputStream in = Files.openFileInputStream(file)) {
+            FileChannel channel = in.getChannel();
+            long[] bounds = splitChunks(channel, chunkSize);
+            List<ForkJoinTask<? extends R>> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i];
+                long length = bounds[i + 1] - start;
+                if (length > Integer.MAX_VALUE) {
+                    throw new IoRuntimeException("Line at offset " + start + " of file '" + file + "' is too long");
+                }
+                // 映射在通道关闭后依然有效，所有任务完成后才会关闭通道
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                tasks.add(pool.submit(() -> chunkFunction.apply(chunkLines(buffer, encoding))));
+            }
+            List<R> results = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<? extends R> task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        }
+    }
+
+    /**
+     * 换行符和回车符是否都编码为单个字节，只有这样才能按字节切分而不破坏字符
+     *
+     * @param charset 编码
+     * @return 是否可以按换行符切分
+     */
+    private static boolean isNewlineAligned(Charset charset) {
+        return Arrays.equals("\n\r".getBytes(charset), new byte[]{'\n', '\r'});
+    }
+
+    /**
+     * 计算块的边界，除文件末尾外每个边界都位于行尾之后，行尾与{@link #chunkLines}一致，
+     * 即{@code \n}、{@code \r}或{@code \r\n}，且不会把{@code \r\n}拆到两个块中
+     *
+     * @param channel   文件通道
+     * @param chunkSize 块的大致字节数
+     * @return 边界数组，第一个为0，最后一个为文件大小
+     * @throws IOException 读取失败
+     */
+    private static long[] splitChunks(FileChannel channel, int chunkSize) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = 0;
+        while (size - position > chunkSize) {
+            position = nextLineStart(channel, position + chunkSize, size, scan);
+            if (position >= size) {
+                break;
+            }
+            bounds.add(position);
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer scan) throws IOException {
+        long position = from;
+        while (position < size) {
+            scan.clear();
+            int n = channel.read(scan, position);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                byte b = scan.get(i);
+                if (b == '\n') {
+                    return position + i + 1;
+                }
+                if (b == '\r') {
+                    long next = position + i + 1;
+                    if (next >= size) {
+                        return size;
+                    }
+                    byte following = i + 1 < n ? scan.get(i + 1) : readByte(channel, next);
+                    return following == '\n' ? next + 1 : next;
+                }
+            }
+            position += n;
+        }
+        return size;
+    }
+
+    private static byte readByte(FileChannel channel, long position) throws IOException {
+        ByteBuffer one = ByteBuffer.allocate(1);
+        if (channel.read(one, position) <= 0) {
+            throw new EOFException("Unexpected end of file at offset " + position);
+        }
+        return one.get(0);
+    }
+
+    /**
+     * 将映射的块解码为行
+     *
+     * @param buffer  块
+     * @param charset 编码
+     * @return 块内的行
+     */
+    private static Stream<String> chunkLines(MappedByteBuffer buffer, Charset charset) {
+        CharBuffer chars;
+        try {
+            chars = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(buffer);
+        } catch (CharacterCodingException e) {
+            throw new IoRuntimeException(e);
+        }
+        Iterator<String> iterator = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return chars.hasRemaining();
+            }
+
+            @Override
+            public String next() {
+                if (!chars.hasRemaining()) {
+                    throw new NoSuchElementException();
+                }
+                int start = chars.position();
+                int limit = chars.limit();
+                for (int i = start; i < limit; i++) {
+                    char c = chars.get(i);
+                    if (c == '\n' || c == '\r') {
+                        String line = chars.subSequence(0, i - start).toString();
+                        int next = i + 1;
+                        if (c == '\r' && next < limit && chars.get(next) == '\n') {
+                            next++;
+                        }
+                        chars.position(next);
+                        return line;
+                    }
+                }
+                String line = chars.toString();
+                chars.position(limit);
+                return line;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // endregion
+
+}
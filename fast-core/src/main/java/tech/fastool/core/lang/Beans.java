@@ -1,11 +1,13 @@
 package tech.fastool.core.lang;
 
 import lombok.experimental.UtilityClass;
+import tech.fastool.core.bean.BeanCopier;
 import tech.fastool.core.bean.BeanIntrospectCache;
+import tech.fastool.core.bean.BeanMeta;
 import tech.fastool.core.bean.CopyOption;
+import tech.fastool.core.convert.ConverterRegistry;
 import tech.fastool.core.exceptions.BeanException;
 import tech.fastool.core.lang.reflect.Classes;
-import tech.fastool.core.lang.reflect.Reflects;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
@@ -69,19 +71,14 @@ public class Beans {
     }
 
     /**
-     * 获得字段名和字段描述Map,获得的结果会缓存在{@link BeanIntrospectCache}中
+     * 获得字段名和字段描述Map,获得的结果会缓存在{@link BeanMeta}中
      *
      * @param beanClass Bean类
-     * @return 字段名和字段描述Map
+     * @return 不可修改的字段名和字段描述Map
      * @throws BeanException 获取属性异常
      */
     public static Map<String, PropertyDescriptor> getPropertyDescriptorMap(Class<?> beanClass) throws BeanException {
-        List<PropertyDescriptor> list = getPropertyDescriptorList(beanClass);
-        final Map<String, PropertyDescriptor> map = new HashMap<>(list.size());
-        for (PropertyDescriptor propertyDescriptor : list) {
-            map.put(propertyDescriptor.getName(), propertyDescriptor);
-        }
-        return map;
+        return BeanMeta.of(beanClass).getPropertyDescriptorMap();
     }
 
     /**
@@ -92,7 +89,9 @@ public class Beans {
      * @return {@linkplain PropertyDescriptor}
      */
     public static PropertyDescriptor getPropertyDescriptor(Class<?> beanClass, String propertyName) {
-        return getPropertyDescriptorMap(beanClass).get(Objects.requireNotEmpty(propertyName, "propertyName is null or empty"));
+        BeanMeta meta = BeanMeta.of(beanClass);
+        int index = meta.indexOf(Objects.requireNotEmpty(propertyName, "propertyName is null or empty"));
+        return index < 0 ? null : meta.getPropertyDescriptor(index);
     }
 
     /**
@@ -106,19 +105,25 @@ public class Beans {
     @SuppressWarnings("unchecked")
     public static <T> T getPropertyValue(Object bean, String propertyName) {
         Objects.requireNonNull(bean, "bean == null");
-        PropertyDescriptor pd = getPropertyDescriptor(bean.getClass(), propertyName);
-        if (pd == null) {
+        BeanMeta meta = BeanMeta.of(bean.getClass());
+        int index = meta.indexOf(Objects.requireNotEmpty(propertyName, "propertyName is null or empty"));
+        if (index < 0 || !meta.isReadable(index)) {
             return null;
         }
-        try {
-            Method readMethod = pd.getReadMethod();
-            if (readMethod == null) {
-                return null;
-            }
-            return (T) readMethod.invoke(bean);
-        } catch (ReflectiveOperationException e) {
-            throw new BeanException(e);
-        }
+        return (T) meta.read(bean, index);
+    }
+
+    /**
+     * 返回bean的{@code Map}视图，键为可读属性名，值在访问时才通过{@code getter}读取，不复制属性值。
+     * 对视图的{@code put}会调用对应的{@code setter}，不支持删除。
+     * 只需要读取属性时优先使用此方法代替{@linkplain #beanToMap(Object)}。
+     *
+     * @param bean bean对象
+     * @return {@code Map}视图
+     */
+    public static Map<String, Object> asMap(Object bean) {
+        Objects.requireNonNull(bean, "bean == null");
+        return BeanMeta.of(bean.getClass()).asMap(bean);
     }
 
     /**
@@ -139,7 +144,11 @@ public class Beans {
      * @return Map
      */
     public static Map<String, Object> beanToMap(Object bean, boolean ignoreNullValue) {
-        Map<String, Object> targetMap = new LinkedHashMap<>();
+        if (bean == null) {
+            return new LinkedHashMap<>();
+        }
+        BeanMeta meta = BeanMeta.of(bean.getClass());
+        Map<String, Object> targetMap = new LinkedHashMap<>(meta.getReadableCount() * 4 / 3 + 1);
         beanToMap(bean, targetMap, ignoreNullValue);
         return targetMap;
     }
@@ -155,24 +164,15 @@ public class Beans {
         if (bean == null || targetMap == null) {
             return;
         }
-        Method readMethod;
-        Object value;
-        for (PropertyDescriptor propertyDescriptor : getPropertyDescriptorList(bean.getClass())) {
-            readMethod = propertyDescriptor.getReadMethod();
-            if (readMethod != null) {
-                try {
-                    value = readMethod.invoke(bean);
-                    if (ignoreNullValue && value != null) {
-                        targetMap.put(propertyDescriptor.getName(), value);
-                    } else {
-                        targetMap.put(propertyDescriptor.getName(), value);
-                    }
-                } catch (ReflectiveOperationException e) {
-                    throw new BeanException(e);
+        final BeanMeta meta = BeanMeta.of(bean.getClass());
+        for (int i = 0, size = meta.size(); i < size; i++) {
+            if (meta.isReadable(i)) {
+                Object value = meta.read(bean, i);
+                if (value != null || !ignoreNullValue) {
+                    targetMap.put(meta.getPropertyName(i), value);
                 }
             }
         }
-
     }
 
     /**
@@ -189,12 +189,12 @@ public class Beans {
         if (copyOption == null) {
             copyOption = new CopyOption();
         }
-        final CopyOption finalCo = copyOption;
-        final Map<String, PropertyDescriptor> propertyDescriptorMap = getPropertyDescriptorMap(bean.getClass());
-        propertyDescriptorMap.forEach((key, pd) -> {
-            Object value = Reflects.invoke(bean, pd.getReadMethod());
-            copyToMap(key, value, targetMap, finalCo);
-        });
+        final BeanMeta meta = BeanMeta.of(bean.getClass());
+        for (int i = 0, size = meta.size(); i < size; i++) {
+            if (meta.isReadable(i)) {
+                copyToMap(meta.getPropertyName(i), meta.read(bean, i), targetMap, copyOption);
+            }
+        }
     }
 
     /**
@@ -232,36 +232,49 @@ public class Beans {
             copyOption = new CopyOption();
         }
         final CopyOption finalCo = copyOption;
-        Map<String, PropertyDescriptor> propertyDescriptorMap = getPropertyDescriptorMap(target.getClass());
+        final BeanMeta meta = BeanMeta.of(target.getClass());
         source.forEach((key, value) -> {
             if (finalCo.getIgnoreProperties().contains(key)) {
                 return;
             }
-            PropertyDescriptor propertyDescriptor = propertyDescriptorMap.get(key);
-            if (propertyDescriptor == null) {
-                return;
-            }
-            Method writeMethod = propertyDescriptor.getWriteMethod();
-            if (writeMethod == null) {
+            int index = meta.indexOf(key);
+            if (index < 0 || !meta.isWritable(index)) {
                 return;
             }
+            Class<?> propertyType = meta.getPropertyType(index);
             if (value == null) {
-                if (!finalCo.isIgnoreNullValue()) {
-                    Reflects.invoke(target, writeMethod, new Object[]{null});
+                if (!finalCo.isIgnoreNullValue() && !propertyType.isPrimitive()) {
+                    meta.write(target, index, null);
                 }
+            } else if (value instanceof String && !Strings.hasLength((String) value) && finalCo.isIgnoreEmptyString()) {
+                return;
             } else {
-                if (value instanceof String) {
-                    String str = (String) value;
-                    if (Strings.hasLength(str) || !finalCo.isIgnoreEmptyString()) {
-                        Reflects.invoke(target, writeMethod, value);
-                    }
-                } else {
-                    Reflects.invoke(target, writeMethod, value);
-                }
+                meta.write(target, index, convertIfNecessary(key, value, propertyType));
             }
         });
     }
 
+    /**
+     * 值不是属性类型的实例时通过{@linkplain ConverterRegistry}转换
+     *
+     * @param key          属性名
+     * @param value        值
+     * @param propertyType 属性类型
+     * @return 转换后的值
+     */
+    private static Object convertIfNecessary(String key, Object value, Class<?> propertyType) {
+        Class<?> wrapperType = Classes.resolveWrapperType(propertyType);
+        if (wrapperType.isInstance(value)) {
+            return value;
+        }
+        try {
+            return ConverterRegistry.getInstance().convert(value, wrapperType);
+        } catch (RuntimeException e) {
+            throw new BeanException(String.format("Can not convert property [%s] from [%s] to [%s]",
+                    key, value.getClass().getName(), propertyType.getName()), e);
+        }
+    }
+
     /**
      * 将Javabean对象转为Map,其中值的类型为{@code String}
      *
@@ -280,12 +293,14 @@ public class Beans {
      * @return Map对象
      */
     public static Map<String, String> toMapAsValueString(Object bean, boolean ignoreNull) {
-        Map<String, Object> propertiesMap = beanToMap(bean);
+        Map<String, Object> propertiesMap = bean == null ? java.util.Collections.emptyMap() : asMap(bean);
         Map<String, String> resultMap = new HashMap<>(propertiesMap.size());
 
+        String propertyName;
         Object val;
-        for (String propertyName : propertiesMap.keySet()) {
-            val = propertiesMap.get(propertyName);
+        for (Map.Entry<String, Object> entry : propertiesMap.entrySet()) {
+            propertyName = entry.getKey();
+            val = entry.getValue();
             if (val == null) {
                 if (!ignoreNull) {
                     resultMap.put(propertyName, null);
@@ -339,7 +354,7 @@ public class Beans {
     }
 
     /**
-     * 对象复制
+     * 对象复制，Bean之间的复制通过缓存的{@linkplain BeanCopier}完成
      *
      * @param source     源对象
      * @param target     目标对象
@@ -363,37 +378,40 @@ public class Beans {
             if (target instanceof Map) {
                 beanToMap(source, (Map<String, Object>) target, copyOption);
             } else {
-                final CopyOption finalCo = copyOption;
-                final Map<String, PropertyDescriptor> targetPdMap = getPropertyDescriptorMap(target.getClass());
-                getPropertyDescriptorMap(source.getClass()).forEach((key, sourcePd) -> {
-                    if (finalCo.getIgnoreProperties().contains(key)) {
-                        return;
-                    }
-                    PropertyDescriptor targetPd = targetPdMap.get(key);
-                    if (targetPd == null || targetPd.getWriteMethod() == null) {
-                        return;
-                    }
-                    Object value = Reflects.invoke(source, sourcePd.getReadMethod());
-                    if (value == null) {
-                        if (!finalCo.isIgnoreNullValue()) {
-                            Reflects.invoke(target, targetPd.getWriteMethod(), new Object[]{null});
-                        }
-                    } else {
-                        if (value instanceof String) {
-                            String str = (String) value;
-                            if (Strings.hasLength(str) || !finalCo.isIgnoreEmptyString()) {
-                                Reflects.invoke(target, targetPd.getWriteMethod(), value);
-                            }
-                        } else {
-                            Reflects.invoke(target, targetPd.getWriteMethod(), value);
-                        }
-                    }
-                });
+                ((BeanCopier<Object, Object>) copier(source.getClass(), target.getClass(), copyOption))
+                        .copy(source, target);
             }
         }
     }
 
 
+    /**
+     * 获取预编译的Bean复制器，适合同一对类型反复复制的场景
+     *
+     * @param sourceClass 源对象类型
+     * @param targetClass 目标对象类型
+     * @param copyOption  复制配置，可以为{@code null}
+     * @param <S>         源对象类型
+     * @param <T>         目标对象类型
+     * @return {@linkplain BeanCopier}
+     */
+    public static <S, T> BeanCopier<S, T> copier(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption) {
+        return BeanCopier.create(sourceClass, targetClass, copyOption);
+    }
+
+    /**
+     * 获取预编译的Bean复制器，使用默认的复制配置
+     *
+     * @param sourceClass 源对象类型
+     * @param targetClass 目标对象类型
+     * @param <S>         源对象类型
+     * @param <T>         目标对象类型
+     * @return {@linkplain BeanCopier}
+     */
+    public static <S, T> BeanCopier<S, T> copier(Class<S> sourceClass, Class<T> targetClass) {
+        return copier(sourceClass, targetClass, null);
+    }
+
     /**
      * 将属性和其值复制到目标对象中
      *
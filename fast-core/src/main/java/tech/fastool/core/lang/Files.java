@@ -8,11 +8,16 @@ import tech.fastool.core.io.FastByteArrayOutputStream;
 import tech.fastool.core.io.IOes;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
@@ -57,6 +62,16 @@ public class Files {
      */
     public static final String WINDOWS_SEPARATOR = Strings.EMPTY_STRING + Chars.BACKSLASH;
 
+    /**
+     * 可以分配的最大数组长度，部分虚拟机会在数组头部保留一些空间
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * 按行读取文件时的字符缓冲大小
+     */
+    private static final int READ_LINES_BUFFER_SIZE = 64 * 1024;
+
     /**
      * The file copy buffer size (30 MB)
      */
@@ -474,12 +489,32 @@ public class Files {
             } catch (IOException e) {
                 throw new IoRuntimeException(e);
             }
-            if (!canonicalPath.startsWith(parentCanonicalPath)) {
+            if (!isSubPath(parentCanonicalPath, canonicalPath)) {
                 throw new IllegalArgumentException("New file is outside of the parent dir: " + file.getName());
             }
         }
     }
 
+    /**
+     * 判断规范路径{@code file}是否为{@code parentFile}本身或其子路径，按路径分隔符比较，
+     * 避免{@code /a/b}被误判为{@code /a/bc}的父路径
+     *
+     * @param parentFile 父目录，必须是规范路径
+     * @param file       文件或目录，必须是规范路径
+     * @return 是否为子路径
+     */
+    public static boolean isSubPath(File parentFile, File file) {
+        return isSubPath(parentFile.getPath(), file.getPath());
+    }
+
+    private static boolean isSubPath(String parentPath, String path) {
+        if (path.equals(parentPath)) {
+            return true;
+        }
+        String prefix = parentPath.endsWith(File.separator) ? parentPath : parentPath + File.separator;
+        return path.startsWith(prefix);
+    }
+
     /**
      * 给定路径已经是绝对路径
      *
@@ -536,10 +571,13 @@ public class Files {
      * @param file    待读的文件
      * @param charset 字符编码
      * @return 文件内容
+     * @see tech.fastool.core.io.LineSource 逐行读取大文件
      */
     public static List<String> readLines(File file, final Charset charset) {
+        // 逐行流式解码，不把整个文件先读成字节数组和字符串
         try (FileInputStream in = openFileInputStream(file)) {
-            return IOes.readLines(in, charset);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charsets.getCharset(charset)), READ_LINES_BUFFER_SIZE);
+            return IOes.readLines(reader, false);
         } catch (IOException e) {
             throw new IoRuntimeException(e);
         }
@@ -584,25 +622,72 @@ public class Files {
      * @return 返回文件内容
      */
     public static String readString(File file, Charset charset) {
+        return Strings.str(readBytes(file), charset);
+    }
+
+    /**
+     * 读取文件的二进制内容
+     * <p>
+     * 按{@linkplain FileChannel#size()}一次性分配数组并直接读入，没有中间缓冲和二次拷贝；
+     * 无法获取大小的文件（如{@code /proc}下的文件）或读取过程中变大的文件，回退为流式读取。
+     * </p>
+     *
+     * @param file 文件，非空
+     * @return 文件内容
+     * @throws IoRuntimeException 读取文件异常或文件超过2GB
+     */
+    public static byte[] readBytes(File file) {
         try (FileInputStream in = openFileInputStream(file)) {
-            return IOes.read(in, charset);
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            if (size > MAX_ARRAY_SIZE) {
+                throw new IoRuntimeException("File '" + file + "' is too large to read into a byte array: " + size);
+            }
+            byte[] data = new byte[(int) size];
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            if (buffer.hasRemaining()) {
+                // 文件在读取过程中变小
+                return java.util.Arrays.copyOf(data, buffer.position());
+            }
+            int next = in.read();
+            if (next < 0) {
+                return data;
+            }
+            try (FastByteArrayOutputStream output = FastByteArrayOutputStream.pooled(data.length + IOes.DEFAULT_LARGE_BUFFER_SIZE)) {
+                output.write(data);
+                output.write(next);
+                IOes.copy(in, output, false);
+                return output.toByteArray();
+            }
         } catch (IOException e) {
             throw new IoRuntimeException(e);
         }
     }
 
     /**
-     * 读取文件的二进制内容
+     * 以只读方式将文件映射到内存
+     * <p>
+     * 数据由操作系统的页缓存按需加载，不占用Java堆，适合较大的只读文件，例如直接写出到通道的静态资源。
+     * 映射在返回的缓冲区被回收之前一直有效，与文件通道是否关闭无关；映射期间在部分平台（如Windows）上无法删除该文件。
+     * </p>
      *
      * @param file 文件，非空
-     * @return 文件内容
-     * @throws IoRuntimeException 读取文件异常
+     * @return 只读的{@linkplain MappedByteBuffer}
+     * @throws IoRuntimeException 映射失败或文件超过2GB
      */
-    public static byte[] readBytes(File file) {
+    public static MappedByteBuffer map(File file) {
         try (FileInputStream in = openFileInputStream(file)) {
-            FastByteArrayOutputStream output = new FastByteArrayOutputStream();
-            IOes.copy(in, output);
-            return output.toByteArray();
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IoRuntimeException("File '" + file + "' is too large to map: " + size);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
         } catch (IOException e) {
             throw new IoRuntimeException(e);
         }
@@ -762,17 +847,27 @@ public class Files {
 
     /**
      * 将输入流的数据输出到文件中，会自动关闭输入流
+     * <p>
+     * 输入流是文件流时通过{@linkplain FileChannel#transferTo}直接拷贝，不经过Java堆。
+     * </p>
      *
      * @param in         输入流,非空
-     * @param targetPath 目标文件,非空
+     * @param targetPath 目标文件,非空，不能已经存在
      */
     public static void copyStream(InputStream in, Path targetPath) {
         if (targetPath == null || in == null) {
             return;
         }
         try {
-            java.nio.file.Files.createDirectories(targetPath.getParent());
-            java.nio.file.Files.copy(in, targetPath);
+            Path parent = targetPath.getParent();
+            if (parent != null) {
+                java.nio.file.Files.createDirectories(parent);
+            }
+            try (FileChannel out = FileChannel.open(targetPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ReadableByteChannel source = in.getClass() == FileInputStream.class
+                        ? ((FileInputStream) in).getChannel() : Channels.newChannel(in);
+                IOes.copy(source, out, false);
+            }
         } catch (IOException e) {
             throw new IoRuntimeException(e);
         } finally {
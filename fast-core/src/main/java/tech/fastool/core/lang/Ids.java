@@ -5,7 +5,7 @@ import tech.fastool.core.id.Base64IdGenerator;
 import tech.fastool.core.id.DateIdGenerator;
 import tech.fastool.core.id.SecureUuidGenerator;
 import tech.fastool.core.id.UuidGenerator;
-import tech.fastool.core.id.snowflake.FastSnowflake;
+import tech.fastool.core.id.snowflake.AtomicSnowflake;
 
 /**
  * ID生成器工具类
@@ -77,7 +77,7 @@ public final class Ids {
      * @return id with snowflake
      */
     public static long snowflakeId() {
-        return Singletons.get(FastSnowflake.class).nextId();
+        return Singletons.get(AtomicSnowflake.class).nextId();
     }
 
     /**
@@ -487,7 +487,7 @@ public class Objects {
         if (obj == null) {
             return null;
         }
-        FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+        FastByteArrayOutputStream out = FastByteArrayOutputStream.pooled();
         try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
             oos.writeObject(obj);
             oos.flush();
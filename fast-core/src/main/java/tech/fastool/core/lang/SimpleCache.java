@@ -1,5 +1,7 @@
 package tech.fastool.core.lang;
 
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
 import tech.fastool.core.utils.FixedLinkedHashMap;
 
 import java.io.Serializable;
@@ -8,8 +10,9 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * 简单的缓存，基于{@linkplain SoftReference}实现了自动垃圾回收、LRU cache
- * <p>该缓存是线程非安全的。</p>
+ * 简单的缓存，基于{@linkplain SoftReference}实现了自动垃圾回收、近似LRU淘汰
+ * <p>该缓存是线程安全的，底层由{@linkplain CacheBuilder}构建的并发缓存实现。</p>
+ * <p>键和值都不能为{@code null}，传入{@code null}时抛出{@linkplain NullPointerException}。</p>
  *
  * @author miles.tang
  * @version 0.0.1
@@ -21,7 +24,7 @@ public class SimpleCache<K, V> implements Serializable {
     /**
      * 真正缓存的池
      */
-    private final SoftReferenceMap softReferenceMap;
+    private final Cache<K, V> cache;
 
     /**
      * 构造器
@@ -46,11 +49,19 @@ public class SimpleCache<K, V> implements Serializable {
      * 构造器
      *
      * @param initialCapacity 初始容量
-     * @param maxCapacity     最大容量
-     * @param loadFactor      加载因子
+     * @param maxCapacity     最大容量，小于{@code initialCapacity}时取{@code initialCapacity}
+     * @param loadFactor      加载因子，只做合法性校验，底层并发缓存自行管理扩容
+     * @throws IllegalArgumentException {@code initialCapacity}为负数，或者{@code loadFactor}不是正数
      */
     public SimpleCache(int initialCapacity, int maxCapacity, float loadFactor) {
-        this.softReferenceMap = new SoftReferenceMap(initialCapacity, maxCapacity, loadFactor);
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.cache = CacheBuilder.<K, V>builder()
+                .initialCapacity(initialCapacity)
+                .maximumSize(Math.max(initialCapacity, maxCapacity))
+                .softValues()
+                .build();
     }
 
     /**
@@ -58,9 +69,11 @@ public class SimpleCache<K, V> implements Serializable {
      *
      * @param key 键
      * @return 值
+     * @throws NullPointerException {@code key}为{@code null}
      */
     public V get(K key) {
-        return unwrap(softReferenceMap.get(key));
+        Objects.requireNonNull(key, "key == null");
+        return cache.get(key);
     }
 
     /**
@@ -69,9 +82,12 @@ public class SimpleCache<K, V> implements Serializable {
      * @param key   键
      * @param value 值
      * @return 值
+     * @throws NullPointerException {@code key}或者{@code value}为{@code null}
      */
     public V put(K key, V value) {
-        softReferenceMap.put(key, new SoftReference<>(value));
+        Objects.requireNonNull(key, "key == null");
+        Objects.requireNonNull(value, "value == null");
+        cache.put(key, value);
         return value;
     }
 
@@ -81,13 +97,12 @@ public class SimpleCache<K, V> implements Serializable {
      * @param key   键
      * @param value 值
      * @return 值，如果存在则返回{@code null}
+     * @throws NullPointerException {@code key}或者{@code value}为{@code null}
      */
     public V putIfAbsent(K key, V value) {
-        V v = get(key);
-        if (v == null) {
-            return put(key, value);
-        }
-        return null;
+        Objects.requireNonNull(key, "key == null");
+        Objects.requireNonNull(value, "value == null");
+        return cache.putIfAbsent(key, value) == null ? value : null;
     }
 
     /**
@@ -95,14 +110,15 @@ public class SimpleCache<K, V> implements Serializable {
      *
      * @param key      键
      * @param supplier 值的计算函数，为空不处理
-     * @return 值，可能为{@code null}
+     * @return 值，计算结果为{@code null}时不缓存并返回{@code null}
+     * @throws NullPointerException {@code key}为{@code null}
      */
     public V computeIfAbsent(K key, Supplier<V> supplier) {
-        V v = get(key);
-        if (v == null && supplier != null) {
-            v = put(key, supplier.get());
+        Objects.requireNonNull(key, "key == null");
+        if (supplier == null) {
+            return get(key);
         }
-        return v;
+        return cache.computeIfAbsent(key, k -> supplier.get());
     }
 
     /**
@@ -110,14 +126,12 @@ public class SimpleCache<K, V> implements Serializable {
      *
      * @param key        键
      * @param mappingFun 值的计算函数，为空不处理
-     * @return 值，可能为{@code null}
+     * @return 值，计算结果为{@code null}时不缓存并返回{@code null}
+     * @throws NullPointerException {@code key}为{@code null}
      */
     public V computeIfAbsent(K key, Function<K, V> mappingFun) {
-        V v = get(key);
-        if (v == null && mappingFun != null) {
-            v = put(key, mappingFun.apply(key));
-        }
-        return v;
+        Objects.requireNonNull(key, "key == null");
+        return cache.computeIfAbsent(key, mappingFun);
     }
 
     /**
@@ -126,14 +140,14 @@ public class SimpleCache<K, V> implements Serializable {
      * @return 缓存小小
      */
     public int size() {
-        return softReferenceMap.size();
+        return cache.size();
     }
 
     /**
      * 清空缓存池
      */
     public void clear() {
-        softReferenceMap.clear();
+        cache.clear();
     }
 
     /**
@@ -141,30 +155,11 @@ public class SimpleCache<K, V> implements Serializable {
      *
      * @param key 键
      * @return 值
+     * @throws NullPointerException {@code key}为{@code null}
      */
     public V remove(K key) {
-        return unwrap(softReferenceMap.remove(key));
-    }
-
-    /**
-     * 解包
-     *
-     * @param ref 值的引用
-     * @return 实际的值
-     */
-    private V unwrap(SoftReference<V> ref) {
-        return ref != null ? ref.get() : null;
-    }
-
-    /**
-     * 简单的LRU缓存实现
-     */
-    private class SoftReferenceMap extends FixedLinkedHashMap<K, SoftReference<V>> {
-
-        public SoftReferenceMap(int initialCapacity, int maxCapacity, float loadFactor) {
-            super(initialCapacity, maxCapacity, loadFactor);
-        }
-
+        Objects.requireNonNull(key, "key == null");
+        return cache.remove(key);
     }
 
 }
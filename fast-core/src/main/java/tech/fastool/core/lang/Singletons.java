@@ -72,7 +72,10 @@ public class Singletons {
                 // double check
                 instance = (T) OBJECT_POOLS.get(key);
                 if (instance == null && supplier != null) {
-                    instance = (T) OBJECT_POOLS.put(key, supplier.get());
+                    instance = supplier.get();
+                    if (instance != null) {
+                        OBJECT_POOLS.put(key, instance);
+                    }
                 }
             } finally {
                 lock.unlock();
@@ -0,0 +1,146 @@
+package tech.fastool.core.lang.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * 类的反射元数据，通过{@linkplain ClassValue}与类绑定
+ * <p>
+ * 读取无锁；只要类还存活就不会被淘汰，类卸载时随之回收，不会持有类加载器。
+ * 各项元数据在第一次访问时计算，并发计算的结果相同，重复计算是无害的。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> clazz;
+
+    /**
+     * 类型的默认值
+     */
+    private final Object defaultValue;
+
+    private volatile Constructor<?>[] constructors;
+
+    private volatile List<Field> fields;
+
+    private volatile List<Method> methods;
+
+    private ClassMetadata(Class<?> clazz) {
+        this.clazz = clazz;
+        this.defaultValue = computeDefaultValue(clazz);
+    }
+
+    /**
+     * 获取类的元数据
+     *
+     * @param clazz 类
+     * @return 元数据
+     */
+    static ClassMetadata of(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    Object getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * 类声明的所有构造器，包括私有构造器，数组是共享的，不要修改
+     *
+     * @return 构造器数组
+     */
+    Constructor<?>[] getConstructors() {
+        Constructor<?>[] result = constructors;
+        if (result == null) {
+            constructors = result = clazz.getDeclaredConstructors();
+        }
+        return result;
+    }
+
+    /**
+     * 类及其父类声明的所有字段，子类的字段在前
+     *
+     * @return 不可修改的字段列表
+     */
+    List<Field> getFields() {
+        List<Field> result = fields;
+        if (result == null) {
+            List<Field> declaredFields = new ArrayList<>();
+            for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+                Collections.addAll(declaredFields, c.getDeclaredFields());
+            }
+            fields = result = declaredFields.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(declaredFields);
+        }
+        return result;
+    }
+
+    /**
+     * 类及其父类声明的所有方法，以及接口中的公共方法，子类重写的方法覆盖父类的方法，不包括桥接方法
+     *
+     * @return 不可修改的方法列表
+     */
+    List<Method> getMethods() {
+        List<Method> result = methods;
+        if (result == null) {
+            Map<String, Method> signatures = new LinkedHashMap<>();
+            for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+                for (Method method : c.getDeclaredMethods()) {
+                    addMethod(signatures, method);
+                }
+            }
+            for (Method method : clazz.getMethods()) {
+                addMethod(signatures, method);
+            }
+            methods = result = Collections.unmodifiableList(new ArrayList<>(signatures.values()));
+        }
+        return result;
+    }
+
+    private static void addMethod(Map<String, Method> signatures, Method method) {
+        if (method.isBridge()) {
+            return;
+        }
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.append(parameterType.getName()).append(',');
+        }
+        signatures.putIfAbsent(signature.append(')').toString(), method);
+    }
+
+    private static Object computeDefaultValue(Class<?> clazz) {
+        if (clazz.isPrimitive()) {
+            if (clazz == boolean.class) {
+                return false;
+            } else if (clazz == byte.class) {
+                return (byte) 0;
+            } else if (clazz == char.class) {
+                return (char) 0;
+            } else if (clazz == short.class) {
+                return (short) 0;
+            } else if (clazz == int.class) {
+                return 0;
+            } else if (clazz == long.class) {
+                return 0L;
+            } else if (clazz == float.class) {
+                return 0F;
+            } else if (clazz == double.class) {
+                return 0D;
+            }
+        }
+        return null;
+    }
+
+}
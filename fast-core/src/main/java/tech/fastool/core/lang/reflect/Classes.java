@@ -94,26 +94,20 @@ public final class Classes {
      * @return 类的默认值
      */
     public static Object getDefaultValue(Class<?> clazz) {
-        if (Objects.requireNonNull(clazz).isPrimitive()) {
-            if (clazz == boolean.class) {
-                return false;
-            } else if (clazz == byte.class) {
-                return (byte) 0;
-            } else if (clazz == char.class) {
-                return (char) 0;
-            } else if (clazz == short.class) {
-                return (short) 0;
-            } else if (clazz == int.class) {
-                return 0;
-            } else if (clazz == long.class) {
-                return 0L;
-            } else if (clazz == float.class) {
-                return 0F;
-            } else if (clazz == double.class) {
-                return 0D;
-            }
+        return ClassMetadata.of(Objects.requireNonNull(clazz)).getDefaultValue();
+    }
+
+    /**
+     * 如果是原始类型则返回对应的包装类型，否则原样返回
+     *
+     * @param clazz 类
+     * @return 包装类型或类本身
+     */
+    public static Class<?> resolveWrapperType(Class<?> clazz) {
+        if (Objects.requireNonNull(clazz).isPrimitive() && clazz != void.class) {
+            return PRIMITIVE_TYPE_TO_WRAPPER_MAP.get(clazz);
         }
-        return null;
+        return clazz;
     }
 
     /**
@@ -21,16 +21,6 @@ import java.util.stream.Collectors;
 @UtilityClass
 public final class Reflects {
 
-    /**
-     * 缓存构造器
-     */
-    private static final SimpleCache<Class<?>, Constructor<?>[]> CONSTRUCTORS_CACHE = new SimpleCache<>(1024);
-
-    /**
-     * 缓存字段
-     */
-    private static final SimpleCache<Class<?>, List<Field>> FIELDS_CACHE = new SimpleCache<>(1024);
-
     /**
      * 实例化对象
      *
@@ -84,15 +74,15 @@ public final class Reflects {
     }
 
     /**
-     * 获取一个类的所有构造器列表，优先从缓存中获取
+     * 获取一个类的所有构造器列表，优先从缓存中获取，缓存与类绑定，随类的卸载一起回收
      *
      * @param clazz 类
-     * @return 构造器列表
+     * @return 构造器列表，数组是共享的，不要修改
      */
     @SuppressWarnings("unchecked")
     public static <T> Constructor<T>[] getConstructorsFromCache(Class<T> clazz) {
         Objects.requireNonNull(clazz);
-        return (Constructor<T>[]) CONSTRUCTORS_CACHE.computeIfAbsent(clazz, () -> getConstructors(clazz));
+        return (Constructor<T>[]) ClassMetadata.of(clazz).getConstructors();
     }
 
     /**
@@ -179,16 +169,16 @@ public final class Reflects {
     }
 
     /**
-     * 获取Class定义的属性列表
+     * 获取Class定义的属性列表，包括父类的属性，结果缓存并与类绑定
      *
      * @param clazz 目标类型
-     * @return 返回属性列表
+     * @return 不可修改的属性列表
      */
     public static List<Field> getFields(Class<?> clazz) {
         if (clazz == null) {
             return Lists.emptyList();
         }
-        return FIELDS_CACHE.computeIfAbsent(clazz, Reflects::getFieldsDirectly);
+        return ClassMetadata.of(clazz).getFields();
     }
 
     /**
@@ -223,6 +213,39 @@ public final class Reflects {
         return declaredFields.isEmpty() ? Lists.emptyList() : declaredFields;
     }
 
+    /**
+     * 获取Class定义的方法列表，包括父类声明的方法和接口中的公共方法，子类重写的方法覆盖父类的方法，结果缓存并与类绑定
+     *
+     * @param clazz 目标类型
+     * @return 不可修改的方法列表
+     */
+    public static List<Method> getMethods(Class<?> clazz) {
+        if (clazz == null) {
+            return Lists.emptyList();
+        }
+        return ClassMetadata.of(clazz).getMethods();
+    }
+
+    /**
+     * 根据方法名和参数类型查找方法，支持父类的方法查找
+     *
+     * @param clazz      被查找的类
+     * @param methodName 方法名
+     * @param paramTypes 参数类型，可以为空
+     * @return {@linkplain Method} or {@code null}
+     */
+    public static Method findMethod(Class<?> clazz, String methodName, Class<?>... paramTypes) {
+        if (clazz == null || Strings.isBlank(methodName)) {
+            return null;
+        }
+        for (Method method : getMethods(clazz)) {
+            if (method.getName().equals(methodName) && Classes.isAllAssignable(method.getParameterTypes(), paramTypes)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
     /**
      * 根据{@code fieldName}在{@code targetClass}查找，支持父类的属性查找。
      *
@@ -257,11 +280,12 @@ public final class Reflects {
         if (clazz == null || (Strings.isBlank(fieldName) && fieldType == null)) {
             return null;
         }
-        return getFields(clazz).stream()
-                .filter(element -> element.getName().equals(fieldName))
-                .filter(element -> fieldType == null || fieldType.equals(element.getType()))
-                .findFirst()
-                .orElse(null);
+        for (Field field : getFields(clazz)) {
+            if (field.getName().equals(fieldName) && (fieldType == null || fieldType.equals(field.getType()))) {
+                return field;
+            }
+        }
+        return null;
     }
 
     /**
@@ -1,6 +1,8 @@
 package tech.fastool.core.lang.regex;
 
-import tech.fastool.core.lang.SimpleCache;
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
+import tech.fastool.core.cache.CacheRegistry;
 
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -289,7 +291,11 @@ public class PatternPool {
     /**
      * Pattern Pool
      */
-    private static final SimpleCache<RegexWithFlags, Pattern> POOL = new SimpleCache<>(128);
+    private static final Cache<RegexWithFlags, Pattern> POOL = CacheBuilder.<RegexWithFlags, Pattern>builder()
+            .name("fastool.PatternPool")
+            .maximumSize(128)
+            .recordStats(CacheRegistry.isRecordStatsByDefault())
+            .build();
 
     /**
      * 先从Pattern池中查找正则对应的{@link Pattern}，找不到则编译正则表达式并入池。
@@ -19,6 +19,11 @@ public class ThreadFactoryBuilder implements Builder<ThreadFactory> {
      */
     private String namePrefix;
 
+    /**
+     * 是否是守护线程
+     */
+    private boolean daemon;
+
     /**
      * 构建
      *
@@ -36,6 +41,9 @@ public class ThreadFactoryBuilder implements Builder<ThreadFactory> {
             if (builder.namePrefix != null) {
                 thread.setName(builder.namePrefix + count.getAndIncrement());
             }
+            if (builder.daemon) {
+                thread.setDaemon(true);
+            }
             return thread;
         };
     }
@@ -60,4 +68,15 @@ public class ThreadFactoryBuilder implements Builder<ThreadFactory> {
         return this;
     }
 
+    /**
+     * 设置是否是守护线程，默认{@code false}
+     *
+     * @param daemon 是否是守护线程
+     * @return 当前对象
+     */
+    public ThreadFactoryBuilder daemon(boolean daemon) {
+        this.daemon = daemon;
+        return this;
+    }
+
 }
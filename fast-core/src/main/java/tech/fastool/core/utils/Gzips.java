@@ -2,14 +2,24 @@ package tech.fastool.core.utils;
 
 import lombok.experimental.UtilityClass;
 import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.io.BufferPool;
+import tech.fastool.core.io.FastByteArrayOutputStream;
 import tech.fastool.core.lang.Objects;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
+import java.io.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.*;
 
 /**
  * GZIP工具类
+ * <p>
+ * 压缩和解压使用池化的{@value #BUFFER_SIZE}字节缓冲区，每个线程复用各自的{@linkplain Deflater}和{@linkplain Inflater}，
+ * 避免频繁分配和释放本地内存。解压支持多成员（multi-member）的GZIP数据。
+ * </p>
  *
  * @author miles.tang
  * @version 0.0.1
@@ -18,6 +28,38 @@ import java.util.zip.GZIPInputStream;
 @UtilityClass
 public final class Gzips {
 
+    /**
+     * 压缩和解压使用的缓冲区大小
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 并行压缩时每个成员的大小
+     */
+    public static final int PARALLEL_BLOCK_SIZE = BufferPool.MAX_BUFFER_SIZE;
+
+    /**
+     * GZIP头，与{@linkplain GZIPOutputStream}一致
+     */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+    private static final int TRAILER_SIZE = 8;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    /**
+     * 每个线程按压缩级别缓存的{@linkplain Deflater}，使用时取出，用完放回，重入时临时创建
+     */
+    private static final ThreadLocal<Deflater[]> DEFLATERS = ThreadLocal.withInitial(() -> new Deflater[11]);
+
+    private static final ThreadLocal<Inflater[]> INFLATERS = ThreadLocal.withInitial(() -> new Inflater[1]);
+
     /**
      * 测试流是否是Gzip
      * 流不会关闭并且会重置游标
@@ -37,4 +79,479 @@ public final class Gzips {
         }
     }
 
+    // region Compress
+
+    /**
+     * 使用默认压缩级别压缩
+     *
+     * @param data 原始数据
+     * @return GZIP数据
+     */
+    public static byte[] compress(byte[] data) {
+        return compress(data, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 压缩
+     *
+     * @param data  原始数据
+     * @param level 压缩级别，取值[-1, 9]
+     * @return GZIP数据
+     */
+    public static byte[] compress(byte[] data, int level) {
+        Objects.requireNonNull(data, "data == null");
+        return compress(data, 0, data.length, level);
+    }
+
+    /**
+     * 压缩
+     *
+     * @param data   原始数据
+     * @param offset 起始位置
+     * @param length 长度
+     * @param level  压缩级别，取值[-1, 9]
+     * @return GZIP数据
+     */
+    public static byte[] compress(byte[] data, int offset, int length, int level) {
+        checkLevel(level);
+        try (FastByteArrayOutputStream out = FastByteArrayOutputStream.pooled(Math.max(BufferPool.MIN_BUFFER_SIZE, length / 2))) {
+            Deflater deflater = acquireDeflater(level);
+            BufferPool pool = BufferPool.getDefault();
+            byte[] buffer = pool.acquire(BUFFER_SIZE);
+            try {
+                CRC32 crc = new CRC32();
+                crc.update(data, offset, length);
+                out.write(HEADER);
+                deflater.setInput(data, offset, length);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                writeTrailer(out, crc.getValue(), length);
+            } finally {
+                pool.release(buffer);
+                releaseDeflater(level, deflater);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        }
+    }
+
+    /**
+     * 使用默认压缩级别压缩流，不关闭输入输出流
+     *
+     * @param in  输入流
+     * @param out 输出流
+     * @return 写出的GZIP数据字节数
+     */
+    public static long compress(InputStream in, OutputStream out) {
+        return compress(in, out, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 压缩流，不关闭输入输出流
+     *
+     * @param in    输入流
+     * @param out   输出流
+     * @param level 压缩级别，取值[-1, 9]
+     * @return 写出的GZIP数据字节数
+     */
+    public static long compress(InputStream in, OutputStream out, int level) {
+        Objects.requireNonNull(in, "in == null");
+        Objects.requireNonNull(out, "out == null");
+        checkLevel(level);
+        Deflater deflater = acquireDeflater(level);
+        BufferPool pool = BufferPool.getDefault();
+        byte[] input = pool.acquire(BUFFER_SIZE);
+        byte[] output = pool.acquire(BUFFER_SIZE);
+        try {
+            CRC32 crc = new CRC32();
+            out.write(HEADER);
+            int n;
+            while ((n = in.read(input)) != -1) {
+                crc.update(input, 0, n);
+                deflater.setInput(input, 0, n);
+                while (!deflater.needsInput()) {
+                    out.write(output, 0, deflater.deflate(output));
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                out.write(output, 0, deflater.deflate(output));
+            }
+            writeTrailer(out, crc.getValue(), deflater.getBytesRead());
+            out.flush();
+            return HEADER.length + deflater.getBytesWritten() + TRAILER_SIZE;
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        } finally {
+            pool.release(input);
+            pool.release(output);
+            releaseDeflater(level, deflater);
+        }
+    }
+
+    /**
+     * 在公共{@linkplain ForkJoinPool}中并行压缩，不关闭输入输出流
+     *
+     * @param in    输入流
+     * @param out   输出流
+     * @param level 压缩级别，取值[-1, 9]
+     * @return 写出的GZIP数据字节数
+     * @see #compressParallel(InputStream, OutputStream, int, ForkJoinPool)
+     */
+    public static long compressParallel(InputStream in, OutputStream out, int level) {
+        return compressParallel(in, out, level, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行压缩，不关闭输入输出流
+     * <p>
+     * 输入按{@value #PARALLEL_BLOCK_SIZE}字节分块，每块独立压缩为一个完整的GZIP成员，再按顺序写出，
+     * 结果是合法的多成员GZIP数据，{@code gzip}命令、{@linkplain GZIPInputStream}和{@link #decompress(InputStream, OutputStream)}都可以解压。
+     * 压缩率比单成员略低，适合较大的输入。同时在途的块数不超过并行度的两倍。
+     * </p>
+     *
+     * @param in    输入流
+     * @param out   输出流
+     * @param level 压缩级别，取值[-1, 9]
+     * @param pool  执行压缩的线程池
+     * @return 写出的GZIP数据字节数
+     */
+    public static long compressParallel(InputStream in, OutputStream out, int level, ForkJoinPool pool) {
+        Objects.requireNonNull(in, "in == null");
+        Objects.requireNonNull(out, "out == null");
+        Objects.requireNonNull(pool, "pool == null");
+        checkLevel(level);
+        BufferPool bufferPool = BufferPool.getDefault();
+        Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+        int window = Math.max(2, pool.getParallelism() * 2);
+        long written = 0;
+        try {
+            boolean first = true;
+            while (true) {
+                byte[] block = bufferPool.acquire(PARALLEL_BLOCK_SIZE);
+                int length = readFully(in, block);
+                if (length == 0 && !first) {
+                    bufferPool.release(block);
+                    break;
+                }
+                first = false;
+                pending.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return compress(block, 0, length, level);
+                    } finally {
+                        bufferPool.release(block);
+                    }
+                }, pool));
+                if (pending.size() >= window) {
+                    written += writeMember(out, pending.poll());
+                }
+                if (length < block.length) {
+                    break;
+                }
+            }
+            while (!pending.isEmpty()) {
+                written += writeMember(out, pending.poll());
+            }
+            out.flush();
+            return written;
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        } finally {
+            for (CompletableFuture<byte[]> future : pending) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    // endregion
+
+    // region Decompress
+
+    /**
+     * 解压
+     *
+     * @param data GZIP数据，可以包含多个成员
+     * @return 原始数据
+     */
+    public static byte[] decompress(byte[] data) {
+        Objects.requireNonNull(data, "data == null");
+        try (FastByteArrayOutputStream out = FastByteArrayOutputStream.pooled(Math.max(BufferPool.MIN_BUFFER_SIZE, data.length * 4))) {
+            decompress(new ByteArrayInputStream(data), out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * 解压流，不关闭输入输出流
+     * <p>
+     * 依次解压所有成员，校验每个成员的CRC和长度；最后一个成员之后不是GZIP数据的内容会被忽略，与{@linkplain GZIPInputStream}一致。
+     * </p>
+     *
+     * @param in  GZIP输入流
+     * @param out 输出流
+     * @return 解压出的字节数
+     * @throws IoRuntimeException 读写失败或数据不是合法的GZIP格式
+     */
+    public static long decompress(InputStream in, OutputStream out) {
+        Objects.requireNonNull(in, "in == null");
+        Objects.requireNonNull(out, "out == null");
+        Inflater inflater = acquireInflater();
+        BufferPool pool = BufferPool.getDefault();
+        byte[] output = pool.acquire(BUFFER_SIZE);
+        Input input = new Input(in, pool.acquire(BUFFER_SIZE));
+        try {
+            long total = 0;
+            boolean first = true;
+            while (readHeader(input, first)) {
+                first = false;
+                inflater.reset();
+                CRC32 crc = new CRC32();
+                while (!inflater.finished()) {
+                    if (inflater.needsInput()) {
+                        if (!input.ensure(1)) {
+                            throw new EOFException("Unexpected end of ZLIB input stream");
+                        }
+                        inflater.setInput(input.buffer, input.position, input.limit - input.position);
+                        input.position = input.limit;
+                    }
+                    int n = inflater.inflate(output);
+                    if (n > 0) {
+                        crc.update(output, 0, n);
+                        out.write(output, 0, n);
+                        total += n;
+                    } else if (inflater.needsDictionary()) {
+                        throw new ZipException("Corrupt GZIP data");
+                    }
+                }
+                // 未被使用的输入是成员的尾部，以及可能的下一个成员
+                input.position = input.limit - inflater.getRemaining();
+                if (!input.ensure(TRAILER_SIZE)) {
+                    throw new EOFException("Unexpected end of GZIP trailer");
+                }
+                if (input.readIntLe() != crc.getValue() || input.readIntLe() != (inflater.getBytesWritten() & 0xFFFFFFFFL)) {
+                    throw new ZipException("Corrupt GZIP trailer");
+                }
+            }
+            out.flush();
+            return total;
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        } catch (DataFormatException e) {
+            throw new IoRuntimeException("Corrupt GZIP data", e);
+        } finally {
+            pool.release(output);
+            pool.release(input.buffer);
+            releaseInflater(inflater);
+        }
+    }
+
+    // endregion
+
+    private static void checkLevel(int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Illegal level,range[-1,9]");
+        }
+    }
+
+    private static Deflater acquireDeflater(int level) {
+        Deflater[] deflaters = DEFLATERS.get();
+        Deflater deflater = deflaters[level + 1];
+        if (deflater == null) {
+            return new Deflater(level, true);
+        }
+        deflaters[level + 1] = null;
+        deflater.reset();
+        return deflater;
+    }
+
+    private static void releaseDeflater(int level, Deflater deflater) {
+        Deflater[] deflaters = DEFLATERS.get();
+        if (deflaters[level + 1] == null) {
+            deflaters[level + 1] = deflater;
+        } else {
+            deflater.end();
+        }
+    }
+
+    private static Inflater acquireInflater() {
+        Inflater[] inflaters = INFLATERS.get();
+        Inflater inflater = inflaters[0];
+        if (inflater == null) {
+            return new Inflater(true);
+        }
+        inflaters[0] = null;
+        return inflater;
+    }
+
+    private static void releaseInflater(Inflater inflater) {
+        Inflater[] inflaters = INFLATERS.get();
+        if (inflaters[0] == null) {
+            inflaters[0] = inflater;
+        } else {
+            inflater.end();
+        }
+    }
+
+    private static void writeTrailer(OutputStream out, long crc, long size) throws IOException {
+        byte[] trailer = new byte[TRAILER_SIZE];
+        writeIntLe(trailer, 0, crc);
+        writeIntLe(trailer, 4, size);
+        out.write(trailer);
+    }
+
+    private static void writeIntLe(byte[] bytes, int offset, long value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >> 8);
+        bytes[offset + 2] = (byte) (value >> 16);
+        bytes[offset + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * 读取成员头
+     *
+     * @param input 输入
+     * @param first 是否是第一个成员
+     * @return 是否读取到成员头，第一个成员之后没有更多的GZIP数据时返回{@code false}
+     * @throws IOException 读取失败或第一个成员不是GZIP格式
+     */
+    private static boolean readHeader(Input input, boolean first) throws IOException {
+        if (!input.ensure(HEADER.length) || input.peekUnsignedShortLe() != GZIPInputStream.GZIP_MAGIC) {
+            if (first) {
+                throw new ZipException("Not in GZIP format");
+            }
+            return false;
+        }
+        input.position += 2;
+        if (input.readUnsignedByte() != Deflater.DEFLATED) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = input.readUnsignedByte();
+        // MTIME(4)、XFL(1)、OS(1)
+        input.skip(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            if (!input.ensure(2)) {
+                throw new EOFException("Unexpected end of GZIP header");
+            }
+            input.skip(input.readUnsignedByte() | input.readUnsignedByte() << 8);
+        }
+        if ((flags & FNAME) == FNAME) {
+            input.skipZeroTerminated();
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            input.skipZeroTerminated();
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            input.skip(2);
+        }
+        return true;
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int length = 0;
+        int n;
+        while (length < buffer.length && (n = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += n;
+        }
+        return length;
+    }
+
+    private static long writeMember(OutputStream out, CompletableFuture<byte[]> future) throws IOException {
+        byte[] member;
+        try {
+            member = future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IoRuntimeException("Failed to compress GZIP member", cause);
+        }
+        out.write(member);
+        return member.length;
+    }
+
+    /**
+     * 带缓冲的输入，解压时需要把{@linkplain Inflater}未使用的字节交还回来继续读取
+     */
+    private static final class Input {
+
+        private final InputStream in;
+
+        private final byte[] buffer;
+
+        private int position;
+
+        private int limit;
+
+        Input(InputStream in, byte[] buffer) {
+            this.in = in;
+            this.buffer = buffer;
+        }
+
+        /**
+         * 保证缓冲区中至少有{@code n}个字节可读
+         *
+         * @param n 字节数，不超过缓冲区大小
+         * @return 到达流末尾仍然不足时返回{@code false}
+         * @throws IOException 读取失败
+         */
+        boolean ensure(int n) throws IOException {
+            if (limit - position >= n) {
+                return true;
+            }
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            while (limit < n) {
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read == -1) {
+                    return false;
+                }
+                limit += read;
+            }
+            return true;
+        }
+
+        int readUnsignedByte() throws IOException {
+            if (!ensure(1)) {
+                throw new EOFException("Unexpected end of GZIP header");
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        int peekUnsignedShortLe() {
+            return (buffer[position] & 0xFF) | (buffer[position + 1] & 0xFF) << 8;
+        }
+
+        long readIntLe() {
+            long value = (buffer[position] & 0xFFL) | (buffer[position + 1] & 0xFFL) << 8
+                    | (buffer[position + 2] & 0xFFL) << 16 | (buffer[position + 3] & 0xFFL) << 24;
+            position += 4;
+            return value;
+        }
+
+        void skip(int n) throws IOException {
+            while (n > 0) {
+                if (!ensure(1)) {
+                    throw new EOFException("Unexpected end of GZIP header");
+                }
+                int skipped = Math.min(n, limit - position);
+                position += skipped;
+                n -= skipped;
+            }
+        }
+
+        void skipZeroTerminated() throws IOException {
+            while (readUnsignedByte() != 0) {
+                // skip
+            }
+        }
+
+    }
+
 }
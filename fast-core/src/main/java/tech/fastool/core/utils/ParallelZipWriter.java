@@ -0,0 +1,506 @@
+package tech.fastool.core.utils;
+
+import tech.fastool.core.exceptions.ZipRuntimeException;
+import tech.fastool.core.io.BufferPool;
+import tech.fastool.core.io.FastByteArrayOutputStream;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Charsets;
+import tech.fastool.core.thread.ThreadFactoryBuilder;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * 并行压缩的ZIP写出器
+ * <p>
+ * {@linkplain java.util.zip.ZipOutputStream}不能写入已经压缩好的数据，因此这里直接按ZIP格式写出：
+ * 每个文件在线程池中用独立的{@linkplain Deflater}压缩，同时计算CRC和大小，较小的结果保存在池化的内存中，
+ * 较大的写入临时文件；写出线程按文件顺序写入本地文件头和数据，最后写出中央目录。
+ * 同时在途的文件数不超过线程数的两倍，内存占用是有上限的。
+ * </p>
+ * <p>
+ * 超过4GB的文件、偏移量或超过65535个条目时使用ZIP64扩展。压缩后反而变大的文件改为直接存储（STORED）。
+ * </p>
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+final class ParallelZipWriter {
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+
+    private static final int ZIP64_END_SIG = 0x06064b50;
+
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+
+    private static final int END_SIG = 0x06054b50;
+
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    private static final int VERSION_DEFAULT = 20;
+
+    private static final int VERSION_ZIP64 = 45;
+
+    private static final int FLAG_UTF8 = 0x0800;
+
+    private static final int DIRECTORY_ATTRIBUTE = 0x10;
+
+    /**
+     * 压缩结果不超过此大小时保存在内存中，否则写入临时文件
+     */
+    private static final int MEMORY_THRESHOLD = 1 << 20;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+
+    private final WritableByteChannel channel;
+
+    private final ZipOptions options;
+
+    private final boolean utf8;
+
+    /**
+     * 中央目录，所有条目写出后追加到末尾
+     */
+    private final FastByteArrayOutputStream central = new FastByteArrayOutputStream(8192);
+
+    private final ByteBuffer header = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long offset;
+
+    private long entryCount;
+
+    ParallelZipWriter(OutputStream out, ZipOptions options) {
+        this.out = out;
+        this.channel = out.getClass() == FileOutputStream.class
+                ? ((FileOutputStream) out).getChannel() : Channels.newChannel(out);
+        this.options = options;
+        this.utf8 = Charsets.UTF_8.equals(options.getCharset());
+    }
+
+    /**
+     * 压缩并按顺序写出所有条目，以及中央目录
+     *
+     * @param sources 待写出的条目
+     * @throws IOException 写出失败
+     */
+    void write(List<Source> sources) throws IOException {
+        int parallelism = options.getParallelism();
+        if (parallelism <= 1 || sources.size() <= 1) {
+            for (Source source : sources) {
+                writeEntry(compress(source));
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                    ThreadFactoryBuilder.builder().namePrefix("fast-zip-").build());
+            Deque<Future<Compressed>> pending = new ArrayDeque<>();
+            int window = parallelism * 2;
+            try {
+                for (Source source : sources) {
+                    pending.add(executor.submit(() -> compress(source)));
+                    if (pending.size() >= window) {
+                        writeEntry(await(pending.poll()));
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    writeEntry(await(pending.poll()));
+                }
+            } finally {
+                executor.shutdownNow();
+                for (Future<Compressed> future : pending) {
+                    discard(future);
+                }
+            }
+        }
+        finish();
+    }
+
+    /**
+     * 压缩一个条目，在工作线程中执行
+     *
+     * @param source 条目
+     * @return 压缩结果
+     * @throws IOException 读取或压缩失败
+     */
+    private Compressed compress(Source source) throws IOException {
+        File file = source.file;
+        Compressed result = new Compressed(source, file.lastModified());
+        if (source.directory) {
+            result.method = ZipEntry.STORED;
+            return result;
+        }
+        if (options.getStoredPredicate().test(file)) {
+            return store(result);
+        }
+
+        long length = file.length();
+        CRC32 crc = new CRC32();
+        Deflater deflater = new Deflater(options.getLevel(), true);
+        File temp = null;
+        OutputStream sink;
+        if (length <= MEMORY_THRESHOLD) {
+            sink = FastByteArrayOutputStream.pooled((int) Math.max(BufferPool.MIN_BUFFER_SIZE, length / 2));
+        } else {
+            temp = File.createTempFile("fast-zip-", ".tmp");
+            sink = new FileOutputStream(temp);
+        }
+        BufferPool pool = BufferPool.getDefault();
+        byte[] buffer = pool.acquire(BUFFER_SIZE);
+        try (InputStream in = new FileInputStream(file)) {
+            DeflaterOutputStream deflaterOut = new DeflaterOutputStream(sink, deflater, BUFFER_SIZE);
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, n);
+                deflaterOut.write(buffer, 0, n);
+            }
+            deflaterOut.finish();
+            result.crc = crc.getValue();
+            result.size = deflater.getBytesRead();
+            result.compressedSize = deflater.getBytesWritten();
+            if (temp == null) {
+                result.data = ((FastByteArrayOutputStream) sink).toByteArray();
+            } else {
+                result.payload = temp;
+                result.temporary = true;
+            }
+        } catch (IOException | RuntimeException e) {
+            IOes.closeQuietly(sink);
+            deleteQuietly(temp);
+            throw e;
+        } finally {
+            pool.release(buffer);
+            deflater.end();
+            IOes.closeQuietly(sink);
+        }
+
+        if (result.compressedSize >= result.size) {
+            // 压缩后没有变小，直接存储原文件
+            result.discard();
+            return store(new Compressed(source, result.time));
+        }
+        result.method = ZipEntry.DEFLATED;
+        if (Thread.currentThread().isInterrupted()) {
+            result.discard();
+            throw new InterruptedIOException("Zip compression was cancelled");
+        }
+        return result;
+    }
+
+    /**
+     * 直接存储原文件，只需要计算CRC，数据在写出时直接从原文件传输
+     *
+     * @param result 压缩结果
+     * @return 压缩结果
+     * @throws IOException 读取失败
+     */
+    private static Compressed store(Compressed result) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        BufferPool pool = BufferPool.getDefault();
+        byte[] buffer = pool.acquire(BUFFER_SIZE);
+        try (InputStream in = new FileInputStream(result.source.file)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, n);
+                size += n;
+            }
+        } finally {
+            pool.release(buffer);
+        }
+        result.method = ZipEntry.STORED;
+        result.crc = crc.getValue();
+        result.size = size;
+        result.compressedSize = size;
+        result.payload = result.source.file;
+        return result;
+    }
+
+    private void writeEntry(Compressed entry) throws IOException {
+        try {
+            byte[] name = entry.source.name.getBytes(options.getCharset());
+            long localOffset = offset;
+            boolean zip64 = entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+            int version = zip64 ? VERSION_ZIP64 : VERSION_DEFAULT;
+            int flags = utf8 ? FLAG_UTF8 : 0;
+            long dosTime = toDosTime(entry.time);
+
+            header.clear();
+            header.putInt(LOCAL_HEADER_SIG)
+                    .putShort((short) version)
+                    .putShort((short) flags)
+                    .putShort((short) entry.method)
+                    .putInt((int) dosTime)
+                    .putInt((int) entry.crc)
+                    .putInt((int) (zip64 ? ZIP64_MAGIC : entry.compressedSize))
+                    .putInt((int) (zip64 ? ZIP64_MAGIC : entry.size))
+                    .putShort((short) name.length)
+                    .putShort((short) (zip64 ? 20 : 0));
+            writeHeader(name);
+            if (zip64) {
+                header.clear();
+                header.putShort((short) ZIP64_EXTRA_ID).putShort((short) 16)
+                        .putLong(entry.size).putLong(entry.compressedSize);
+                writeHeader(null);
+            }
+
+            long written;
+            if (entry.data != null) {
+                out.write(entry.data);
+                written = entry.data.length;
+            } else if (entry.payload != null) {
+                out.flush();
+                try (FileChannel in = FileChannel.open(entry.payload.toPath())) {
+                    written = IOes.copy(in, channel, false);
+                }
+            } else {
+                written = 0;
+            }
+            if (written != entry.compressedSize) {
+                throw new ZipRuntimeException("File '" + entry.source.file + "' changed while zipping");
+            }
+            offset += written;
+            writeCentral(entry, name, version, flags, dosTime, localOffset);
+            entryCount++;
+        } finally {
+            entry.discard();
+        }
+    }
+
+    private void writeCentral(Compressed entry, byte[] name, int version, int flags, long dosTime, long localOffset) {
+        boolean sizeZip64 = entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+        boolean offsetZip64 = localOffset >= ZIP64_MAGIC;
+        int extraLength = (sizeZip64 ? 16 : 0) + (offsetZip64 ? 8 : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(46 + name.length + (extraLength > 0 ? extraLength + 4 : 0))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(CENTRAL_HEADER_SIG)
+                .putShort((short) (extraLength > 0 ? VERSION_ZIP64 : version))
+                .putShort((short) (extraLength > 0 ? VERSION_ZIP64 : version))
+                .putShort((short) flags)
+                .putShort((short) entry.method)
+                .putInt((int) dosTime)
+                .putInt((int) entry.crc)
+                .putInt((int) (sizeZip64 ? ZIP64_MAGIC : entry.compressedSize))
+                .putInt((int) (sizeZip64 ? ZIP64_MAGIC : entry.size))
+                .putShort((short) name.length)
+                .putShort((short) (extraLength > 0 ? extraLength + 4 : 0))
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putInt(entry.source.directory ? DIRECTORY_ATTRIBUTE : 0)
+                .putInt((int) (offsetZip64 ? ZIP64_MAGIC : localOffset))
+                .put(name);
+        if (extraLength > 0) {
+            buffer.putShort((short) ZIP64_EXTRA_ID).putShort((short) extraLength);
+            if (sizeZip64) {
+                buffer.putLong(entry.size).putLong(entry.compressedSize);
+            }
+            if (offsetZip64) {
+                buffer.putLong(localOffset);
+            }
+        }
+        central.write(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * 写出中央目录和目录结束记录
+     *
+     * @throws IOException 写出失败
+     */
+    private void finish() throws IOException {
+        long centralOffset = offset;
+        long centralSize = central.size();
+        central.writeTo(out);
+        offset += centralSize;
+        boolean zip64 = entryCount >= ZIP64_MAGIC_COUNT || centralOffset >= ZIP64_MAGIC || centralSize >= ZIP64_MAGIC;
+        if (zip64) {
+            long zip64EndOffset = offset;
+            header.clear();
+            header.putInt(ZIP64_END_SIG)
+                    .putLong(44)
+                    .putShort((short) VERSION_ZIP64)
+                    .putShort((short) VERSION_ZIP64)
+                    .putInt(0)
+                    .putInt(0)
+                    .putLong(entryCount)
+                    .putLong(entryCount)
+                    .putLong(centralSize)
+                    .putLong(centralOffset);
+            writeHeader(null);
+            header.clear();
+            header.putInt(ZIP64_LOCATOR_SIG)
+                    .putInt(0)
+                    .putLong(zip64EndOffset)
+                    .putInt(1);
+            writeHeader(null);
+        }
+        int count = (int) Math.min(entryCount, ZIP64_MAGIC_COUNT);
+        header.clear();
+        header.putInt(END_SIG)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) count)
+                .putShort((short) count)
+                .putInt((int) Math.min(centralSize, ZIP64_MAGIC))
+                .putInt((int) Math.min(centralOffset, ZIP64_MAGIC))
+                .putShort((short) 0);
+        writeHeader(null);
+        out.flush();
+        central.close();
+    }
+
+    private void writeHeader(byte[] tail) throws IOException {
+        out.write(header.array(), 0, header.position());
+        offset += header.position();
+        if (tail != null) {
+            out.write(tail);
+            offset += tail.length;
+        }
+    }
+
+    private static Compressed await(Future<Compressed> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while zipping");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ZipRuntimeException("Failed to compress zip entry", cause);
+        }
+    }
+
+    /**
+     * 丢弃未写出的压缩结果，删除其临时文件
+     *
+     * @param future 压缩任务
+     */
+    private static void discard(Future<Compressed> future) {
+        if (future.cancel(true) || !future.isDone()) {
+            return;
+        }
+        try {
+            future.get().discard();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // ignore
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        if (file != null) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+    }
+
+    /**
+     * 转换为MS-DOS格式的时间，早于1980年的时间按1980-01-01处理
+     *
+     * @param time 毫秒时间
+     * @return DOS时间
+     */
+    private static long toDosTime(long time) {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        int year = dateTime.getYear();
+        if (year < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (long) (year - 1980) << 25 | dateTime.getMonthValue() << 21 | dateTime.getDayOfMonth() << 16
+                | dateTime.getHour() << 11 | dateTime.getMinute() << 5 | dateTime.getSecond() >> 1;
+    }
+
+    /**
+     * 待写出的条目
+     */
+    static final class Source {
+
+        private final File file;
+
+        private final String name;
+
+        private final boolean directory;
+
+        Source(File file, String name, boolean directory) {
+            this.file = file;
+            this.name = name;
+            this.directory = directory;
+        }
+
+    }
+
+    /**
+     * 压缩结果
+     */
+    private static final class Compressed {
+
+        private final Source source;
+
+        private final long time;
+
+        private int method;
+
+        private long crc;
+
+        private long size;
+
+        private long compressedSize;
+
+        /**
+         * 保存在内存中的压缩数据
+         */
+        private byte[] data;
+
+        /**
+         * 保存数据的文件，临时文件或直接存储的原文件
+         */
+        private File payload;
+
+        private boolean temporary;
+
+        Compressed(Source source, long time) {
+            this.source = source;
+            this.time = time;
+        }
+
+        void discard() {
+            data = null;
+            if (temporary) {
+                deleteQuietly(payload);
+                temporary = false;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,202 @@
+package tech.fastool.core.utils;
+
+import lombok.Getter;
+import tech.fastool.core.lang.Builder;
+import tech.fastool.core.lang.Charsets;
+import tech.fastool.core.lang.Files;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.Deflater;
+
+/**
+ * 压缩ZIP的配置项
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ * @see Zips#zip(File, ZipOptions, File...)
+ */
+@Getter
+public class ZipOptions {
+
+    /**
+     * 默认不再压缩的扩展名，这些格式本身已经压缩过，再次压缩几乎没有收益
+     */
+    public static final Set<String> DEFAULT_STORED_EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "zip", "jar", "war", "gz", "tgz", "bz2", "xz", "7z", "rar", "zst",
+            "jpg", "jpeg", "png", "gif", "webp", "mp3", "mp4", "avi", "mkv", "mov")));
+
+    /**
+     * 文件名编码
+     */
+    private final Charset charset;
+
+    /**
+     * 是否包含被打包目录
+     */
+    private final boolean withSrcDir;
+
+    /**
+     * 文件过滤器，为{@code null}时不过滤
+     */
+    private final FileFilter filter;
+
+    /**
+     * 压缩级别，取值[-1, 9]
+     */
+    private final int level;
+
+    /**
+     * 并行压缩的线程数
+     */
+    private final int parallelism;
+
+    /**
+     * 判断文件是否直接存储（STORED）而不压缩
+     */
+    private final Predicate<File> storedPredicate;
+
+    public ZipOptions(ZipOptionsBuilder builder) {
+        this.charset = builder.charset;
+        this.withSrcDir = builder.withSrcDir;
+        this.filter = builder.filter;
+        this.level = builder.level;
+        this.parallelism = builder.parallelism;
+        this.storedPredicate = builder.storedPredicate;
+    }
+
+    /**
+     * {@linkplain ZipOptions}的构建
+     */
+    public static class ZipOptionsBuilder implements Builder<ZipOptions> {
+
+        private Charset charset = Charsets.defaultCharset();
+
+        private boolean withSrcDir;
+
+        private FileFilter filter;
+
+        private int level = Deflater.DEFAULT_COMPRESSION;
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private Predicate<File> storedPredicate = file -> hasExtension(file, DEFAULT_STORED_EXTENSIONS);
+
+        /**
+         * 文件名编码，默认为系统编码
+         *
+         * @param charset 编码
+         */
+        public ZipOptionsBuilder charset(Charset charset) {
+            if (charset != null) {
+                this.charset = charset;
+            }
+            return this;
+        }
+
+        /**
+         * 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+         *
+         * @param withSrcDir 是否包含被打包目录
+         */
+        public ZipOptionsBuilder withSrcDir(boolean withSrcDir) {
+            this.withSrcDir = withSrcDir;
+            return this;
+        }
+
+        /**
+         * 文件过滤器，过滤掉的文件或文件夹不加入压缩
+         *
+         * @param filter 文件过滤器
+         */
+        public ZipOptionsBuilder filter(FileFilter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        /**
+         * 压缩级别，默认{@linkplain Deflater#DEFAULT_COMPRESSION}，取值[-1, 9]
+         *
+         * @param level 压缩级别
+         */
+        public ZipOptionsBuilder level(int level) {
+            if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+                throw new IllegalArgumentException("Illegal level,range[-1,9]");
+            }
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * 并行压缩的线程数，默认为CPU核数，为1时在调用线程中压缩
+         *
+         * @param parallelism 线程数
+         */
+        public ZipOptionsBuilder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Illegal parallelism,must be greater than 0");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * 直接存储（STORED）而不压缩的扩展名，不区分大小写，替换默认的{@link #DEFAULT_STORED_EXTENSIONS}
+         *
+         * @param extensions 扩展名，不包括点号
+         */
+        public ZipOptionsBuilder storedExtensions(String... extensions) {
+            Set<String> set = new HashSet<>();
+            for (String extension : extensions) {
+                set.add(extension.toLowerCase(Locale.ROOT));
+            }
+            return stored(file -> hasExtension(file, set));
+        }
+
+        /**
+         * 判断文件是否直接存储（STORED）而不压缩，默认按{@link #DEFAULT_STORED_EXTENSIONS}判断
+         *
+         * @param storedPredicate 判断条件
+         */
+        public ZipOptionsBuilder stored(Predicate<File> storedPredicate) {
+            if (storedPredicate != null) {
+                this.storedPredicate = storedPredicate;
+            }
+            return this;
+        }
+
+        /**
+         * 构建
+         *
+         * @return 被构建的对象
+         */
+        @Override
+        public ZipOptions build() {
+            return new ZipOptions(this);
+        }
+
+    }
+
+    private static boolean hasExtension(File file, Set<String> extensions) {
+        String extension = Files.getFileExt(file);
+        return extension != null && extensions.contains(extension.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * {@linkplain ZipOptionsBuilder}
+     *
+     * @return {@linkplain ZipOptionsBuilder}
+     */
+    public static ZipOptionsBuilder builder() {
+        return new ZipOptionsBuilder();
+    }
+
+}
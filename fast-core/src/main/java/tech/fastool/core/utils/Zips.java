@@ -4,14 +4,19 @@ import lombok.experimental.UtilityClass;
 import tech.fastool.core.exceptions.ZipRuntimeException;
 import tech.fastool.core.io.IOes;
 import tech.fastool.core.lang.*;
+import tech.fastool.core.thread.ThreadFactoryBuilder;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Enumeration;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipException;
-import java.util.zip.ZipFile;
-import java.util.zip.ZipOutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.zip.*;
 
 /**
  * ZIP工具类
@@ -141,20 +146,13 @@ public final class Zips {
      * @param srcFiles        要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
      */
     public static void zip(ZipOutputStream zipOutputStream, boolean withSrcDir, FileFilter filter, File... srcFiles) {
-        String srcRootDir;
         try {
             for (File srcFile : srcFiles) {
                 if (null == srcFile) {
                     continue;
                 }
-                // 如果只是压缩一个文件，则需要截取该文件的父目录
-                srcRootDir = srcFile.getCanonicalPath();
-                if (srcFile.isFile() || withSrcDir) {
-                    // 若是文件，则将父目录完整路径都截取掉；若设置包含目录，则将上级目录全部截取掉，保留本目录名
-                    srcRootDir = srcFile.getCanonicalFile().getParentFile().getCanonicalPath();
-                }
                 // 调用递归压缩方法进行目录或文件压缩
-                zip(srcFile, srcRootDir, zipOutputStream, filter);
+                zip(srcFile, getSrcRootDir(srcFile, withSrcDir), zipOutputStream, filter);
                 zipOutputStream.flush();
             }
         } catch (IOException e) {
@@ -162,6 +160,98 @@ public final class Zips {
         }
     }
 
+    /**
+     * 按配置并行压缩文件或文件目录
+     *
+     * @param zipFile  生成的Zip文件，包括文件名。注意：zipFile不能是srcFile(s)路径下的子文件夹
+     * @param options  压缩配置
+     * @param srcFiles 要压缩的源文件或目录
+     * @see ZipOptions
+     */
+    public static void zip(File zipFile, ZipOptions options, File... srcFiles) {
+        validateFiles(zipFile, srcFiles);
+        try (OutputStream out = Files.openFileOutputStream(zipFile)) {
+            zip(out, options, srcFiles);
+        } catch (IOException e) {
+            throw new ZipRuntimeException(e);
+        }
+    }
+
+    /**
+     * 按配置并行压缩文件或文件目录
+     * <p>
+     * 每个文件在线程池中独立压缩，再按文件顺序写入压缩包，结果与顺序压缩一致；
+     * 已经压缩过的格式（见{@linkplain ZipOptions#DEFAULT_STORED_EXTENSIONS}）直接存储，不再压缩。
+     * </p>
+     *
+     * @param out      生成的Zip到的目标流，不关闭此流
+     * @param options  压缩配置
+     * @param srcFiles 要压缩的源文件或目录
+     * @see ZipOptions
+     */
+    public static void zip(OutputStream out, ZipOptions options, File... srcFiles) {
+        Objects.requireNonNull(out, "out == null");
+        Objects.requireNonNull(options, "options == null");
+        List<ParallelZipWriter.Source> sources = new ArrayList<>();
+        try {
+            for (File srcFile : srcFiles) {
+                if (null == srcFile) {
+                    continue;
+                }
+                collect(srcFile, getSrcRootDir(srcFile, options.isWithSrcDir()), options.getFilter(), sources);
+            }
+            new ParallelZipWriter(out, options).write(sources);
+        } catch (IOException e) {
+            throw new ZipRuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取压缩时路径截取的根目录
+     *
+     * @param srcFile    源文件或目录
+     * @param withSrcDir 是否包含被打包目录
+     * @return 根目录
+     * @throws IOException 获取规范路径失败
+     */
+    private static String getSrcRootDir(File srcFile, boolean withSrcDir) throws IOException {
+        if (srcFile.isFile() || withSrcDir) {
+            // 若是文件，则将父目录完整路径都截取掉；若设置包含目录，则将上级目录全部截取掉，保留本目录名
+            return srcFile.getCanonicalFile().getParentFile().getCanonicalPath();
+        }
+        // 压缩目录时截取目录本身
+        return srcFile.getCanonicalPath();
+    }
+
+    /**
+     * 递归收集待压缩的文件和空目录，规则与{@link #zip(File, String, ZipOutputStream, FileFilter)}一致
+     *
+     * @param file       当前文件或目录
+     * @param srcRootDir 被压缩的文件夹根目录
+     * @param filter     文件过滤器
+     * @param sources    收集的条目
+     */
+    private static void collect(File file, String srcRootDir, FileFilter filter, List<ParallelZipWriter.Source> sources) {
+        if (null == file || (null != filter && !filter.accept(file))) {
+            return;
+        }
+        final String subPath = Files.getRelativePath(file, srcRootDir);
+        if (file.isDirectory()) {
+            final File[] files = file.listFiles();
+            if (Arrays.isEmpty(files)) {
+                if (Strings.hasLength(subPath)) {
+                    sources.add(new ParallelZipWriter.Source(file, Strings.addSuffixIfNot(subPath, Strings.SLASH), true));
+                }
+                return;
+            }
+            for (File childFile : files) {
+                collect(childFile, srcRootDir, filter, sources);
+            }
+        } else {
+            sources.add(new ParallelZipWriter.Source(file, subPath, false));
+        }
+    }
+
     /**
      * 递归压缩文件夹<br>
      * srcRootDir决定了路径截取的位置，例如：<br>
@@ -236,7 +326,7 @@ public final class Zips {
         }
         try {
             out.putNextEntry(new ZipEntry(path));
-            IOes.copy(in, out);
+            IOes.copy(in, out, false);
         } catch (IOException e) {
             throw new ZipRuntimeException(e);
         } finally {
@@ -376,13 +466,7 @@ public final class Zips {
      * @return 解压的目录
      */
     public static File unzip(File zipFile, File targetDir, Charset charset) {
-        ZipFile zip;
-        try {
-            zip = new ZipFile(zipFile, charset);
-        } catch (IOException e) {
-            throw new ZipRuntimeException(e);
-        }
-        return unzip(zip, targetDir);
+        return unzip(openZipFile(zipFile, charset), targetDir);
     }
 
     /**
@@ -392,59 +476,208 @@ public final class Zips {
      * @param outFile 解压到的目录
      * @return 解压的目录
      */
-    // @SuppressWarnings("unchecked")
     public static File unzip(ZipFile zipFile, File outFile) throws ZipRuntimeException {
+        return unzip(zipFile, outFile, null, 1);
+    }
+
+    /**
+     * 只解压满足条件的条目，使用UTF-8编码
+     *
+     * @param zipFile   zip文件
+     * @param targetDir 解压到的目录
+     * @param predicate 条目的过滤条件，为{@code null}时解压全部条目
+     * @return 解压的目录
+     */
+    public static File unzip(File zipFile, File targetDir, Predicate<? super ZipEntry> predicate) {
+        return unzip(openZipFile(zipFile, Charsets.UTF_8), targetDir, predicate, 1);
+    }
+
+    /**
+     * 并行解压
+     *
+     * @param zipFile     zip文件
+     * @param targetDir   解压到的目录
+     * @param charset     编码
+     * @param parallelism 并行解压的线程数
+     * @return 解压的目录
+     */
+    public static File unzip(File zipFile, File targetDir, Charset charset, int parallelism) {
+        return unzip(openZipFile(zipFile, charset), targetDir, null, parallelism);
+    }
+
+    /**
+     * 解压满足条件的条目
+     * <p>
+     * 利用{@linkplain ZipFile}的随机访问，只读取并解压满足条件的条目；{@code parallelism}大于1时，
+     * 先按顺序创建目录，再在线程池中并行解压各个文件。
+     * </p>
+     *
+     * @param zipFile     zip文件，附带编码信息，使用完毕自动关闭
+     * @param outFile     解压到的目录
+     * @param predicate   条目的过滤条件，为{@code null}时解压全部条目
+     * @param parallelism 并行解压的线程数，为1时在调用线程中解压
+     * @return 解压的目录
+     */
+    public static File unzip(ZipFile zipFile, File outFile, Predicate<? super ZipEntry> predicate, int parallelism) {
+        if (parallelism < 1) {
+            IOes.closeQuietly(zipFile);
+            throw new IllegalArgumentException("Illegal parallelism,must be greater than 0");
+        }
+        ExecutorService executor = null;
         try {
+            // 先校验全部条目的路径，任一条目越出目标目录（zip slip）时不创建任何目录和文件
+            File targetDir = outFile.getCanonicalFile();
+            List<ZipEntry> fileEntries = new ArrayList<>();
+            List<File> outItemFiles = new ArrayList<>();
+            List<File> dirs = new ArrayList<>();
             Enumeration<? extends ZipEntry> em = zipFile.entries();
-            ZipEntry zipEntry;
-            File outItemFile;
             while (em.hasMoreElements()) {
-                zipEntry = em.nextElement();
-                // FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
-                outItemFile = buildFile(outFile, zipEntry.getName());
+                ZipEntry zipEntry = em.nextElement();
+                if (predicate != null && !predicate.test(zipEntry)) {
+                    continue;
+                }
+                File outItemFile = buildFile(targetDir, zipEntry.getName());
                 if (zipEntry.isDirectory()) {
-                    // 创建对应目录
-                    //noinspection ResultOfMethodCallIgnored
-                    outItemFile.mkdirs();
+                    dirs.add(outItemFile);
                 } else {
-                    // 写出文件
-                    write(zipFile, zipEntry, outItemFile);
+                    fileEntries.add(zipEntry);
+                    outItemFiles.add(outItemFile);
                 }
             }
+            for (File dir : dirs) {
+                //noinspection ResultOfMethodCallIgnored
+                dir.mkdirs();
+            }
+            if (parallelism == 1 || fileEntries.size() <= 1) {
+                for (int i = 0; i < fileEntries.size(); i++) {
+                    write(zipFile, fileEntries.get(i), outItemFiles.get(i));
+                }
+                return outFile;
+            }
+
+            executor = Executors.newFixedThreadPool(Math.min(parallelism, fileEntries.size()),
+                    ThreadFactoryBuilder.builder().namePrefix("fast-unzip-").build());
+            List<Future<?>> futures = new ArrayList<>(fileEntries.size());
+            for (int i = 0; i < fileEntries.size(); i++) {
+                ZipEntry zipEntry = fileEntries.get(i);
+                File outItemFile = outItemFiles.get(i);
+                futures.add(executor.submit(() -> {
+                    write(zipFile, zipEntry, outItemFile);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
         } catch (IOException e) {
             throw new ZipRuntimeException(e);
         } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
             IOes.closeQuietly(zipFile);
         }
         return outFile;
     }
 
     /**
-     * 根据压缩包中的路径构建目录结构，在Win下直接构建，在Linux下拆分路径单独构建
+     * 从流中解压，适合从网络接收的压缩包，不需要先写入磁盘，使用UTF-8编码
      *
-     * @param outFile  最外部路径
-     * @param fileName 文件名，可以包含路径
-     * @return 文件或目录
+     * @param in        压缩包的输入流，不关闭此流
+     * @param targetDir 解压到的目录
+     * @return 解压的目录
      */
-    private static File buildFile(File outFile, String fileName) {
-        if (!Files.isWindows()
-                // 检查文件名中是否包含"/"，不考虑以"/"结尾的情况
-                && fileName.lastIndexOf(Chars.SLASH, fileName.length() - 2) > 0) {
-            // 在Linux下多层目录创建存在问题，/会被当成文件名的一部分，此处做处理
-            // 使用/拆分路径（zip中无\），级联创建父目录
-            final String[] pathParts = Strings.split(fileName, '/', true, false);
-            final int lastPartIndex = pathParts.length - 1;//目录个数
-            for (int i = 0; i < lastPartIndex; i++) {
-                //由于路径拆分，slip不检查，在最后一步检查
-                outFile = new File(outFile, pathParts[i]);
+    public static File unzip(InputStream in, File targetDir) {
+        return unzip(in, targetDir, Charsets.UTF_8, null);
+    }
+
+    /**
+     * 从流中解压满足条件的条目，适合从网络接收的压缩包，不需要先写入磁盘
+     * <p>
+     * 流只能顺序读取，因此条目按顺序逐个解压，不满足条件的条目直接跳过。
+     * </p>
+     *
+     * @param in        压缩包的输入流，不关闭此流
+     * @param targetDir 解压到的目录
+     * @param charset   编码
+     * @param predicate 条目的过滤条件，为{@code null}时解压全部条目
+     * @return 解压的目录
+     */
+    public static File unzip(InputStream in, File targetDir, Charset charset, Predicate<? super ZipEntry> predicate) {
+        Objects.requireNonNull(in, "in == null");
+        ZipInputStream zipIn = new ZipInputStream(in, charset == null ? Charsets.UTF_8 : charset);
+        try {
+            File canonicalDir = targetDir.getCanonicalFile();
+            ZipEntry zipEntry;
+            while ((zipEntry = zipIn.getNextEntry()) != null) {
+                if (predicate != null && !predicate.test(zipEntry)) {
+                    continue;
+                }
+                File outItemFile = buildFile(canonicalDir, zipEntry.getName());
+                if (zipEntry.isDirectory()) {
+                    //noinspection ResultOfMethodCallIgnored
+                    outItemFile.mkdirs();
+                } else {
+                    File parent = outItemFile.getParentFile();
+                    if (parent != null) {
+                        //noinspection ResultOfMethodCallIgnored
+                        parent.mkdirs();
+                    }
+                    try (OutputStream out = Files.openFileOutputStream(outItemFile)) {
+                        IOes.copy(zipIn, out, false);
+                    }
+                }
             }
-            //noinspection ResultOfMethodCallIgnored
-            outFile.mkdirs();
-            // 最后一个部分如果非空，作为文件名
-            fileName = pathParts[lastPartIndex];
+        } catch (IOException e) {
+            throw new ZipRuntimeException(e);
+        }
+        return targetDir;
+    }
+
+    private static ZipFile openZipFile(File zipFile, Charset charset) {
+        try {
+            return new ZipFile(zipFile, charset == null ? Charsets.UTF_8 : charset);
+        } catch (IOException e) {
+            throw new ZipRuntimeException(e);
+        }
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while unzipping");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ZipRuntimeException("Failed to unzip entry", cause);
+        }
+    }
+
+    /**
+     * 根据压缩包中的路径解析出目标文件，只做路径校验，不创建任何目录
+     * <p>
+     * 条目路径相对于规范化后的{@code targetDir}解析，解析结果不在{@code targetDir}之内时（zip slip，
+     * 漏洞说明见http://blog.nsfocus.net/zip-slip-2/）抛出异常。
+     * </p>
+     *
+     * @param targetDir 解压到的目录，必须是规范路径
+     * @param fileName  条目名，可以包含路径
+     * @return 规范化后的文件或目录
+     * @throws IOException              IO异常
+     * @throws IllegalArgumentException 条目越出解压目录
+     */
+    private static File buildFile(File targetDir, String fileName) throws IOException {
+        File targetFile = new File(targetDir, fileName).getCanonicalFile();
+        if (!Files.isSubPath(targetDir, targetFile)) {
+            throw new IllegalArgumentException("Zip entry is outside of the target dir: " + fileName);
         }
-        File targetFile = new File(outFile, fileName);
-        Files.checkSlip(outFile, targetFile);
         return targetFile;
     }
 
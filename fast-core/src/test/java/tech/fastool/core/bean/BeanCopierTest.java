@@ -0,0 +1,216 @@
+package tech.fastool.core.bean;
+
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import tech.fastool.core.date.ZoneConstant;
+import tech.fastool.core.exceptions.BeanException;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Beans;
+
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain BeanCopier}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class BeanCopierTest {
+
+    @Test
+    public void copy() {
+        User source = new User();
+        source.setId(1L);
+        source.setName("miles");
+        source.setAge(18);
+        source.setRemark("");
+
+        UserDto target = new UserDto();
+        Beans.copyProperties(source, target);
+        assertEquals(1L, target.getId());
+        assertEquals("miles", target.getName());
+        assertEquals(18, target.getAge());
+        assertEquals("", target.getRemark());
+
+        BeanCopier<User, UserDto> copier = BeanCopier.create(User.class, UserDto.class, null);
+        assertSame(copier, BeanCopier.create(User.class, UserDto.class, new CopyOption()));
+        assertNotSame(copier, BeanCopier.create(User.class, UserDto.class, new CopyOption("name")));
+        assertNotSame(copier, BeanCopier.create(UserDto.class, User.class, null));
+
+        BeanCopier.clearCache();
+        assertNotSame(copier, BeanCopier.create(User.class, UserDto.class, null));
+    }
+
+    @Test
+    public void targetClassNotPinned() throws Exception {
+        WeakReference<ClassLoader> loaderRef = copyToIsolatedTarget();
+        // 缓存不强引用目标类型，目标类型的类加载器可以被回收
+        for (int i = 0; i < 50 && loaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loaderRef.get());
+    }
+
+    private static WeakReference<ClassLoader> copyToIsolatedTarget() throws Exception {
+        ClassLoader loader = new IsolatedLoader(IsolatedDto.class.getName());
+        Class<?> targetClass = loader.loadClass(IsolatedDto.class.getName());
+        assertNotSame(IsolatedDto.class, targetClass);
+
+        User source = new User();
+        source.setName("miles");
+        Object target = BeanCopier.create(User.class, targetClass, null).copy(source);
+        assertEquals("miles", targetClass.getMethod("getName").invoke(target));
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    public void copyOption() {
+        User source = new User();
+        source.setName("miles");
+        source.setRemark("");
+
+        UserDto target = new UserDto();
+        target.setId(2L);
+        target.setAge(20);
+        target.setRemark("remark");
+        Beans.copyProperties(source, target, new CopyOption(true, "name").setIgnoreEmptyString(true));
+        assertEquals(2L, target.getId());
+        assertNull(target.getName());
+        assertEquals(20, target.getAge());
+        assertEquals("remark", target.getRemark());
+    }
+
+    @Test
+    public void nonPublicBean() {
+        HiddenUser source = new HiddenUser();
+        source.setName("miles");
+        source.setAge(18);
+        HiddenUser target = new HiddenUser();
+        Beans.copyProperties(source, target);
+        assertEquals("miles", target.getName());
+        assertEquals(18, target.getAge());
+    }
+
+    @Test
+    public void convert() {
+        ObjectHolder source = new ObjectHolder();
+        source.setName(1);
+        UserDto target = new UserDto();
+        Beans.copyProperties(source, target);
+        assertEquals("1", target.getName());
+
+        Order order = new Order();
+        order.setAmount("12");
+        order.setCreateTime(new Date(0));
+        OrderDto dto = Beans.copier(Order.class, OrderDto.class).copy(order);
+        assertEquals(12, dto.getAmount());
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(0), ZoneConstant.DEFAULT_ZONE_OFFSET), dto.getCreateTime());
+
+        order.setAmount("abc");
+        assertThrows(BeanException.class, () -> Beans.copier(Order.class, OrderDto.class).copy(order));
+    }
+
+    @Test
+    public void copyAll() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setName("user" + i);
+            users.add(user);
+        }
+        users.add(null);
+        List<UserDto> dtos = Beans.copier(User.class, UserDto.class).copyAll(users);
+        assertEquals(11, dtos.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, dtos.get(i).getId());
+            assertEquals("user" + i, dtos.get(i).getName());
+        }
+        assertNull(dtos.get(10));
+    }
+
+    @Data
+    public static class User {
+        private Long id;
+        private String name;
+        private Integer age;
+        private String remark;
+    }
+
+    @Data
+    public static class UserDto {
+        private long id;
+        private String name;
+        private int age;
+        private String remark;
+    }
+
+    @Data
+    public static class ObjectHolder {
+        private Object name;
+    }
+
+    @Data
+    public static class Order {
+        private String amount;
+        private Date createTime;
+    }
+
+    @Data
+    public static class OrderDto {
+        private int amount;
+        private LocalDateTime createTime;
+    }
+
+    @Data
+    static class HiddenUser {
+        private String name;
+        private int age;
+    }
+
+    @Data
+    public static class IsolatedDto {
+        private String name;
+    }
+
+    /**
+     * 自己加载指定类的类加载器，其他类委托给父加载器
+     */
+    static class IsolatedLoader extends ClassLoader {
+
+        private final String isolatedName;
+
+        IsolatedLoader(String isolatedName) {
+            super(BeanCopierTest.class.getClassLoader());
+            this.isolatedName = isolatedName;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isolatedName.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+                    byte[] bytes = IOes.readBytes(in, true);
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                return loaded;
+            }
+        }
+
+    }
+
+}
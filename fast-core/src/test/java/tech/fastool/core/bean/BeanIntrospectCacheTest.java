@@ -0,0 +1,87 @@
+package tech.fastool.core.bean;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain BeanIntrospectCache}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class BeanIntrospectCacheTest {
+
+    @Test
+    public void sameAsIntrospector() throws Exception {
+        BeanInfo beanInfo = Introspector.getBeanInfo(Person.class);
+        List<String> expected = new ArrayList<>();
+        for (PropertyDescriptor pd : beanInfo.getPropertyDescriptors()) {
+            if (!"class".equals(pd.getName())) {
+                expected.add(pd.getName() + ":" + pd.getReadMethod() + ":" + pd.getWriteMethod());
+            }
+        }
+        List<String> actual = BeanIntrospectCache.getInstance().getPropertyDescriptors(Person.class).stream()
+                .map(pd -> pd.getName() + ":" + pd.getReadMethod() + ":" + pd.getWriteMethod())
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void chainAndFluent() {
+        List<BeanProperty> chain = BeanIntrospectCache.getInstance().getProperties(ChainBean.class);
+        assertEquals(2, chain.size());
+        assertTrue(chain.stream().allMatch(p -> p.isReadable() && p.isWritable()));
+
+        List<BeanProperty> fluent = BeanIntrospectCache.getInstance().getProperties(FluentBean.class);
+        assertEquals(1, fluent.size());
+        BeanProperty property = fluent.get(0);
+        assertEquals("name", property.getName());
+        assertEquals(String.class, property.getType());
+        assertNotNull(property.getField());
+        assertTrue(property.isReadable() && property.isWritable());
+    }
+
+    @Test
+    public void warmUp() {
+        assertTrue(BeanIntrospectCache.getInstance().warmUp("tech.fastool.core.bean") > 0);
+    }
+
+    @Data
+    public static class Person {
+        private String name;
+        private int age;
+        private boolean active;
+        private Boolean verified;
+        private String URL;
+        private String xIndex;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    public static class ChainBean {
+        private String name;
+        private long id;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(fluent = true)
+    public static class FluentBean {
+        private String name;
+    }
+
+}
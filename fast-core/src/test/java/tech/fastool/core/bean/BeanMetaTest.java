@@ -0,0 +1,89 @@
+package tech.fastool.core.bean;
+
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import tech.fastool.core.lang.Beans;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain BeanMeta}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class BeanMetaTest {
+
+    @Test
+    public void indexOf() {
+        BeanMeta meta = BeanMeta.of(Account.class);
+        assertSame(meta, BeanMeta.of(Account.class));
+        assertEquals(4, meta.size());
+        for (int i = 0; i < meta.size(); i++) {
+            assertEquals(i, meta.indexOf(meta.getPropertyName(i)));
+        }
+        assertEquals(-1, meta.indexOf("class"));
+        assertEquals(-1, meta.indexOf("unknown"));
+        assertEquals(-1, meta.indexOf(null));
+        assertEquals(int.class, meta.getPropertyType(meta.indexOf("age")));
+    }
+
+    @Test
+    public void asMap() {
+        Account account = new Account();
+        account.setName("miles");
+        account.setAge(18);
+        Map<String, Object> map = Beans.asMap(account);
+        assertEquals(4, map.size());
+        assertEquals("miles", map.get("name"));
+        assertTrue(map.containsKey("email"));
+        assertNull(map.get("email"));
+        assertFalse(map.containsKey("unknown"));
+
+        // 视图直接读写bean
+        account.setEmail("miles@fastool.tech");
+        assertEquals("miles@fastool.tech", map.get("email"));
+        assertEquals(18, map.put("age", 20));
+        assertEquals(20, account.getAge());
+        assertThrows(IllegalArgumentException.class, () -> map.put("unknown", 1));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("name"));
+
+        Map<String, Object> copy = new HashMap<>(map);
+        assertEquals(copy, Beans.beanToMap(account));
+    }
+
+    @Test
+    public void beanToMapAndBack() {
+        Account account = new Account();
+        account.setName("miles");
+        Map<String, Object> map = Beans.beanToMap(account, true);
+        assertEquals(3, map.size());
+        assertEquals("miles", map.get("name"));
+        assertEquals(0, map.get("age"));
+        assertFalse(map.containsKey("email"));
+
+        Map<String, Object> source = new HashMap<>();
+        source.put("name", "tang");
+        source.put("age", "30");
+        source.put("active", null);
+        source.put("unknown", "x");
+        Account target = new Account();
+        Beans.mapToBean(source, target, null);
+        assertEquals("tang", target.getName());
+        assertEquals(30, target.getAge());
+        assertFalse(target.isActive());
+    }
+
+    @Data
+    public static class Account {
+        private String name;
+        private int age;
+        private String email;
+        private boolean active;
+    }
+
+}
@@ -0,0 +1,181 @@
+package tech.fastool.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain ConcurrentCache}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class ConcurrentCacheTest {
+
+    @Test
+    public void putAndGet() {
+        Cache<String, String> cache = CacheBuilder.<String, String>builder().build();
+        assertNull(cache.put("a", "1"));
+        assertEquals("1", cache.put("a", "2"));
+        assertEquals("2", cache.get("a"));
+        assertEquals("2", cache.putIfAbsent("a", "3"));
+        assertNull(cache.putIfAbsent("b", "3"));
+        assertEquals(2, cache.size());
+        assertEquals("3", cache.remove("b"));
+        assertNull(cache.get("b"));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void maximumSize() {
+        Cache<Integer, Integer> cache = CacheBuilder.<Integer, Integer>builder().maximumSize(10).build();
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+            // 保持0号被访问，CLOCK会给它第二次机会
+            assertEquals(0, cache.get(0));
+        }
+        assertTrue(cache.size() <= 10);
+        assertEquals(0, cache.get(0));
+    }
+
+    @Test
+    public void maximumSizeUpdateReferenced() {
+        Cache<Integer, Integer> cache = CacheBuilder.<Integer, Integer>builder().maximumSize(2).build();
+        cache.put(1, 1);
+        cache.put(2, 2);
+        // 覆盖写入等同于一次访问，CLOCK会给1号第二次机会
+        cache.put(1, 10);
+        cache.put(3, 3);
+        assertEquals(10, cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(3, cache.get(3));
+    }
+
+    @Test
+    public void maximumWeight() {
+        Cache<String, String> cache = CacheBuilder.<String, String>builder()
+                .maximumWeight(10)
+                .weigher((key, value) -> value.length())
+                .build();
+        cache.put("a", "12345");
+        cache.put("b", "12345");
+        cache.put("c", "12345");
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void expire() {
+        AtomicLong ticker = new AtomicLong();
+        Cache<String, String> cache = CacheBuilder.<String, String>builder()
+                .expireAfterWrite(10, TimeUnit.NANOSECONDS)
+                .ticker(ticker::get)
+                .build();
+        cache.put("a", "1");
+        ticker.set(5);
+        assertEquals("1", cache.get("a"));
+        ticker.set(10);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+
+        Cache<String, String> accessCache = CacheBuilder.<String, String>builder()
+                .expireAfterAccess(10, TimeUnit.NANOSECONDS)
+                .ticker(ticker::get)
+                .build();
+        accessCache.put("a", "1");
+        ticker.set(15);
+        assertEquals("1", accessCache.get("a"));
+        ticker.set(24);
+        assertEquals("1", accessCache.get("a"));
+        ticker.set(40);
+        accessCache.cleanUp();
+        assertEquals(0, accessCache.size());
+    }
+
+    @Test
+    public void computeIfAbsentAtomic() throws Exception {
+        Cache<String, Integer> cache = CacheBuilder.<String, Integer>builder().maximumSize(16).build();
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future[64];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    latch.await();
+                    return cache.computeIfAbsent("key", k -> loads.incrementAndGet());
+                });
+            }
+            latch.countDown();
+            for (Future<?> future : futures) {
+                assertEquals(1, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertNull(cache.computeIfAbsent("null", k -> null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void illegalBuilder() {
+        assertThrows(IllegalStateException.class, () -> CacheBuilder.<String, String>builder()
+                .maximumSize(1).maximumWeight(1).weigher((k, v) -> 1).build());
+        assertThrows(IllegalStateException.class, () -> CacheBuilder.<String, String>builder()
+                .weigher((k, v) -> 1).build());
+    }
+
+    @Test
+    public void stats() {
+        Cache<Integer, Integer> cache = CacheBuilder.<Integer, Integer>builder()
+                .name("test.stats")
+                .maximumSize(2)
+                .recordStats()
+                .build();
+        assertSame(cache, CacheRegistry.get("test.stats"));
+        cache.computeIfAbsent(1, k -> k);
+        cache.computeIfAbsent(1, k -> k);
+        cache.get(2);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(0.5, CacheRegistry.stats().get("test.stats").hitRate(), 0.2);
+        assertNotNull(CacheRegistry.unregister("test.stats"));
+
+        Cache<Integer, Integer> disabled = CacheBuilder.<Integer, Integer>builder().build();
+        disabled.get(1);
+        assertSame(CacheStats.EMPTY, disabled.getStats());
+    }
+
+    @Test
+    public void removalListener() {
+        List<RemovalCause> causes = new ArrayList<>();
+        Cache<String, String> cache = CacheBuilder.<String, String>builder()
+                .maximumSize(1)
+                .removalListener((key, value, cause) -> causes.add(cause))
+                .build();
+        cache.put("a", "1");
+        cache.put("a", "2");
+        // 覆盖写入后a被标记为已访问，超出容量时淘汰新写入的b
+        cache.put("b", "3");
+        assertNull(cache.get("b"));
+        cache.remove("a");
+        assertEquals(RemovalCause.REPLACED, causes.get(0));
+        assertEquals(RemovalCause.SIZE, causes.get(1));
+        assertEquals(RemovalCause.EXPLICIT, causes.get(2));
+        assertTrue(causes.get(1).wasEvicted());
+    }
+
+}
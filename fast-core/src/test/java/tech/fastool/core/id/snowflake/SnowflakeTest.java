@@ -1,9 +1,20 @@
 package tech.fastool.core.id.snowflake;
 
 import org.junit.jupiter.api.Test;
+import tech.fastool.core.exceptions.IdGeneratorException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Tester for {@linkplain FastSnowflake} and {@linkplain  TwitterSnowflake}
+ * Tester for {@linkplain FastSnowflake}, {@linkplain  TwitterSnowflake} and {@linkplain AtomicSnowflake}
  *
  * @author miles.tang
  * @version 0.0.1
@@ -41,4 +52,87 @@ public class SnowflakeTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void atomic() throws InterruptedException {
+        assertUnique(new AtomicSnowflake());
+    }
+
+    @Test
+    public void atomicSharded() throws InterruptedException {
+        assertUnique(new AtomicSnowflake(SnowFlakeOptions.builder().seqBitLength(10).shardCount(4).build()));
+    }
+
+    @Test
+    public void atomicLayout() {
+        SnowFlakeOptions options = SnowFlakeOptions.builder().workerId((short) 3).build();
+        long id = new AtomicSnowflake(options).nextId();
+        assertEquals(3, (id >>> options.getSeqBitLength()) & ((1 << options.getWorkerIdBitLength()) - 1));
+        assertEquals(options.getMinSeqNumber(), id & ((1 << options.getSeqBitLength()) - 1));
+    }
+
+    @Test
+    public void atomicStalledClock() {
+        AtomicSnowflake snowflake = new AtomicSnowflake() {
+            @Override
+            protected long getCurrentTimeTick() {
+                return 1000L;
+            }
+        };
+        // 时钟停滞时借完漂移额度后挂起等待，线程中断则抛出异常而不是空转
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IdGeneratorException.class, () -> {
+                for (; ; ) {
+                    snowflake.nextId();
+                }
+            });
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void createByRule() {
+        assertEquals(FastSnowflake.class, FastSnowflake.create(SnowFlakeOptions.builder().build()).getClass());
+        assertEquals(TwitterSnowflake.class, FastSnowflake.create(SnowFlakeOptions.builder().rule(SnowFlakeOptions.Rule.TRAD).build()).getClass());
+        assertEquals(AtomicSnowflake.class, FastSnowflake.create(SnowFlakeOptions.builder().rule(SnowFlakeOptions.Rule.ATOMIC).build()).getClass());
+    }
+
+    @Test
+    public void atomicBatch() {
+        AtomicSnowflake snowflake = new AtomicSnowflake();
+        long[] ids = new long[50000];
+        snowflake.nextIds(ids, 0, ids.length);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+        }
+        assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+    }
+
+    private void assertUnique(AtomicSnowflake snowflake) throws InterruptedException {
+        int threads = 8;
+        int perThread = 20000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicBoolean ordered = new AtomicBoolean(true);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                long last = 0;
+                for (int i = 0; i < perThread; i++) {
+                    long id = snowflake.nextId();
+                    if (id <= last) {
+                        ordered.set(false);
+                    }
+                    last = id;
+                    ids.add(id);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertTrue(ordered.get());
+        assertEquals(threads * perThread, ids.size());
+    }
+
+}
@@ -0,0 +1,57 @@
+package tech.fastool.core.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain BufferPool}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class BufferPoolTest {
+
+    @Test
+    public void acquireAndRelease() {
+        BufferPool pool = new BufferPool(1 << 16);
+        byte[] buffer = pool.acquire(1500);
+        assertEquals(2048, buffer.length);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(2000));
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(0).length);
+        byte[] large = pool.acquire(BufferPool.MAX_BUFFER_SIZE + 1);
+        assertEquals(BufferPool.MAX_BUFFER_SIZE + 1, large.length);
+        pool.release(large);
+        pool.release(new byte[3000]);
+        assertNotSame(large, pool.acquire(BufferPool.MAX_BUFFER_SIZE + 1));
+    }
+
+    @Test
+    public void pooledOutputStream() {
+        byte[] data = new byte[100_000];
+        new Random(7).nextBytes(data);
+        byte[] copy;
+        try (FastByteArrayOutputStream out = FastByteArrayOutputStream.pooled()) {
+            for (int i = 0; i < data.length; i += 777) {
+                out.write(data, i, Math.min(777, data.length - i));
+            }
+            assertEquals(data.length, out.size());
+            copy = out.toByteArray();
+        }
+        assertArrayEquals(data, copy);
+
+        FastByteArrayOutputStream out = FastByteArrayOutputStream.pooled();
+        out.writeTo(new FastByteArrayOutputStream());
+        out.write(1);
+        out.close();
+        assertEquals(0, out.size());
+    }
+
+}
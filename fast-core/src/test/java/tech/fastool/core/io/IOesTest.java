@@ -1,10 +1,16 @@
 package tech.fastool.core.io;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tech.fastool.core.lang.Charsets;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class IOesTest {
 
+    private static final int EOF_MARK = -1;
+
     @Test
     public void readBytes() {
         InputStream in = this.getClass().getClassLoader().getResourceAsStream("bytes.txt");
@@ -160,4 +168,43 @@ public class IOesTest {
 
     }
 
+    @Test
+    public void copyWithStats(@TempDir File tempDir) throws IOException {
+        byte[] data = new byte[300_000];
+        new Random(3).nextBytes(data);
+
+        FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+        CopyStats stats = IOes.copyWithStats(new ByteArrayInputStream(data), out, true);
+        assertEquals(data.length, stats.getBytes());
+        assertFalse(stats.isZeroCopy());
+        assertArrayEquals(data, out.toByteArray());
+
+        File source = new File(tempDir, "source.bin");
+        File target = new File(tempDir, "target.bin");
+        java.nio.file.Files.write(source.toPath(), data);
+        try (FileInputStream in = new FileInputStream(source); FileOutputStream fos = new FileOutputStream(target)) {
+            assertEquals(10, in.skip(10));
+            stats = IOes.copyWithStats(in, fos, false);
+            assertTrue(stats.isZeroCopy());
+            assertEquals(EOF_MARK, in.read());
+        }
+        assertEquals(data.length - 10, stats.getBytes());
+        assertArrayEquals(Arrays.copyOfRange(data, 10, data.length), java.nio.file.Files.readAllBytes(target.toPath()));
+    }
+
+    @Test
+    public void copyChannel(@TempDir File tempDir) throws IOException {
+        byte[] data = new byte[100_000];
+        new Random(5).nextBytes(data);
+        File target = new File(tempDir, "channel.bin");
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            assertEquals(data.length, IOes.copy(Channels.newChannel(new ByteArrayInputStream(data)), out, false));
+        }
+        FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+        try (FileChannel in = FileChannel.open(target.toPath())) {
+            assertEquals(data.length, IOes.copy(in, Channels.newChannel(out), false));
+        }
+        assertArrayEquals(data, out.toByteArray());
+    }
+
 }
\ No newline at end of file
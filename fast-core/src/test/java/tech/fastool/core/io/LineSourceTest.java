@@ -0,0 +1,90 @@
+package tech.fastool.core.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.fastool.core.lang.Charsets;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain LineSource}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class LineSourceTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void lines() {
+        try (LineSource source = LineSource.of(new StringReader("a\r\nb\rc\n\nd"))) {
+            assertEquals(Arrays.asList("a", "b", "c", "", "d"), source.lines().collect(Collectors.toList()));
+            assertThrows(IllegalStateException.class, source::iterator);
+        }
+    }
+
+    @Test
+    public void mapChunks() throws IOException {
+        List<String> expected = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            String line = "第" + i + "行" + (i % 7 == 0 ? "" : "-" + i * 31);
+            expected.add(line);
+            content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        File file = new File(tempDir, "lines.txt");
+        java.nio.file.Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<List<String>> chunks = LineSource.mapChunks(file, Charsets.UTF_8, 1000, ForkJoinPool.commonPool(),
+                lines -> lines.collect(Collectors.toList()));
+        assertTrue(chunks.size() > 1);
+        assertEquals(expected, chunks.stream().flatMap(List::stream).collect(Collectors.toList()));
+
+        List<Long> counts = LineSource.mapChunks(file, StandardCharsets.UTF_16, 1000, ForkJoinPool.commonPool(),
+                Stream::count);
+        assertEquals(1, counts.size());
+    }
+
+    @Test
+    public void mapChunksCarriageReturn() throws IOException {
+        List<String> expected = new ArrayList<>();
+        StringBuilder crOnly = new StringBuilder();
+        StringBuilder mixed = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            String line = "line" + i;
+            expected.add(line);
+            crOnly.append(line).append('\r');
+            mixed.append(line).append(i % 2 == 0 ? "\r\n" : "\r");
+        }
+        File crFile = new File(tempDir, "cr.txt");
+        java.nio.file.Files.write(crFile.toPath(), crOnly.toString().getBytes(StandardCharsets.UTF_8));
+        List<List<String>> chunks = LineSource.mapChunks(crFile, Charsets.UTF_8, 1000, ForkJoinPool.commonPool(),
+                lines -> lines.collect(Collectors.toList()));
+        assertTrue(chunks.size() > 1);
+        assertEquals(expected, chunks.stream().flatMap(List::stream).collect(Collectors.toList()));
+
+        // 不同的块大小让边界落在\r与\n之间，\r\n不能被拆开
+        File mixedFile = new File(tempDir, "mixed.txt");
+        java.nio.file.Files.write(mixedFile.toPath(), mixed.toString().getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize : new int[]{7, 8, 9, 10, 1000}) {
+            List<List<String>> mixedChunks = LineSource.mapChunks(mixedFile, Charsets.UTF_8, chunkSize, ForkJoinPool.commonPool(),
+                    lines -> lines.collect(Collectors.toList()));
+            assertEquals(expected, mixedChunks.stream().flatMap(List::stream).collect(Collectors.toList()), "chunkSize=" + chunkSize);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package tech.fastool.core.lang;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain Files}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class FilesTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void readBytes() throws IOException {
+        byte[] data = new byte[70_000];
+        new Random(11).nextBytes(data);
+        File file = new File(tempDir, "data.bin");
+        java.nio.file.Files.write(file.toPath(), data);
+        assertArrayEquals(data, Files.readBytes(file));
+
+        File empty = new File(tempDir, "empty.bin");
+        java.nio.file.Files.write(empty.toPath(), new byte[0]);
+        assertEquals(0, Files.readBytes(empty).length);
+    }
+
+    @Test
+    public void readLines() throws IOException {
+        File file = new File(tempDir, "lines.txt");
+        java.nio.file.Files.write(file.toPath(), "a\r\nb\nc".getBytes(Charsets.UTF_8));
+        assertEquals(Arrays.asList("a", "b", "c"), Files.readUtf8Lines(file));
+        assertEquals("a\r\nb\nc", Files.readUtf8String(file));
+    }
+
+    @Test
+    public void map() throws IOException {
+        File file = new File(tempDir, "map.txt");
+        java.nio.file.Files.write(file.toPath(), "mapped".getBytes(Charsets.UTF_8));
+        MappedByteBuffer buffer = Files.map(file);
+        assertTrue(buffer.isReadOnly());
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        assertEquals("mapped", new String(data, Charsets.UTF_8));
+    }
+
+}
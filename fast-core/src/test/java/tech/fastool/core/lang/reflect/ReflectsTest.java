@@ -0,0 +1,80 @@
+package tech.fastool.core.lang.reflect;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain Reflects}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class ReflectsTest {
+
+    @Test
+    public void fields() {
+        List<Field> fields = Reflects.getFields(Child.class);
+        assertSame(fields, Reflects.getFields(Child.class));
+        assertEquals("age", fields.get(0).getName());
+        assertEquals("name", fields.get(1).getName());
+        assertThrows(UnsupportedOperationException.class, () -> fields.add(null));
+        assertNotNull(Reflects.findField(Child.class, "name"));
+        assertNotNull(Reflects.findField(Child.class, "age", int.class));
+        assertNull(Reflects.findField(Child.class, "age", long.class));
+        assertNull(Reflects.findField(Child.class, "unknown"));
+        // 字段名是必须的，只指定类型时不匹配任何字段
+        assertNull(Reflects.findField(Child.class, null, int.class));
+    }
+
+    @Test
+    public void methods() throws Exception {
+        Method describe = Reflects.findMethod(Child.class, "describe");
+        assertEquals(Child.class, describe.getDeclaringClass());
+        assertNotNull(Reflects.findMethod(Child.class, "rename", String.class));
+        assertNotNull(Reflects.findMethod(Child.class, "hashCode"));
+        assertNull(Reflects.findMethod(Child.class, "rename", Integer.class));
+        assertEquals(1, Reflects.getMethods(Child.class).stream().filter(m -> m.getName().equals("describe")).count());
+    }
+
+    @Test
+    public void constructorsAndDefaults() {
+        assertSame(Reflects.getConstructorsFromCache(Child.class), Reflects.getConstructorsFromCache(Child.class));
+        Child child = Reflects.newInstance(Child.class);
+        assertNotNull(child);
+        assertEquals(0, Classes.getDefaultValue(int.class));
+        assertEquals(false, Classes.getDefaultValue(boolean.class));
+        assertEquals(0L, Classes.getDefaultValue(long.class));
+        assertNull(Classes.getDefaultValue(String.class));
+    }
+
+    static class Parent {
+        String name;
+
+        String describe() {
+            return "parent";
+        }
+
+        void rename(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Child extends Parent {
+        int age;
+
+        private Child() {
+        }
+
+        @Override
+        String describe() {
+            return "child";
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package tech.fastool.core.utils;
+
+import org.junit.jupiter.api.Test;
+import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Charsets;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain Gzips}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class GzipsTest {
+
+    @Test
+    public void compress() throws IOException {
+        byte[] data = text(200_000);
+        byte[] gzipped = Gzips.compress(data);
+        assertTrue(gzipped.length < data.length);
+        assertArrayEquals(data, Gzips.decompress(gzipped));
+        assertArrayEquals(data, IOes.readBytes(new GZIPInputStream(new ByteArrayInputStream(gzipped))));
+        assertArrayEquals(new byte[0], Gzips.decompress(Gzips.compress(new byte[0], 9)));
+        assertThrows(IllegalArgumentException.class, () -> Gzips.compress(data, 10));
+    }
+
+    @Test
+    public void compressStream() throws IOException {
+        byte[] data = new byte[300_000];
+        new Random(17).nextBytes(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = Gzips.compress(new ByteArrayInputStream(data), out, 1);
+        assertEquals(out.size(), written);
+        assertArrayEquals(data, IOes.readBytes(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))));
+
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        assertEquals(data.length, Gzips.decompress(new ByteArrayInputStream(out.toByteArray()), decompressed));
+        assertArrayEquals(data, decompressed.toByteArray());
+    }
+
+    @Test
+    public void decompressJdk() throws IOException {
+        byte[] data = text(50_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        // 两个成员拼接，第二个之后的垃圾数据被忽略
+        out.write(out.toByteArray());
+        out.write(new byte[]{1, 2, 3});
+        byte[] decompressed = Gzips.decompress(out.toByteArray());
+        assertEquals(data.length * 2, decompressed.length);
+
+        assertThrows(IoRuntimeException.class, () -> Gzips.decompress("not gzip".getBytes(Charsets.UTF_8)));
+        byte[] corrupt = Gzips.compress(data);
+        corrupt[corrupt.length - 5]++;
+        assertThrows(IoRuntimeException.class, () -> Gzips.decompress(corrupt));
+    }
+
+    @Test
+    public void compressParallel() throws IOException {
+        byte[] data = text(3_000_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = Gzips.compressParallel(new ByteArrayInputStream(data), out, 6);
+        assertEquals(out.size(), written);
+        assertArrayEquals(data, Gzips.decompress(out.toByteArray()));
+        assertArrayEquals(data, IOes.readBytes(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))));
+    }
+
+    private static byte[] text(int lines) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < lines; i++) {
+            builder.append("line ").append(i % 1000).append('\n');
+        }
+        return builder.toString().getBytes(Charsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,168 @@
+package tech.fastool.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Charsets;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain Zips}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class ZipsTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void zipParallel() throws IOException {
+        File srcDir = new File(tempDir, "src");
+        Map<String, byte[]> expected = createFiles(srcDir);
+        File zipFile = new File(tempDir, "parallel.zip");
+        Zips.zip(zipFile, ZipOptions.builder().charset(Charsets.UTF_8).parallelism(4).level(6).build(), srcDir);
+
+        try (ZipFile zip = new ZipFile(zipFile, Charsets.UTF_8)) {
+            Map<String, byte[]> actual = readEntries(zip);
+            assertEquals(expected.keySet(), actual.keySet());
+            for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
+                assertArrayEquals(entry.getValue(), actual.get(entry.getKey()), entry.getKey());
+            }
+            assertEquals(ZipEntry.STORED, zip.getEntry("image.png").getMethod());
+            assertEquals(ZipEntry.STORED, zip.getEntry("random.bin").getMethod());
+            assertEquals(ZipEntry.DEFLATED, zip.getEntry("dir/text.txt").getMethod());
+            assertTrue(zip.getEntry("empty/").isDirectory());
+        }
+    }
+
+    @Test
+    public void zipSequential() throws IOException {
+        File srcDir = new File(tempDir, "src");
+        Map<String, byte[]> expected = createFiles(srcDir);
+        File zipFile = new File(tempDir, "sequential.zip");
+        Zips.zip(zipFile, Charsets.UTF_8, false, srcDir);
+
+        try (ZipFile zip = new ZipFile(zipFile, Charsets.UTF_8)) {
+            Map<String, byte[]> actual = readEntries(zip);
+            assertEquals(expected.keySet(), actual.keySet());
+            assertArrayEquals(expected.get("large.txt"), actual.get("large.txt"));
+        }
+    }
+
+    @Test
+    public void unzip() throws IOException {
+        File srcDir = new File(tempDir, "src");
+        Map<String, byte[]> expected = createFiles(srcDir);
+        File zipFile = new File(tempDir, "archive.zip");
+        Zips.zip(zipFile, ZipOptions.builder().charset(Charsets.UTF_8).build(), srcDir);
+
+        File parallelDir = Zips.unzip(zipFile, new File(tempDir, "parallel"), Charsets.UTF_8, 4);
+        for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
+            File file = new File(parallelDir, entry.getKey());
+            if (entry.getKey().endsWith("/")) {
+                assertTrue(file.isDirectory());
+            } else {
+                assertArrayEquals(entry.getValue(), java.nio.file.Files.readAllBytes(file.toPath()), entry.getKey());
+            }
+        }
+
+        File selectedDir = Zips.unzip(zipFile, new File(tempDir, "selected"), e -> e.getName().startsWith("many/"));
+        assertEquals(20, Objects.requireNonNull(new File(selectedDir, "many").list()).length);
+        assertFalse(new File(selectedDir, "large.txt").exists());
+
+        File streamDir = new File(tempDir, "stream");
+        try (InputStream in = new FileInputStream(zipFile)) {
+            Zips.unzip(in, streamDir, Charsets.UTF_8, e -> !e.getName().endsWith(".bin"));
+        }
+        assertArrayEquals(expected.get("large.txt"), java.nio.file.Files.readAllBytes(new File(streamDir, "large.txt").toPath()));
+        assertFalse(new File(streamDir, "random.bin").exists());
+    }
+
+    @Test
+    public void unzipSlip() throws IOException {
+        File zipFile = new File(tempDir, "slip.zip");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(zipFile), Charsets.UTF_8)) {
+            out.putNextEntry(new ZipEntry("good.txt"));
+            out.write("good".getBytes(Charsets.UTF_8));
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry("../evil/pwned.txt"));
+            out.write("evil".getBytes(Charsets.UTF_8));
+            out.closeEntry();
+        }
+        File evilDir = new File(tempDir, "evil");
+
+        assertThrows(IllegalArgumentException.class, () -> Zips.unzip(zipFile, new File(tempDir, "out")));
+        assertThrows(IllegalArgumentException.class, () -> Zips.unzip(zipFile, new File(tempDir, "parallel"), Charsets.UTF_8, 4));
+        assertThrows(IllegalArgumentException.class, () -> Zips.unzip(zipFile, new File(tempDir, "selected"), e -> true));
+        assertFalse(new File(tempDir, "out/good.txt").exists());
+        try (InputStream in = new FileInputStream(zipFile)) {
+            assertThrows(IllegalArgumentException.class, () -> Zips.unzip(in, new File(tempDir, "stream")));
+        }
+        assertFalse(evilDir.exists());
+
+        // 前缀相同的兄弟目录同样不能写入
+        File siblingZip = new File(tempDir, "sibling.zip");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(siblingZip), Charsets.UTF_8)) {
+            out.putNextEntry(new ZipEntry("../outx/pwned.txt"));
+            out.closeEntry();
+        }
+        assertThrows(IllegalArgumentException.class, () -> Zips.unzip(siblingZip, new File(tempDir, "out")));
+        assertFalse(new File(tempDir, "outx").exists());
+    }
+
+    private static Map<String, byte[]> createFiles(File dir) throws IOException {
+        Map<String, byte[]> files = new HashMap<>();
+        Random random = new Random(17);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("line ").append(i).append('\n');
+        }
+        files.put("dir/text.txt", text.toString().getBytes(Charsets.UTF_8));
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 300_000; i++) {
+            large.append(i % 97).append(',');
+        }
+        files.put("large.txt", large.toString().getBytes(Charsets.UTF_8));
+        byte[] randomBytes = new byte[50_000];
+        random.nextBytes(randomBytes);
+        files.put("random.bin", randomBytes);
+        files.put("image.png", text.toString().getBytes(Charsets.UTF_8));
+        files.put("blank.txt", new byte[0]);
+        for (int i = 0; i < 20; i++) {
+            files.put("many/" + i + ".txt", ("file " + i).getBytes(Charsets.UTF_8));
+        }
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            File file = new File(dir, entry.getKey());
+            assertTrue(file.getParentFile().isDirectory() || file.getParentFile().mkdirs());
+            java.nio.file.Files.write(file.toPath(), entry.getValue());
+        }
+        assertTrue(new File(dir, "empty").mkdirs());
+        files.put("empty/", new byte[0]);
+        return files;
+    }
+
+    private static Map<String, byte[]> readEntries(ZipFile zip) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        Enumeration<? extends ZipEntry> enumeration = zip.entries();
+        while (enumeration.hasMoreElements()) {
+            ZipEntry entry = enumeration.nextElement();
+            entries.put(entry.getName(), IOes.readBytes(zip.getInputStream(entry)));
+        }
+        return entries;
+    }
+
+}
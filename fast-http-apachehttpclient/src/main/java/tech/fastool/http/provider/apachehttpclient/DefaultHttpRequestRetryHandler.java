@@ -22,6 +22,11 @@ import java.net.UnknownHostException;
  */
 public class DefaultHttpRequestRetryHandler implements HttpRequestRetryHandler {
 
+    /**
+     * 单次请求的重试次数，存放在{@linkplain HttpContext}中，优先于构造时的重试次数
+     */
+    public static final String RETRY_COUNT_ATTRIBUTE = "fast.http.retry-count";
+
     private final int retryCount;
 
     public DefaultHttpRequestRetryHandler(int retryCount) {
@@ -30,8 +35,14 @@ public class DefaultHttpRequestRetryHandler implements HttpRequestRetryHandler {
 
     @Override
     public boolean retryRequest(IOException exception, int executionCount, HttpContext context) {
+        // 连接池中的空闲连接可能已被服务器关闭，不论重试次数如何都在新连接上重试一次
+        if (exception instanceof NoHttpResponseException && executionCount <= 1) {
+            return true;
+        }
+        Object scopedRetryCount = context.getAttribute(RETRY_COUNT_ATTRIBUTE);
+        int maxCount = scopedRetryCount instanceof Integer ? (Integer) scopedRetryCount : retryCount;
         // 如果已经重试了n次，就放弃
-        if (executionCount >= retryCount) {
+        if (executionCount >= maxCount) {
             return false;
         }
         // 如果服务器丢掉了连接，那么就重试
@@ -9,13 +9,19 @@ import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.Configurable;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.FileEntity;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +43,7 @@ import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -46,67 +53,84 @@ import java.util.stream.Collectors;
  * @version 0.0.1
  * @date 2022-06-06
  */
-public class HttpComponentsHttpClient implements HttpClient {
+public class HttpComponentsHttpClient implements HttpClient, Closeable {
+
+    /**
+     * 默认的重试次数，与{@code HttpClient}自身的默认值一致
+     */
+    private static final int DEFAULT_RETRY_COUNT = 3;
 
     private final org.apache.http.client.HttpClient httpClient;
 
+    /**
+     * 是否由本类创建的{@code HttpClient}，是则在{@link #close()}时关闭
+     */
+    private final boolean managed;
+
     public HttpComponentsHttpClient() {
         this((HttpOptions) null);
     }
 
     public HttpComponentsHttpClient(@NotNull org.apache.http.client.HttpClient httpClient) {
         this.httpClient = Objects.requireNonNull(httpClient, "httpClient == null");
+        this.managed = false;
     }
 
     public HttpComponentsHttpClient(@Nullable HttpOptions options) {
-        this.httpClient = build(options, null);
+        this.httpClient = build(options);
+        this.managed = true;
     }
 
-    org.apache.http.client.HttpClient build(@Nullable HttpOptions options, @Nullable org.apache.http.client.HttpClient httpClient) {
-        if (options == null) {
-            return HttpClientBuilder.create().build();
-        } else {
-            HttpClientBuilder builder = HttpClientBuilder.create();
-            RequestConfig.Builder customBuilder = ((httpClient instanceof Configurable) ?
-                    RequestConfig.copy(((Configurable) httpClient).getConfig()) : RequestConfig.custom())
-                    .setConnectTimeout(options.connectTimeoutMillis())
-                    .setSocketTimeout(options.readTimeoutMillis())
-                    .setRedirectsEnabled(options.followRedirects());
-
-            // 代理
-            ProxyInfo proxyInfo = options.proxyInfo();
-            if (proxyInfo != null) {
-                builder.setProxy(new HttpHost(proxyInfo.hostOrIp(), proxyInfo.port(), proxyInfo.type().name()));
-
-                if (Strings.isAllNotBlank(proxyInfo.username(), proxyInfo.password())) {
-                    CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-                    credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(proxyInfo.username(), proxyInfo.password()));
-                    builder.setDefaultCredentialsProvider(credentialsProvider);
-                }
+    /**
+     * 创建带连接池的{@code HttpClient}，连接池参数取自{@code options}，为{@code null}时取{@linkplain HttpOptions#DEFAULT_OPTIONS}
+     *
+     * @param options 配置项
+     * @return {@code HttpClient}
+     */
+    CloseableHttpClient build(@Nullable HttpOptions options) {
+        HttpOptions poolOptions = options == null ? HttpOptions.DEFAULT_OPTIONS : options;
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(poolOptions.maxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(poolOptions.maxConnectionsPerRoute());
+
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(poolOptions.idleConnectionTimeoutMillis(), TimeUnit.MILLISECONDS)
+                // 未设置时与HttpClient默认的重试次数一致
+                .setRetryHandler(new DefaultHttpRequestRetryHandler(options == null || options.retryCount() <= 0
+                        ? DEFAULT_RETRY_COUNT : options.retryCount()));
+        if (options != null) {
+            builder.setDefaultRequestConfig(requestConfig(RequestConfig.custom(), options));
+            CredentialsProvider credentialsProvider = credentialsProvider(options.proxyInfo());
+            if (credentialsProvider != null) {
+                builder.setDefaultCredentialsProvider(credentialsProvider);
             }
-
-            // 重试机制
-            if (options.retryCount() > 0) {
-                builder.setRetryHandler(new DefaultHttpRequestRetryHandler(options.retryCount()));
-            }
-
-            builder.setDefaultRequestConfig(customBuilder.build());
-            return builder.build();
         }
+        return builder.build();
     }
 
     @Override
     public HttpResponse execute(@NotNull HttpRequest request, HttpOptions options) throws IoRuntimeException {
         try {
             HttpUriRequest httpUriRequest = toHttpUriRequest(request);
-            org.apache.http.client.HttpClient httpClientScoped;
-
-            if (options == null) {
-                httpClientScoped = httpClient;
-            } else {
-                httpClientScoped = build(options, httpClient);
+            HttpClientContext context = HttpClientContext.create();
+            if (options != null) {
+                // 单次请求的配置通过RequestConfig作用在共享的连接池上，不再为每次请求创建HttpClient
+                RequestConfig.Builder configBuilder = httpClient instanceof Configurable
+                        && ((Configurable) httpClient).getConfig() != null
+                        ? RequestConfig.copy(((Configurable) httpClient).getConfig()) : RequestConfig.custom();
+                context.setRequestConfig(requestConfig(configBuilder, options));
+                // 重试次数为0表示沿用客户端的默认值
+                if (options.retryCount() > 0) {
+                    context.setAttribute(DefaultHttpRequestRetryHandler.RETRY_COUNT_ATTRIBUTE, options.retryCount());
+                }
+                CredentialsProvider credentialsProvider = credentialsProvider(options.proxyInfo());
+                if (credentialsProvider != null) {
+                    context.setCredentialsProvider(credentialsProvider);
+                }
             }
-            org.apache.http.HttpResponse httpResponse = httpClientScoped.execute(httpUriRequest);
+            org.apache.http.HttpResponse httpResponse = httpClient.execute(httpUriRequest, context);
             return toApiResponse(httpResponse, request);
         } catch (URISyntaxException e) {
             throw new IoRuntimeException("URL '" + request.url() + "' couldn't be parsed into a URI", e);
@@ -117,6 +141,41 @@ public class HttpComponentsHttpClient implements HttpClient {
         }
     }
 
+    /**
+     * 关闭连接池，只关闭由本类创建的{@code HttpClient}
+     *
+     * @throws IOException 关闭失败
+     */
+    @Override
+    public void close() throws IOException {
+        if (managed && httpClient instanceof Closeable) {
+            ((Closeable) httpClient).close();
+        }
+    }
+
+    private static RequestConfig requestConfig(RequestConfig.Builder builder, HttpOptions options) {
+        builder.setConnectTimeout(options.connectTimeoutMillis())
+                .setSocketTimeout(options.readTimeoutMillis())
+                .setConnectionRequestTimeout(options.connectionRequestTimeoutMillis())
+                .setRedirectsEnabled(options.followRedirects());
+        // 代理
+        ProxyInfo proxyInfo = options.proxyInfo();
+        if (proxyInfo != null && proxyInfo.hostOrIp() != null) {
+            builder.setProxy(new HttpHost(proxyInfo.hostOrIp(), proxyInfo.port(), proxyInfo.type().name()));
+        }
+        return builder.build();
+    }
+
+    @Nullable
+    private static CredentialsProvider credentialsProvider(@Nullable ProxyInfo proxyInfo) {
+        if (proxyInfo == null || !Strings.isAllNotBlank(proxyInfo.username(), proxyInfo.password())) {
+            return null;
+        }
+        CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(proxyInfo.username(), proxyInfo.password()));
+        return credentialsProvider;
+    }
+
     private HttpUriRequest toHttpUriRequest(HttpRequest request) throws URISyntaxException {
         RequestBuilder requestBuilder = RequestBuilder.create(request.method().name());
         URIBuilder uriBuilder = new URIBuilder(request.url());
@@ -168,6 +227,12 @@ public class HttpComponentsHttpClient implements HttpClient {
                         multipartEntityBuilder.addBinaryBody(part.getName(), part.getFile());
                     } else if (part.getIn() != null) {
                         multipartEntityBuilder.addBinaryBody(part.getName(), part.getIn(), partContentType, part.getValue());
+                    } else if (part.getBody() instanceof HttpFileBody) {
+                        multipartEntityBuilder.addBinaryBody(part.getName(), ((HttpFileBody) part.getBody()).getFile(),
+                                partContentType, part.getValue());
+                    } else if (part.getBody() instanceof HttpStreamBody) {
+                        multipartEntityBuilder.addBinaryBody(part.getName(), part.getBody().byteStream(),
+                                partContentType, part.getValue());
                     } else if (part.getBody() != null) {
                         multipartEntityBuilder.addBinaryBody(part.getName(), part.getBody().getData(),
                                 partContentType, part.getValue());
@@ -177,11 +242,19 @@ public class HttpComponentsHttpClient implements HttpClient {
                 }
                 requestBuilder.setEntity(multipartEntityBuilder.build());
             } else {
-                ByteArrayEntity byteArrayEntity = new ByteArrayEntity(request.body().getData());
+                // 文件和流在发送时按块写出，不整体读入内存
+                AbstractHttpEntity entity;
+                if (request.body() instanceof HttpFileBody) {
+                    entity = new FileEntity(((HttpFileBody) request.body()).getFile());
+                } else if (request.body() instanceof HttpStreamBody) {
+                    entity = new InputStreamEntity(request.body().byteStream(), request.body().contentLength());
+                } else {
+                    entity = new ByteArrayEntity(request.body().getData());
+                }
                 if (request.body().contentType() != null) {
-                    byteArrayEntity.setContentType(contentType.toString());
+                    entity.setContentType(contentType.toString());
                 }
-                requestBuilder.setEntity(byteArrayEntity);
+                requestBuilder.setEntity(entity);
             }
         } else {
             requestBuilder.setEntity(new ByteArrayEntity(new byte[0]));
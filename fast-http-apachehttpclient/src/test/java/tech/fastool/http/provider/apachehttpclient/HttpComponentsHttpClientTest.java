@@ -0,0 +1,117 @@
+package tech.fastool.http.provider.apachehttpclient;
+
+import org.junit.jupiter.api.Test;
+import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.lang.Charsets;
+import tech.fastool.http.api.*;
+import tech.fastool.http.api.constants.HttpMethod;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain HttpComponentsHttpClient}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class HttpComponentsHttpClientTest extends AbstractHttpClientTest {
+
+    @Override
+    protected HttpClient newClient(HttpOptions options) {
+        return new HttpComponentsHttpClient(options);
+    }
+
+    @Test
+    public void defaultRetry() throws IOException {
+        try (FlakyServer flaky = new FlakyServer(2)) {
+            assertEquals("ok", execute(new HttpComponentsHttpClient(), flaky, null));
+            assertEquals(3, flaky.attempts.get());
+        }
+        try (FlakyServer flaky = new FlakyServer(4)) {
+            assertThrows(IoRuntimeException.class, () -> execute(new HttpComponentsHttpClient(), flaky, null));
+            assertEquals(3, flaky.attempts.get());
+        }
+    }
+
+    @Test
+    public void perRequestOptionsKeepDefaultRetry() throws IOException {
+        // 只覆盖超时的单次配置（retryCount为0）沿用客户端的重试次数
+        HttpOptions timeoutOnly = HttpOptions.DEFAULT_OPTIONS.newBuilder().readTimeoutMillis(5000).build();
+        try (FlakyServer flaky = new FlakyServer(2)) {
+            assertEquals("ok", execute(new HttpComponentsHttpClient(), flaky, timeoutOnly));
+            assertEquals(3, flaky.attempts.get());
+        }
+    }
+
+    @Test
+    public void perRequestRetryCount() throws IOException {
+        HttpOptions moreRetries = HttpOptions.DEFAULT_OPTIONS.newBuilder().retryCount(5).build();
+        try (FlakyServer flaky = new FlakyServer(4)) {
+            assertEquals("ok", execute(new HttpComponentsHttpClient(), flaky, moreRetries));
+            assertEquals(5, flaky.attempts.get());
+        }
+    }
+
+    private static String execute(HttpComponentsHttpClient client, FlakyServer flaky, HttpOptions options) throws IOException {
+        try {
+            HttpRequest request = HttpRequest.builder().url(flaky.url()).method(HttpMethod.GET).build();
+            try (HttpResponse response = client.execute(request, options)) {
+                return response.body().string(Charsets.UTF_8);
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * 前{@code failures}个连接读取请求后直接断开，不返回响应
+     */
+    private static class FlakyServer implements Closeable {
+
+        private final ServerSocket serverSocket;
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        FlakyServer(int failures) throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
+                    try (Socket socket = serverSocket.accept()) {
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), Charsets.ISO_8859_1));
+                        String line;
+                        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                            // 跳过请求头
+                        }
+                        if (attempts.incrementAndGet() > failures) {
+                            OutputStream out = socket.getOutputStream();
+                            out.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\nConnection: close\r\n\r\nok".getBytes(Charsets.ISO_8859_1));
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        // 服务器已关闭
+                    }
+                }
+            }, "flaky-server");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + serverSocket.getLocalPort() + "/flaky";
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -38,6 +39,20 @@ public interface HttpClient {
      */
     HttpResponse execute(@NotNull HttpRequest request, @Nullable HttpOptions httpOptions) throws IoRuntimeException;
 
+    /**
+     * 异步执行HTTP请求
+     * <p>
+     * 默认在{@link Utils#asyncExecutor()}中执行{@link #execute(HttpRequest, HttpOptions)}，支持非阻塞IO的实现应当覆盖此方法。
+     * </p>
+     *
+     * @param request     请求对象
+     * @param httpOptions 请求选项
+     * @return 执行结果，请求异常时以{@linkplain IoRuntimeException}异常完成
+     */
+    default CompletableFuture<HttpResponse> executeAsync(@NotNull HttpRequest request, @Nullable HttpOptions httpOptions) {
+        return CompletableFuture.supplyAsync(() -> execute(request, httpOptions), Utils.asyncExecutor());
+    }
+
     /**
      * 实现一个简单的HTTP客户端
      */
@@ -87,7 +102,7 @@ public interface HttpClient {
             boolean deflateEncodedRequest =
                     contentEncodingValues != null && contentEncodingValues.contains(ENCODING_DEFLATE);
             boolean hasAcceptHeader = false;
-            Integer contentLength = null;
+            Long contentLength = null;
             for (String field : request.headers().keySet()) {
                 if ("Accept".equalsIgnoreCase(field)) {
                     hasAcceptHeader = true;
@@ -95,7 +110,7 @@ public interface HttpClient {
                 for (String value : request.headers().get(field)) {
                     if (field.equals(HeaderName.CONTENT_LENGTH.toString())) {
                         if (!gzipEncodedRequest && !deflateEncodedRequest) {
-                            contentLength = Integer.valueOf(value);
+                            contentLength = Long.valueOf(value);
                             connection.addRequestProperty(field, value);
                         }
                     } else {
@@ -108,6 +123,10 @@ public interface HttpClient {
             }
 
             if (request.body() != null) {
+                if (contentLength == null && !gzipEncodedRequest && !deflateEncodedRequest
+                        && request.body().contentLength() >= 0) {
+                    contentLength = request.body().contentLength();
+                }
                 if (contentLength != null) {
                     connection.setFixedLengthStreamingMode(contentLength);
                 } else {
@@ -121,7 +140,8 @@ public interface HttpClient {
                     out = new DeflaterOutputStream(out);
                 }
                 try {
-                    out.write(request.body().getData());
+                    // 文件和流按块写出，不整体读入内存
+                    request.body().writeTo(out);
                 } finally {
                     IOes.closeQuietly(out);
                 }
@@ -176,13 +196,18 @@ public interface HttpClient {
             } else {
                 stream = connection.getInputStream();
             }
-            return HttpResponse.builder()
+            HttpResponse.Builder builder = HttpResponse.builder()
                     .rawStatus(status)
                     .reason(reason)
                     .headers(new HttpHeaders(headers))
-                    .request(request)
-                    .body(stream, length)
-                    .build();
+                    .request(request);
+            // 错误响应没有响应体时getErrorStream()返回null
+            if (stream == null) {
+                builder.body(new byte[0]);
+            } else {
+                builder.body(stream, length);
+            }
+            return builder.build();
         }
     }
 
@@ -0,0 +1,66 @@
+package tech.fastool.http.api;
+
+import org.jetbrains.annotations.NotNull;
+import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Files;
+import tech.fastool.core.utils.ContentType;
+
+import java.io.*;
+
+/**
+ * 以文件为内容的请求体，发送时从文件流式读取，可以重复发送
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ * @see HttpRequestBody#create(ContentType, File)
+ */
+public class HttpFileBody extends HttpRequestBody {
+
+    private final File file;
+
+    HttpFileBody(ContentType contentType, File file) {
+        this.contentType = contentType;
+        this.file = file;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public long contentLength() {
+        return file.length();
+    }
+
+    /**
+     * 读取整个文件，只用于无法流式发送的场景
+     *
+     * @return 文件内容
+     */
+    @Override
+    public byte[] getData() {
+        return Files.readBytes(file);
+    }
+
+    @Override
+    public InputStream byteStream() throws IoRuntimeException {
+        try {
+            return new FileInputStream(file);
+        } catch (FileNotFoundException e) {
+            throw new IoRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void writeTo(@NotNull OutputStream out) throws IoRuntimeException {
+        InputStream in = byteStream();
+        try {
+            IOes.copy(in, out, false);
+        } finally {
+            IOes.closeQuietly(in);
+        }
+    }
+
+}
@@ -24,7 +24,14 @@ public class HttpHeaders extends LinkedMultiValueMap<String, String> {
     public HttpHeaders(@Nullable Map<String, ?> headerMap) {
         super();
         if (Maps.isNotEmpty(headerMap)) {
-            headerMap.forEach((BiConsumer<String, Object>) this::append);
+            headerMap.forEach((BiConsumer<String, Object>) (key, value) -> {
+                // 多值的响应头逐个添加，而不是把整个集合转为一个字符串
+                if (value instanceof Iterable) {
+                    ((Iterable<?>) value).forEach(item -> append(key, item));
+                } else {
+                    append(key, value);
+                }
+            });
         }
     }
 
@@ -51,6 +51,46 @@ public class HttpOptions {
 
     private final List<HttpStatus> decodeStatusCodes;
 
+    /**
+     * 连接池最大连接数
+     */
+    private final int maxConnectionsTotal;
+
+    /**
+     * 连接池每个路由（目标主机）的最大连接数
+     */
+    private final int maxConnectionsPerRoute;
+
+    /**
+     * 空闲连接的存活时间（keep-alive）,单位毫秒,超过后被回收
+     */
+    private final long idleConnectionTimeoutMillis;
+
+    /**
+     * 连接池保留的最大空闲连接数
+     */
+    private final int maxIdleConnections;
+
+    /**
+     * 最大并发请求数
+     */
+    private final int maxRequests;
+
+    /**
+     * 每个主机的最大并发请求数
+     */
+    private final int maxRequestsPerHost;
+
+    /**
+     * 是否优先使用HTTP/2
+     */
+    private final boolean http2;
+
+    /**
+     * 从连接池获取连接的超时时间,单位毫秒
+     */
+    private final int connectionRequestTimeoutMillis;
+
     private SSLConfig sslConfig;
 
     HttpOptions(Builder builder) {
@@ -61,6 +101,14 @@ public class HttpOptions {
         this.retryCount = builder.retryCount;
         this.proxyInfo = builder.proxyInfo;
         this.decodeStatusCodes = builder.decodeStatusCodes;
+        this.maxConnectionsTotal = builder.maxConnectionsTotal;
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.idleConnectionTimeoutMillis = builder.idleConnectionTimeoutMillis;
+        this.connectionRequestTimeoutMillis = builder.connectionRequestTimeoutMillis;
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.http2 = builder.http2;
     }
 
     public int connectTimeoutMillis() {
@@ -91,6 +139,38 @@ public class HttpOptions {
         return decodeStatusCodes;
     }
 
+    public int maxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public int maxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public long idleConnectionTimeoutMillis() {
+        return idleConnectionTimeoutMillis;
+    }
+
+    public int connectionRequestTimeoutMillis() {
+        return connectionRequestTimeoutMillis;
+    }
+
+    public int maxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public int maxRequests() {
+        return maxRequests;
+    }
+
+    public int maxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public boolean http2() {
+        return http2;
+    }
+
     public Builder newBuilder() {
         return new Builder(this);
     }
@@ -138,21 +218,78 @@ public class HttpOptions {
 
         private List<HttpStatus> decodeStatusCodes;
 
+        /**
+         * 连接池最大连接数
+         */
+        private int maxConnectionsTotal;
+
+        /**
+         * 连接池每个路由（目标主机）的最大连接数
+         */
+        private int maxConnectionsPerRoute;
+
+        /**
+         * 空闲连接的存活时间,单位毫秒
+         */
+        private long idleConnectionTimeoutMillis;
+
+        /**
+         * 从连接池获取连接的超时时间,单位毫秒
+         */
+        private int connectionRequestTimeoutMillis;
+
+        /**
+         * 连接池保留的最大空闲连接数
+         */
+        private int maxIdleConnections;
+
+        /**
+         * 最大并发请求数
+         */
+        private int maxRequests;
+
+        /**
+         * 每个主机的最大并发请求数
+         */
+        private int maxRequestsPerHost;
+
+        /**
+         * 是否优先使用HTTP/2
+         */
+        private boolean http2;
+
         Builder() {
             this.connectTimeoutMillis = 1000 * 10;
             this.readTimeoutMillis = 1000 * 10;
             this.writeTimeoutMillis = 1000 * 60;
             this.followRedirects = true;
             this.decodeStatusCodes = Lists.newArrayList(HttpStatus.values());
+            this.maxConnectionsTotal = 200;
+            this.maxConnectionsPerRoute = 20;
+            this.idleConnectionTimeoutMillis = 1000 * 60 * 5;
+            this.connectionRequestTimeoutMillis = 1000 * 10;
+            this.maxIdleConnections = 5;
+            this.maxRequests = 64;
+            this.maxRequestsPerHost = 5;
+            this.http2 = true;
         }
 
         Builder(@NotNull HttpOptions source) {
             this.connectTimeoutMillis = Objects.requireNonNull(source).connectTimeoutMillis;
             this.readTimeoutMillis = source.readTimeoutMillis;
-            this.writeTimeoutMillis = source.connectTimeoutMillis;
+            this.writeTimeoutMillis = source.writeTimeoutMillis;
             this.followRedirects = source.followRedirects;
             this.retryCount = source.retryCount;
             this.proxyInfo = source.proxyInfo;
+            this.decodeStatusCodes = source.decodeStatusCodes;
+            this.maxConnectionsTotal = source.maxConnectionsTotal;
+            this.maxConnectionsPerRoute = source.maxConnectionsPerRoute;
+            this.idleConnectionTimeoutMillis = source.idleConnectionTimeoutMillis;
+            this.connectionRequestTimeoutMillis = source.connectionRequestTimeoutMillis;
+            this.maxIdleConnections = source.maxIdleConnections;
+            this.maxRequests = source.maxRequests;
+            this.maxRequestsPerHost = source.maxRequestsPerHost;
+            this.http2 = source.http2;
         }
 
         /**
@@ -350,6 +487,103 @@ public class HttpOptions {
             return this;
         }
 
+        /**
+         * 设置连接池最大连接数，默认200
+         *
+         * @param maxConnectionsTotal 最大连接数，必须大于0
+         * @return {@linkplain Builder}
+         */
+        public Builder maxConnectionsTotal(int maxConnectionsTotal) {
+            Objects.isTrue(maxConnectionsTotal > 0, "'maxConnectionsTotal' must than 0");
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+        /**
+         * 设置连接池每个路由（目标主机）的最大连接数，默认20
+         *
+         * @param maxConnectionsPerRoute 每个路由的最大连接数，必须大于0
+         * @return {@linkplain Builder}
+         */
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            Objects.isTrue(maxConnectionsPerRoute > 0, "'maxConnectionsPerRoute' must than 0");
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * 设置空闲连接的存活时间（keep-alive），超过后被后台回收，默认5分钟
+         *
+         * @param idleConnectionTimeout 存活时间，必须大于0
+         * @param timeUnit              时间单位
+         * @return {@linkplain Builder}
+         */
+        public Builder idleConnectionTimeout(long idleConnectionTimeout, @NotNull TimeUnit timeUnit) {
+            Objects.isTrue(idleConnectionTimeout > 0, "'idleConnectionTimeout' must than 0");
+            Objects.requireNonNull(timeUnit, "'timeUnit' must not be null");
+            this.idleConnectionTimeoutMillis = timeUnit.toMillis(idleConnectionTimeout);
+            return this;
+        }
+
+        /**
+         * 设置从连接池获取连接的超时时间，单位毫秒
+         *
+         * @param connectionRequestTimeoutMillis 超时毫秒数
+         * @return {@linkplain Builder}
+         */
+        public Builder connectionRequestTimeoutMillis(int connectionRequestTimeoutMillis) {
+            Objects.isTrue(connectionRequestTimeoutMillis >= 0, "'connectionRequestTimeoutMillis' must than 0");
+            this.connectionRequestTimeoutMillis = connectionRequestTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * 设置连接池保留的最大空闲连接数，默认5
+         *
+         * @param maxIdleConnections 最大空闲连接数，必须不小于0
+         * @return {@linkplain Builder}
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            Objects.isTrue(maxIdleConnections >= 0, "'maxIdleConnections' must than 0");
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * 设置异步执行时的最大并发请求数，默认64
+         *
+         * @param maxRequests 最大并发请求数，必须大于0
+         * @return {@linkplain Builder}
+         */
+        public Builder maxRequests(int maxRequests) {
+            Objects.isTrue(maxRequests > 0, "'maxRequests' must than 0");
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * 设置异步执行时每个主机的最大并发请求数，默认5
+         *
+         * @param maxRequestsPerHost 每个主机的最大并发请求数，必须大于0
+         * @return {@linkplain Builder}
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            Objects.isTrue(maxRequestsPerHost > 0, "'maxRequestsPerHost' must than 0");
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * 是否优先使用HTTP/2，默认{@code true}，为{@code false}时只使用HTTP/1.1
+         *
+         * @param http2 是否优先使用HTTP/2
+         * @return {@linkplain Builder}
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
         public HttpOptions build() {
             return new HttpOptions(this);
         }
@@ -157,6 +157,7 @@ public final class HttpRequest {
             this.headerMap = new LinkedMultiValueMap<>(request.headers);
             this.body = request.body;
             this.queryParams = request.queryParams;
+            this.decodeStatusCodes = new HashSet<>(request.decodeStatusCodes);
         }
 
         public Builder method(@NotNull HttpMethod method) {
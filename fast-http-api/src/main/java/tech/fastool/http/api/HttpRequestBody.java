@@ -2,14 +2,12 @@ package tech.fastool.http.api;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import tech.fastool.core.io.IOes;
+import tech.fastool.core.exceptions.IoRuntimeException;
 import tech.fastool.core.lang.Charsets;
-import tech.fastool.core.lang.Files;
 import tech.fastool.core.lang.Objects;
 import tech.fastool.core.utils.ContentType;
 
-import java.io.File;
-import java.io.InputStream;
+import java.io.*;
 import java.nio.charset.Charset;
 
 /**
@@ -34,7 +32,12 @@ public class HttpRequestBody {
         this.data = data;
     }
 
-    public int contentLength() {
+    /**
+     * 内容长度
+     *
+     * @return 字节数，未知时返回{@code -1}
+     */
+    public long contentLength() {
         return data != null ? data.length : 0;
     }
 
@@ -46,6 +49,33 @@ public class HttpRequestBody {
         return data;
     }
 
+    /**
+     * 以流的形式读取内容
+     *
+     * @return 输入流
+     * @throws IoRuntimeException 打开失败
+     */
+    public InputStream byteStream() throws IoRuntimeException {
+        return new ByteArrayInputStream(data != null ? data : new byte[0]);
+    }
+
+    /**
+     * 将内容写出到输出流，不关闭输出流
+     *
+     * @param out 输出流
+     * @throws IoRuntimeException 写出失败
+     */
+    public void writeTo(@NotNull OutputStream out) throws IoRuntimeException {
+        if (data == null) {
+            return;
+        }
+        try {
+            out.write(data);
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        }
+    }
+
     /**
      * 返回编码
      *
@@ -68,13 +98,38 @@ public class HttpRequestBody {
         return new HttpRequestBody(contentType, data);
     }
 
-    public static HttpRequestBody create(@Nullable ContentType contentType, @NotNull File file) {
-        Objects.requireNonNull(file, "file == null");
-        return new HttpRequestBody(contentType, Files.readBytes(file));
+    /**
+     * 以文件为内容，发送时从文件流式读取，不会整体读入内存
+     *
+     * @param contentType 内容类型
+     * @param file        文件
+     * @return {@linkplain HttpFileBody}
+     */
+    public static HttpFileBody create(@Nullable ContentType contentType, @NotNull File file) {
+        return new HttpFileBody(contentType, Objects.requireNonNull(file, "file == null"));
     }
 
-    public static HttpRequestBody create(@Nullable ContentType contentType, InputStream in) {
-        return new HttpRequestBody(contentType, IOes.readBytes(Objects.requireNonNull(in, "in == null")));
+    /**
+     * 以输入流为内容，长度未知，发送时流式读取（分块传输），发送后关闭输入流
+     *
+     * @param contentType 内容类型
+     * @param in          输入流
+     * @return {@linkplain HttpStreamBody}
+     */
+    public static HttpStreamBody create(@Nullable ContentType contentType, InputStream in) {
+        return create(contentType, in, -1);
+    }
+
+    /**
+     * 以输入流为内容，发送时流式读取，发送后关闭输入流
+     *
+     * @param contentType   内容类型
+     * @param in            输入流
+     * @param contentLength 内容长度，未知时为{@code -1}
+     * @return {@linkplain HttpStreamBody}
+     */
+    public static HttpStreamBody create(@Nullable ContentType contentType, InputStream in, long contentLength) {
+        return new HttpStreamBody(contentType, Objects.requireNonNull(in, "in == null"), contentLength);
     }
 
 }
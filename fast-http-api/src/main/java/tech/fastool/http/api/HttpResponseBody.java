@@ -1,12 +1,21 @@
 package tech.fastool.http.api;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Objects;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * HTTP响应内容接口
@@ -53,4 +62,53 @@ public interface HttpResponseBody extends Closeable {
      */
     String string(@Nullable Charset charset) throws IoRuntimeException;
 
+    /**
+     * 将响应内容写出到通道，不关闭通道
+     * <p>
+     * 默认使用池化的缓冲区拷贝，通道是{@linkplain FileChannel}时由{@linkplain FileChannel#transferFrom}直接写入，
+     * 实现类可以使用底层客户端自己的缓冲区覆盖此方法。
+     * </p>
+     *
+     * @param channel 输出通道
+     * @return 写出的字节数
+     * @throws IoRuntimeException IO异常
+     */
+    default long transferTo(@NotNull WritableByteChannel channel) throws IoRuntimeException {
+        Objects.requireNonNull(channel, "channel == null");
+        return IOes.copy(Channels.newChannel(byteStream()), channel, false);
+    }
+
+    /**
+     * 将响应内容写入文件，文件已存在时覆盖
+     *
+     * @param path 目标文件
+     * @return 写出的字节数
+     * @throws IoRuntimeException IO异常
+     */
+    default long transferTo(@NotNull Path path) throws IoRuntimeException {
+        return transferTo(path, false);
+    }
+
+    /**
+     * 将响应内容写入文件
+     *
+     * @param path   目标文件
+     * @param append 是否追加到文件末尾，用于断点续传，否则覆盖
+     * @return 写出的字节数
+     * @throws IoRuntimeException IO异常
+     */
+    default long transferTo(@NotNull Path path, boolean append) throws IoRuntimeException {
+        Objects.requireNonNull(path, "path == null");
+        try (FileChannel channel = append
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (append) {
+                channel.position(channel.size());
+            }
+            return transferTo(channel);
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        }
+    }
+
 }
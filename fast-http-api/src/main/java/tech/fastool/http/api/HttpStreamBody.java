@@ -0,0 +1,65 @@
+package tech.fastool.http.api;
+
+import org.jetbrains.annotations.NotNull;
+import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.utils.ContentType;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 以输入流为内容的请求体，发送时流式读取，只能发送一次，发送后关闭输入流
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ * @see HttpRequestBody#create(ContentType, InputStream, long)
+ */
+public class HttpStreamBody extends HttpRequestBody {
+
+    private final InputStream in;
+
+    private final long contentLength;
+
+    HttpStreamBody(ContentType contentType, InputStream in, long contentLength) {
+        this.contentType = contentType;
+        this.in = in;
+        this.contentLength = contentLength < 0 ? -1 : contentLength;
+    }
+
+    /**
+     * 内容长度
+     *
+     * @return 字节数，未知时返回{@code -1}
+     */
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * 读取整个输入流，只用于无法流式发送的场景
+     *
+     * @return 流内容
+     */
+    @Override
+    public byte[] getData() {
+        return IOes.readBytes(in);
+    }
+
+    @Override
+    public InputStream byteStream() throws IoRuntimeException {
+        return in;
+    }
+
+    @Override
+    public void writeTo(@NotNull OutputStream out) throws IoRuntimeException {
+        try {
+            IOes.copy(in, out, false);
+        } finally {
+            IOes.closeQuietly(in);
+        }
+    }
+
+}
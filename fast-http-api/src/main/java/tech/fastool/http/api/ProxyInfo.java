@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.util.Objects;
 
 /**
  * Http代理信息
@@ -75,6 +76,26 @@ public class ProxyInfo {
         return type;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProxyInfo that = (ProxyInfo) o;
+        return port == that.port && type == that.type
+                && Objects.equals(hostOrIp, that.hostOrIp)
+                && Objects.equals(username, that.username)
+                && Objects.equals(password, that.password);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hostOrIp, port, type, username, password);
+    }
+
     public static ProxyInfo direct() {
         return new ProxyInfo(ProxyType.NONE, null, 0, null, null);
     }
@@ -6,11 +6,16 @@ import tech.fastool.core.lang.Collections;
 import tech.fastool.core.lang.Objects;
 import tech.fastool.core.lang.Strings;
 import tech.fastool.core.lang.regex.PatternPool;
+import tech.fastool.core.thread.ThreadFactoryBuilder;
 import tech.fastool.http.api.constants.HeaderName;
 
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +28,11 @@ import java.util.regex.Pattern;
  */
 public class Utils {
 
+    /**
+     * 执行异步请求的线程池，首次使用时创建
+     */
+    private static volatile ExecutorService asyncExecutor;
+
     public static String header(Map<String, List<String>> headers, String headerName) {
         return header(headers, headerName, false);
     }
@@ -72,7 +82,9 @@ public class Utils {
     }
 
     public static void closeParts(HttpRequestBody requestBody) {
-        if (requestBody instanceof HttpMultipartBody) {
+        if (requestBody instanceof HttpStreamBody) {
+            IOes.closeQuietly(requestBody.byteStream());
+        } else if (requestBody instanceof HttpMultipartBody) {
             HttpMultipartBody multipartBody = (HttpMultipartBody) requestBody;
             List<HttpMultipartBody.Part> parts = multipartBody.getParts();
             if (Collections.isNotEmpty(parts)) {
@@ -86,4 +98,44 @@ public class Utils {
         }
     }
 
+    /**
+     * 不支持原生异步的{@linkplain HttpClient}执行异步请求时使用的线程池。
+     * <p>
+     * 线程数上限为{@link HttpOptions#DEFAULT_OPTIONS}的{@link HttpOptions#maxRequests()}，超出的请求在队列中等待，
+     * 线程为守护线程，空闲60秒后回收；可以通过{@link #asyncExecutor(ExecutorService)}替换。
+     * </p>
+     *
+     * @return 线程池
+     */
+    public static ExecutorService asyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (Utils.class) {
+                executor = asyncExecutor;
+                if (executor == null) {
+                    executor = newAsyncExecutor(HttpOptions.DEFAULT_OPTIONS.maxRequests());
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 替换执行异步请求的线程池，原线程池不会被关闭
+     *
+     * @param executor 线程池，非空
+     */
+    public static void asyncExecutor(ExecutorService executor) {
+        asyncExecutor = Objects.requireNonNull(executor, "executor == null");
+    }
+
+    private static ExecutorService newAsyncExecutor(int maxThreads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                ThreadFactoryBuilder.builder().namePrefix("fast-http-async-").daemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
 }
@@ -131,11 +131,31 @@ public enum HeaderName {
      */
     ETAG("ETag"),
 
+    /**
+     * 资源的最后修改时间
+     */
+    LAST_MODIFIED("Last-Modified"),
+
     /**
      * 重定向指示到的URL
      */
     LOCATION("Location"),
 
+    /**
+     * 请求实体的一个或者多个子范围，如bytes=500-999
+     */
+    RANGE("Range"),
+
+    /**
+     * 响应内容在整个实体中的范围，如bytes 500-999/1000
+     */
+    CONTENT_RANGE("Content-Range"),
+
+    /**
+     * 实体未改变时才按Range返回部分内容，值为ETag或Last-Modified
+     */
+    IF_RANGE("If-Range"),
+
     /**
      * 授权
      */
@@ -1,8 +1,10 @@
 package tech.fastool.http.api.convenient;
 
 import tech.fastool.core.convert.Converts;
+import tech.fastool.core.exceptions.IoRuntimeException;
 import tech.fastool.core.io.IOes;
 import tech.fastool.core.lang.*;
+import tech.fastool.core.utils.ContentType;
 import tech.fastool.http.api.*;
 import tech.fastool.http.api.constants.HeaderName;
 import tech.fastool.http.api.constants.HttpMethod;
@@ -11,12 +13,16 @@ import tech.fastool.json.api.BaseTypeRef;
 import tech.fastool.json.api.Jsons;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -45,6 +51,11 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
 
     private static final List<HttpStatus> DECODE_ALL_STATUS_CODES = Lists.newArrayList(HttpStatus.values());
 
+    /**
+     * 断点续传时保存实体校验值的文件后缀
+     */
+    private static final String VALIDATOR_SUFFIX = ".validator";
+
     /**
      * 解码哪些HTTP状态码，默认解码所有
      */
@@ -189,6 +200,35 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
         return (Req) this;
     }
 
+    /**
+     * 只请求从{@code start}开始到末尾的内容，即{@code Range: bytes=start-}
+     *
+     * @param start 起始位置（包含）
+     * @return 返回当前类{@linkplain Req}的对象自己
+     */
+    @Override
+    public Req range(long start) {
+        Objects.isTrue(start >= 0, "start >= 0.");
+        this.headers.remove(HeaderName.RANGE.toString());
+        this.headers.append(HeaderName.RANGE, "bytes=" + start + "-");
+        return (Req) this;
+    }
+
+    /**
+     * 只请求{@code [start, end]}范围内的内容，即{@code Range: bytes=start-end}
+     *
+     * @param start 起始位置（包含）
+     * @param end   结束位置（包含）
+     * @return 返回当前类{@linkplain Req}的对象自己
+     */
+    @Override
+    public Req range(long start, long end) {
+        Objects.isTrue(start >= 0 && end >= start, "0 <= start <= end.");
+        this.headers.remove(HeaderName.RANGE.toString());
+        this.headers.append(HeaderName.RANGE, "bytes=" + start + "-" + end);
+        return (Req) this;
+    }
+
     /**
      * 为构建本次{@linkplain Req}设置单独连接超时时间。
      *
@@ -354,8 +394,7 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
      */
     @Override
     public <T> T bean(Class<T> targetClass) throws HttpClientException {
-        String jsonStr = this.string();
-        return Jsons.fromJson(jsonStr, targetClass);
+        return readBean(this.execute(), targetClass);
     }
 
     /**
@@ -370,8 +409,47 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
      */
     @Override
     public <T> T bean(BaseTypeRef<T> typeRef) throws HttpClientException {
-        String jsonStr = this.string();
-        return Jsons.fromJson(jsonStr, typeRef);
+        return readBean(this.execute(), Objects.requireNonNull(typeRef, "typeRef == null").getType());
+    }
+
+    /**
+     * 异步执行并处理响应内容转为字符串
+     *
+     * @return 响应结果字符串，如果服务器返回非200则以{@linkplain HttpClientException}异常完成
+     */
+    @Override
+    public CompletableFuture<String> stringAsync() {
+        return executeAsync().thenApply(httpResponse -> {
+            try {
+                httpResponse.checkStatus();
+                return httpResponse.body().string(null);
+            } finally {
+                IOes.closeQuietly(httpResponse);
+            }
+        });
+    }
+
+    /**
+     * 异步执行并将响应结果转为JavaBean对象
+     *
+     * @param targetClass 目标类型
+     * @return JavaBean对象，如果服务器返回非200则以{@linkplain HttpClientException}异常完成
+     */
+    @Override
+    public <T> CompletableFuture<T> beanAsync(Class<T> targetClass) {
+        return executeAsync().thenApply(httpResponse -> readBean(httpResponse, targetClass));
+    }
+
+    /**
+     * 异步执行并将响应结果转为JavaBean对象
+     *
+     * @param typeRef 带有泛型类的封装类
+     * @return JavaBean对象，如果服务器返回非200则以{@linkplain HttpClientException}异常完成
+     */
+    @Override
+    public <T> CompletableFuture<T> beanAsync(BaseTypeRef<T> typeRef) {
+        Type type = Objects.requireNonNull(typeRef, "typeRef == null").getType();
+        return executeAsync().thenApply(httpResponse -> readBean(httpResponse, type));
     }
 
     /**
@@ -424,7 +502,86 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
                     target = getNewFilename(target, 1);
                 }
             }
-            Files.copyStream(responseBody.byteStream(), target);
+            responseBody.transferTo(target.toPath());
+        } finally {
+            IOes.closeQuietly(httpResponse);
+        }
+    }
+
+    /**
+     * 下载到文件，支持断点续传
+     * <p>
+     * 下载过程中把响应的{@code ETag}（弱校验值除外）或{@code Last-Modified}保存在{@code 目标文件名.validator}中，
+     * 下载完成后删除。文件已存在、不为空且有保存的校验值时发送{@code Range: bytes=已有长度-}和{@code If-Range: 校验值}，
+     * 服务器返回206时追加到文件末尾；实体已经改变或者不支持范围请求时服务器返回200，此时覆盖文件；
+     * 返回416且{@code Content-Range: bytes *}{@code /总长度}与已有长度一致时认为文件已经下载完整，否则重新完整下载。
+     * 没有校验值时无法确认已有内容与服务器上的是同一个实体，直接重新完整下载。
+     * </p>
+     * <p>
+     * {@code Range}和{@code If-Range}请求头只作用于本次调用，不会修改当前请求的请求头，
+     * 通过{@link #range(long)}设置的范围在此方法中不生效。
+     * </p>
+     *
+     * @param target 目标文件,非空
+     * @return 下载完成后文件的长度
+     * @throws HttpClientException 服务器返回的状态码或{@code Content-Range}不符合预期，或者收到的内容少于{@code Content-Length}
+     */
+    @Override
+    public long download(File target) throws HttpClientException {
+        Objects.requireNonNull(target, "target == null");
+        File validatorFile = new File(target.getPath() + VALIDATOR_SUFFIX);
+        long existing = target.isFile() ? target.length() : 0;
+        String validator = existing > 0 ? readValidator(validatorFile) : null;
+        if (validator == null) {
+            existing = 0;
+        }
+        HttpResponse httpResponse = null;
+        try {
+            httpResponse = executeFrom(existing, validator);
+            int status = httpResponse.rawStatus();
+            if (existing > 0 && status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                String contentRange = Utils.header(httpResponse.headers(), HeaderName.CONTENT_RANGE, true);
+                if (completeLength(contentRange) == existing) {
+                    Files.delete(validatorFile);
+                    return existing;
+                }
+                // 本地文件与服务器上的不一致（过期或更大），重新完整下载
+                IOes.closeQuietly(httpResponse);
+                existing = 0;
+                httpResponse = executeFrom(0, null);
+                status = httpResponse.rawStatus();
+            }
+            boolean append = false;
+            if (existing > 0 && status == HttpStatus.PARTIAL_CONTENT.value()) {
+                String contentRange = Utils.header(httpResponse.headers(), HeaderName.CONTENT_RANGE, true);
+                if (contentRange == null || !contentRange.startsWith("bytes " + existing + "-")) {
+                    throw new HttpClientException("Unexpected Content-Range '" + contentRange + "' when resuming from " + existing);
+                }
+                append = true;
+            } else {
+                httpResponse.checkStatus();
+                // 重新下载，先保存新实体的校验值，中断后才能续传
+                writeValidator(validatorFile, validatorOf(httpResponse));
+            }
+            HttpResponseBody responseBody = httpResponse.body();
+            long length;
+            if (responseBody == null) {
+                if (!append) {
+                    Files.delete(target);
+                    Files.touch(target);
+                }
+                length = append ? existing : 0;
+            } else {
+                long written = responseBody.transferTo(target.toPath(), append);
+                // 部分客户端在连接提前断开时不会报错，按Content-Length确认内容完整，不完整时保留校验值以便续传
+                long expected = contentLength(httpResponse);
+                if (expected >= 0 && written != expected) {
+                    throw new HttpClientException("Incomplete download, expected " + expected + " bytes but received " + written);
+                }
+                length = append ? existing + written : written;
+            }
+            Files.delete(validatorFile);
+            return length;
         } finally {
             IOes.closeQuietly(httpResponse);
         }
@@ -441,7 +598,7 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
         try {
             httpResponse = this.execute();
             httpResponse.checkStatus();
-            IOes.copy(httpResponse.body().byteStream(), out);
+            IOes.copy(httpResponse.body().byteStream(), out, false);
         } finally {
             IOes.closeQuietly(httpResponse);
         }
@@ -457,6 +614,111 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
         return HttpClients.httpClient.execute(generateRequest(), optionsBuilder == null ? null : optionsBuilder.build());
     }
 
+    /**
+     * 异步执行HTTP请求并返回原始响应对象
+     *
+     * @return {@linkplain HttpResponse}
+     */
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync() {
+        return HttpClients.httpClient.executeAsync(generateRequest(), optionsBuilder == null ? null : optionsBuilder.build());
+    }
+
+    /**
+     * 执行请求，{@code start}大于0时只在本次请求中附加{@code Range: bytes=start-}和{@code If-Range}，否则两者都不带
+     *
+     * @param start   起始位置
+     * @param ifRange 续传时的实体校验值
+     * @return {@linkplain HttpResponse}
+     */
+    private HttpResponse executeFrom(long start, String ifRange) {
+        HttpRequest.Builder builder = generateRequest().newBuilder();
+        builder.removeHeader(HeaderName.IF_RANGE.toString());
+        if (start > 0) {
+            builder.replaceHeader(HeaderName.RANGE.toString(), "bytes=" + start + "-");
+            if (ifRange != null) {
+                builder.replaceHeader(HeaderName.IF_RANGE.toString(), ifRange);
+            }
+        } else {
+            builder.removeHeader(HeaderName.RANGE.toString());
+        }
+        return HttpClients.httpClient.execute(builder.build(), optionsBuilder == null ? null : optionsBuilder.build());
+    }
+
+    /**
+     * 获取可以用于{@code If-Range}的实体校验值，优先使用强{@code ETag}，其次{@code Last-Modified}
+     *
+     * @param httpResponse 响应
+     * @return 校验值，没有时返回{@code null}
+     */
+    private static String validatorOf(HttpResponse httpResponse) {
+        String etag = Utils.header(httpResponse.headers(), HeaderName.ETAG, true);
+        if (Strings.isNotBlank(etag) && !etag.startsWith("W/")) {
+            return etag;
+        }
+        String lastModified = Utils.header(httpResponse.headers(), HeaderName.LAST_MODIFIED, true);
+        return Strings.isNotBlank(lastModified) ? lastModified : null;
+    }
+
+    private static String readValidator(File validatorFile) {
+        if (!validatorFile.isFile()) {
+            return null;
+        }
+        String validator = Files.readUtf8String(validatorFile).trim();
+        return validator.isEmpty() ? null : validator;
+    }
+
+    private static void writeValidator(File validatorFile, String validator) {
+        if (validator == null) {
+            Files.delete(validatorFile);
+            return;
+        }
+        try {
+            java.nio.file.Files.write(validatorFile.toPath(), validator.getBytes(Charsets.UTF_8));
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        }
+    }
+
+    /**
+     * 响应头中的{@code Content-Length}
+     *
+     * @param httpResponse 响应
+     * @return 内容长度，没有或无法解析时返回-1
+     */
+    private static long contentLength(HttpResponse httpResponse) {
+        String contentLength = Utils.header(httpResponse.headers(), HeaderName.CONTENT_LENGTH, true);
+        if (Strings.isBlank(contentLength)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 解析{@code Content-Range}中的完整长度，如{@code bytes *}{@code /1234}或{@code bytes 0-99/1234}
+     *
+     * @param contentRange {@code Content-Range}响应头
+     * @return 完整长度，无法解析或未知（{@code *}）时返回-1
+     */
+    private static long completeLength(String contentRange) {
+        if (contentRange == null) {
+            return -1;
+        }
+        int index = contentRange.lastIndexOf('/');
+        if (index < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(index + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     private HttpOptions.Builder optionsBuilder() {
         return optionsBuilder == null ? HttpOptions.DEFAULT_OPTIONS.newBuilder() : optionsBuilder;
     }
@@ -479,6 +741,38 @@ public abstract class AbstractBaseRequest<Req extends BaseRequest<Req>> implemen
                 .build();
     }
 
+    /**
+     * 将响应内容的字节流直接交给JSON引擎解析，不再先读成字符串，并且会关闭响应
+     *
+     * @param httpResponse 响应
+     * @param type         目标类型
+     * @return JavaBean对象，无响应内容时返回{@code null}
+     */
+    private static <T> T readBean(HttpResponse httpResponse, Type type) {
+        try {
+            httpResponse.checkStatus();
+            HttpResponseBody body = httpResponse.body();
+            if (body == null || httpResponse.rawStatus() == HttpStatus.NO_CONTENT.value()) {
+                return null;
+            }
+            return Jsons.fromJson(body.byteStream(), responseCharset(httpResponse), type);
+        } finally {
+            IOes.closeQuietly(httpResponse);
+        }
+    }
+
+    private static Charset responseCharset(HttpResponse httpResponse) {
+        String contentType = Utils.header(httpResponse.headers(), HeaderName.CONTENT_TYPE, true);
+        if (Strings.isBlank(contentType)) {
+            return null;
+        }
+        try {
+            return ContentType.parse(contentType).getCharset();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private File getNewFilename(File file, int index) {
         String mainName = Files.mainName(file);
         String fileExt = Files.getFileExt(file);
@@ -157,7 +157,8 @@ public class BaseBodyRequest<Req extends BaseBodyRequest<Req>> extends AbstractB
      */
     public Req json(Object value) {
         Objects.requireNonNull(value, "value == null");
-        return this.json(Jsons.toJson(value));
+        this.httpRequestBody = HttpRequestBody.create(ContentType.APPLICATION_JSON, Jsons.toJsonBytes(value));
+        return (Req) this;
     }
 
     /**
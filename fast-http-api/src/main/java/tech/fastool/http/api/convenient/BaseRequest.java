@@ -13,6 +13,7 @@ import java.io.File;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -100,6 +101,23 @@ public interface BaseRequest<Req extends BaseRequest<Req>> {
      */
     Req removeHeader(String key);
 
+    /**
+     * 只请求从{@code start}开始到末尾的内容，即{@code Range: bytes=start-}
+     *
+     * @param start 起始位置（包含）
+     * @return 返回当前类{@linkplain Req}的对象自己
+     */
+    Req range(long start);
+
+    /**
+     * 只请求{@code [start, end]}范围内的内容，即{@code Range: bytes=start-end}
+     *
+     * @param start 起始位置（包含）
+     * @param end   结束位置（包含）
+     * @return 返回当前类{@linkplain Req}的对象自己
+     */
+    Req range(long start, long end);
+
     /**
      * 为构建本次{@linkplain Req}设置单独连接超时时间。
      *
@@ -184,6 +202,13 @@ public interface BaseRequest<Req extends BaseRequest<Req>> {
      */
     HttpResponse execute();
 
+    /**
+     * 异步执行HTTP请求并返回原始响应对象
+     *
+     * @return {@linkplain HttpResponse}
+     */
+    CompletableFuture<HttpResponse> executeAsync();
+
     /**
      * 同步执行并处理响应内容转为字符串
      *
@@ -215,6 +240,31 @@ public interface BaseRequest<Req extends BaseRequest<Req>> {
      */
     <T> T bean(BaseTypeRef<T> typeRef) throws HttpClientException;
 
+    /**
+     * 异步执行并处理响应内容转为字符串
+     *
+     * @return 响应结果字符串，如果服务器返回非200则以{@linkplain HttpClientException}异常完成
+     */
+    CompletableFuture<String> stringAsync();
+
+    /**
+     * 异步执行并将响应结果转为JavaBean对象
+     *
+     * @param targetClass 目标类型
+     * @param <T>         泛型类型
+     * @return JavaBean对象，如果服务器返回非200则以{@linkplain HttpClientException}异常完成
+     */
+    <T> CompletableFuture<T> beanAsync(Class<T> targetClass);
+
+    /**
+     * 异步执行并将响应结果转为JavaBean对象
+     *
+     * @param typeRef 带有泛型类的封装类
+     * @param <T>     泛型类型
+     * @return JavaBean对象，如果服务器返回非200则以{@linkplain HttpClientException}异常完成
+     */
+    <T> CompletableFuture<T> beanAsync(BaseTypeRef<T> typeRef);
+
     /**
      * 将响应结果转为字节数组
      *
@@ -231,6 +281,19 @@ public interface BaseRequest<Req extends BaseRequest<Req>> {
      */
     void file(File saveFile) throws HttpClientException;
 
+    /**
+     * 下载到文件，支持断点续传
+     * <p>
+     * 文件已存在且不为空时发送{@code Range: bytes=已有长度-}，服务器返回206时追加到文件末尾，
+     * 返回200时（不支持范围请求）覆盖文件，返回416时认为文件已经下载完整。
+     * </p>
+     *
+     * @param target 目标文件,非空
+     * @return 下载完成后文件的长度
+     * @throws HttpClientException 如果服务器返回非200则抛出此异常
+     */
+    long download(File target) throws HttpClientException;
+
     /**
      * 将响应结果输出到输出流,并不会主动关闭输出流{@code out}
      *
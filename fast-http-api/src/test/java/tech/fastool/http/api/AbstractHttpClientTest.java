@@ -0,0 +1,469 @@
+package tech.fastool.http.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.fastool.core.exceptions.IoRuntimeException;
+import tech.fastool.core.lang.Charsets;
+import tech.fastool.core.utils.ContentType;
+import tech.fastool.http.api.constants.HttpMethod;
+import tech.fastool.http.api.convenient.HttpClients;
+import tech.fastool.http.api.exceptions.HttpClientException;
+import tech.fastool.json.api.BaseTypeRef;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 各个HTTP实现共用的{@linkplain HttpClient}测试用例，请求发送到进程内的{@linkplain HttpServer}，不依赖外部网络。
+ * 实现模块继承后提供{@link #newClient(HttpOptions)}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public abstract class AbstractHttpClientTest {
+
+    protected HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    /**
+     * {@code /file}的内容
+     */
+    private final byte[] fileContent = randomBytes(200 * 1024);
+
+    /**
+     * {@code /file}当前的{@code ETag}
+     */
+    private volatile String fileEtag = "\"v1\"";
+
+    /**
+     * {@code /file}只写出部分内容后断开连接
+     */
+    private volatile boolean fileBroken;
+
+    /**
+     * {@code /file}最近一次收到的{@code Range}和{@code If-Range}
+     */
+    private volatile String lastRange;
+
+    private volatile String lastIfRange;
+
+    /**
+     * 创建被测试的客户端
+     *
+     * @param options 客户端配置，可以为{@code null}
+     * @return 客户端
+     */
+    protected abstract HttpClient newClient(HttpOptions options);
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/text", exchange -> respond(exchange, 200, "hello"));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "slow");
+        });
+        server.createContext("/json", exchange -> respond(exchange, 200, "{\"name\":\"中文\",\"sizes\":[1,2]}"));
+        server.createContext("/echo", exchange -> {
+            // 返回收到的字节数和CRC32校验值
+            CRC32 crc = new CRC32();
+            long count = 0;
+            byte[] buffer = new byte[8192];
+            try (InputStream in = exchange.getRequestBody()) {
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    crc.update(buffer, 0, n);
+                    count += n;
+                }
+            }
+            respond(exchange, 200, count + ":" + crc.getValue());
+        });
+        server.createContext("/file", this::serveFile);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void execute() {
+        HttpClient client = newClient(null);
+        try (HttpResponse response = client.execute(get("/text"), null)) {
+            assertEquals(200, response.rawStatus());
+            assertEquals("hello", response.body().string(Charsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void perRequestTimeout() {
+        HttpClient client = newClient(HttpOptions.builder().readTimeoutMillis(10_000).build());
+        HttpOptions shortRead = HttpOptions.DEFAULT_OPTIONS.newBuilder().readTimeoutMillis(200).build();
+        assertThrows(IoRuntimeException.class, () -> client.execute(get("/slow"), shortRead).close());
+
+        // 单次请求的配置不影响客户端本身和之后的请求
+        try (HttpResponse response = client.execute(get("/slow"), null)) {
+            assertEquals("slow", response.body().string(Charsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void executeAsync() throws Exception {
+        HttpClient client = newClient(null);
+        try (HttpResponse response = client.executeAsync(get("/text"), null).get(5, TimeUnit.SECONDS)) {
+            assertEquals(200, response.rawStatus());
+            assertEquals("hello", response.body().string(Charsets.UTF_8));
+        }
+
+        // 连接失败时以异常完成
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = socket.getLocalPort();
+        }
+        HttpRequest refused = HttpRequest.builder().url("http://127.0.0.1:" + closedPort + "/text").method(HttpMethod.GET).build();
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> client.executeAsync(refused, null).get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RuntimeException);
+    }
+
+    @Test
+    public void convenientAsync() throws Exception {
+        assertEquals("hello", HttpClients.get(url("/text")).stringAsync().get(5, TimeUnit.SECONDS));
+
+        Map<?, ?> map = HttpClients.get(url("/json")).beanAsync(Map.class).get(5, TimeUnit.SECONDS);
+        assertEquals("中文", map.get("name"));
+
+        JsonBean bean = HttpClients.get(url("/json")).beanAsync(new BaseTypeRef<JsonBean>() {
+        }).get(5, TimeUnit.SECONDS);
+        assertEquals("中文", bean.getName());
+        assertEquals(2, bean.getSizes().size());
+        assertEquals(Integer.valueOf(2), bean.getSizes().get(1));
+
+        // 不在解码范围内的状态码以HttpClientException异常完成
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> HttpClients.get(url("/missing")).decodeStatusCode2xx().stringAsync().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof HttpClientException);
+        e = assertThrows(ExecutionException.class,
+                () -> HttpClients.get(url("/missing")).decodeStatusCode2xx().beanAsync(Map.class).get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof HttpClientException);
+    }
+
+    @Test
+    public void postFileBody(@TempDir File tempDir) throws IOException {
+        byte[] data = randomBytes(300 * 1024);
+        File file = new File(tempDir, "body.bin");
+        Files.write(file.toPath(), data);
+
+        HttpClient client = newClient(null);
+        HttpFileBody body = HttpRequestBody.create(ContentType.DEFAULT_BINARY, file);
+        // 文件请求体可以重复发送
+        for (int i = 0; i < 2; i++) {
+            try (HttpResponse response = client.execute(post("/echo", body), null)) {
+                assertEquals(summary(data), response.body().string(Charsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void postStreamBody() {
+        byte[] data = randomBytes(300 * 1024);
+        HttpClient client = newClient(null);
+
+        // 长度未知
+        TrackedInputStream in = new TrackedInputStream(data);
+        try (HttpResponse response = client.execute(post("/echo", HttpRequestBody.create(ContentType.DEFAULT_BINARY, in)), null)) {
+            assertEquals(summary(data), response.body().string(Charsets.UTF_8));
+        }
+        assertTrue(in.isClosed());
+
+        // 长度已知
+        in = new TrackedInputStream(data);
+        HttpStreamBody body = HttpRequestBody.create(ContentType.DEFAULT_BINARY, in, data.length);
+        assertEquals(data.length, body.contentLength());
+        try (HttpResponse response = client.execute(post("/echo", body), null)) {
+            assertEquals(summary(data), response.body().string(Charsets.UTF_8));
+        }
+        assertTrue(in.isClosed());
+    }
+
+    @Test
+    public void transferToPath(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "text.txt");
+        Files.write(target.toPath(), "abc".getBytes(Charsets.UTF_8));
+        HttpClient client = newClient(null);
+        try (HttpResponse response = client.execute(get("/text"), null)) {
+            assertEquals(5, response.body().transferTo(target.toPath(), true));
+        }
+        assertEquals("abchello", new String(Files.readAllBytes(target.toPath()), Charsets.UTF_8));
+
+        try (HttpResponse response = client.execute(get("/text"), null)) {
+            assertEquals(5, response.body().transferTo(target.toPath(), false));
+        }
+        assertEquals("hello", new String(Files.readAllBytes(target.toPath()), Charsets.UTF_8));
+    }
+
+    @Test
+    public void downloadFresh(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "file.bin");
+        assertEquals(fileContent.length, HttpClients.get(url("/file")).download(target));
+        assertArrayEquals(fileContent, Files.readAllBytes(target.toPath()));
+        assertNull(lastRange);
+        assertFalse(validatorFile(target).exists());
+    }
+
+    @Test
+    public void downloadResume(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "file.bin");
+        // 第一次下载中途断开，保留已下载的部分和校验值
+        fileBroken = true;
+        assertThrows(RuntimeException.class, () -> HttpClients.get(url("/file")).download(target));
+        long partial = target.length();
+        assertTrue(partial > 0 && partial < fileContent.length);
+        assertEquals(fileEtag, new String(Files.readAllBytes(validatorFile(target).toPath()), Charsets.UTF_8));
+
+        fileBroken = false;
+        assertEquals(fileContent.length, HttpClients.get(url("/file")).download(target));
+        assertEquals("bytes=" + partial + "-", lastRange);
+        assertEquals(fileEtag, lastIfRange);
+        assertArrayEquals(fileContent, Files.readAllBytes(target.toPath()));
+        assertFalse(validatorFile(target).exists());
+    }
+
+    @Test
+    public void downloadChangedEntity(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "file.bin");
+        Files.write(target.toPath(), new byte[1000]);
+        Files.write(validatorFile(target).toPath(), "\"v0\"".getBytes(Charsets.UTF_8));
+
+        // 实体已经改变，服务器忽略Range返回200，覆盖已有内容
+        assertEquals(fileContent.length, HttpClients.get(url("/file")).download(target));
+        assertEquals("bytes=1000-", lastRange);
+        assertEquals("\"v0\"", lastIfRange);
+        assertArrayEquals(fileContent, Files.readAllBytes(target.toPath()));
+        assertFalse(validatorFile(target).exists());
+    }
+
+    @Test
+    public void downloadWithoutValidator(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "file.bin");
+        Files.write(target.toPath(), new byte[1000]);
+
+        // 没有校验值时无法确认已有内容，重新完整下载
+        assertEquals(fileContent.length, HttpClients.get(url("/file")).download(target));
+        assertNull(lastRange);
+        assertNull(lastIfRange);
+        assertArrayEquals(fileContent, Files.readAllBytes(target.toPath()));
+    }
+
+    @Test
+    public void downloadAlreadyComplete(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "file.bin");
+        Files.write(target.toPath(), fileContent);
+        Files.write(validatorFile(target).toPath(), fileEtag.getBytes(Charsets.UTF_8));
+
+        assertEquals(fileContent.length, HttpClients.get(url("/file")).download(target));
+        assertEquals("bytes=" + fileContent.length + "-", lastRange);
+        assertArrayEquals(fileContent, Files.readAllBytes(target.toPath()));
+        assertFalse(validatorFile(target).exists());
+    }
+
+    @Test
+    public void downloadLargerThanRemote(@TempDir File tempDir) throws IOException {
+        File target = new File(tempDir, "file.bin");
+        Files.write(target.toPath(), new byte[fileContent.length + 10]);
+        Files.write(validatorFile(target).toPath(), fileEtag.getBytes(Charsets.UTF_8));
+
+        // 416且完整长度与本地不一致，重新完整下载
+        assertEquals(fileContent.length, HttpClients.get(url("/file")).download(target));
+        assertNull(lastRange);
+        assertArrayEquals(fileContent, Files.readAllBytes(target.toPath()));
+    }
+
+    /**
+     * 请求地址
+     *
+     * @param path 路径
+     * @return 完整地址
+     */
+    protected String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * 构建GET请求
+     *
+     * @param path 路径
+     * @return 请求
+     */
+    protected HttpRequest get(String path) {
+        return HttpRequest.builder().url(url(path)).method(HttpMethod.GET).build();
+    }
+
+    /**
+     * 构建POST请求
+     *
+     * @param path 路径
+     * @param body 请求体
+     * @return 请求
+     */
+    protected HttpRequest post(String path, HttpRequestBody body) {
+        return HttpRequest.builder().url(url(path)).method(HttpMethod.POST).body(body).build();
+    }
+
+    /**
+     * 注册处理器
+     *
+     * @param path    路径
+     * @param handler 处理器
+     */
+    protected void handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+    }
+
+    /**
+     * 写出文本响应
+     *
+     * @param exchange 请求
+     * @param status   状态码
+     * @param body     响应内容
+     * @throws IOException IO异常
+     */
+    protected static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(Charsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * 按{@code Range}和{@code If-Range}返回{@link #fileContent}
+     */
+    private void serveFile(HttpExchange exchange) throws IOException {
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+        lastRange = range;
+        lastIfRange = ifRange;
+        exchange.getResponseHeaders().add("ETag", fileEtag);
+
+        int start = 0;
+        if (range != null && (ifRange == null || ifRange.equals(fileEtag))) {
+            start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+            if (start >= fileContent.length) {
+                exchange.getResponseHeaders().add("Content-Range", "bytes */" + fileContent.length);
+                exchange.sendResponseHeaders(416, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Range",
+                    "bytes " + start + "-" + (fileContent.length - 1) + "/" + fileContent.length);
+        }
+        int length = fileContent.length - start;
+        exchange.sendResponseHeaders(start > 0 ? 206 : 200, length);
+        OutputStream out = exchange.getResponseBody();
+        if (fileBroken) {
+            out.write(fileContent, start, length / 2);
+            out.flush();
+            // 内容不足时关闭会断开连接
+            exchange.close();
+            return;
+        }
+        out.write(fileContent, start, length);
+        out.close();
+    }
+
+    private static File validatorFile(File target) {
+        return new File(target.getPath() + ".validator");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    private static String summary(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return data.length + ":" + crc.getValue();
+    }
+
+    /**
+     * 记录是否被关闭的输入流
+     */
+    protected static class TrackedInputStream extends ByteArrayInputStream {
+
+        private volatile boolean closed;
+
+        public TrackedInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+    }
+
+    /**
+     * 用于转换JSON响应的Bean
+     */
+    public static class JsonBean {
+
+        private String name;
+
+        private List<Integer> sizes;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<Integer> getSizes() {
+            return sizes;
+        }
+
+        public void setSizes(List<Integer> sizes) {
+            this.sizes = sizes;
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package tech.fastool.http.api;
+
+/**
+ * Tester for {@linkplain HttpClient.DefaultHttpClient}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class DefaultHttpClientTest extends AbstractHttpClientTest {
+
+    @Override
+    protected HttpClient newClient(HttpOptions options) {
+        return new HttpClient.DefaultHttpClient();
+    }
+
+}
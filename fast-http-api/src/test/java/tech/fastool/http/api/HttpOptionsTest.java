@@ -0,0 +1,67 @@
+package tech.fastool.http.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain HttpOptions}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class HttpOptionsTest {
+
+    @Test
+    public void newBuilderCopiesAll() {
+        HttpOptions source = HttpOptions.builder()
+                .connectTimeoutMillis(1001)
+                .readTimeoutMillis(1002)
+                .writeTimeoutMillis(1003)
+                .followRedirects(false)
+                .retryCount(4)
+                .httpProxy("127.0.0.1", 8888)
+                .decodeStatusCodes(Collections.singletonList(HttpStatus.OK))
+                .maxConnectionsTotal(11)
+                .maxConnectionsPerRoute(12)
+                .idleConnectionTimeout(13, TimeUnit.SECONDS)
+                .connectionRequestTimeoutMillis(1004)
+                .maxIdleConnections(14)
+                .maxRequests(15)
+                .maxRequestsPerHost(16)
+                .http2(false)
+                .build();
+
+        HttpOptions copy = source.newBuilder().build();
+        assertNotSame(source, copy);
+        assertEquals(1001, copy.connectTimeoutMillis());
+        assertEquals(1002, copy.readTimeoutMillis());
+        assertEquals(1003, copy.writeTimeoutMillis());
+        assertFalse(copy.followRedirects());
+        assertEquals(4, copy.retryCount());
+        assertEquals(ProxyInfo.http("127.0.0.1", 8888), copy.proxyInfo());
+        assertEquals(Collections.singletonList(HttpStatus.OK), copy.decodeStatusCodes());
+        assertEquals(11, copy.maxConnectionsTotal());
+        assertEquals(12, copy.maxConnectionsPerRoute());
+        assertEquals(13_000L, copy.idleConnectionTimeoutMillis());
+        assertEquals(1004, copy.connectionRequestTimeoutMillis());
+        assertEquals(14, copy.maxIdleConnections());
+        assertEquals(15, copy.maxRequests());
+        assertEquals(16, copy.maxRequestsPerHost());
+        assertFalse(copy.http2());
+    }
+
+    @Test
+    public void newBuilderIsIndependent() {
+        HttpOptions source = HttpOptions.builder().readTimeoutMillis(1000).build();
+        HttpOptions changed = source.newBuilder().readTimeoutMillis(2000).build();
+        assertEquals(1000, source.readTimeoutMillis());
+        assertEquals(2000, changed.readTimeoutMillis());
+        assertEquals(source.writeTimeoutMillis(), changed.writeTimeoutMillis());
+    }
+
+}
@@ -0,0 +1,31 @@
+package tech.fastool.http.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain ProxyInfo}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class ProxyInfoTest {
+
+    @Test
+    public void equalsAndHashCode() {
+        ProxyInfo proxy = ProxyInfo.http("127.0.0.1", 8888, "user", "pwd");
+        ProxyInfo same = ProxyInfo.http("127.0.0.1", 8888, "user", "pwd");
+        assertEquals(proxy, same);
+        assertEquals(proxy.hashCode(), same.hashCode());
+        assertEquals(ProxyInfo.direct(), ProxyInfo.direct());
+
+        assertNotEquals(proxy, ProxyInfo.http("127.0.0.1", 8888));
+        assertNotEquals(proxy, ProxyInfo.http("127.0.0.1", 8889, "user", "pwd"));
+        assertNotEquals(proxy, ProxyInfo.http("127.0.0.1", 8888, "user", "other"));
+        assertNotEquals(proxy, ProxyInfo.socks("127.0.0.1", 8888, "user", "pwd"));
+        assertNotEquals(proxy, null);
+    }
+
+}
@@ -1,10 +1,13 @@
 package tech.fastool.http.provider.okhttp;
 
-import okhttp3.Credentials;
-import okhttp3.HttpUrl;
-import okhttp3.MediaType;
+import okhttp3.*;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
 import tech.fastool.core.exceptions.IoRuntimeException;
 import tech.fastool.core.io.IOes;
 import tech.fastool.core.lang.*;
@@ -14,10 +17,16 @@ import tech.fastool.http.api.constants.HttpMethod;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -29,6 +38,13 @@ public class OkHttpClient implements HttpClient {
 
     private final okhttp3.OkHttpClient delegate;
 
+    /**
+     * 按单次请求的有效配置缓存派生出的客户端，派生客户端与{@link #delegate}共享连接池和调度器
+     */
+    private final Cache<ScopedKey, okhttp3.OkHttpClient> scopedClients = CacheBuilder.<ScopedKey, okhttp3.OkHttpClient>builder()
+            .maximumSize(32)
+            .build();
+
     public OkHttpClient() {
         this(new okhttp3.OkHttpClient());
     }
@@ -40,37 +56,22 @@ public class OkHttpClient implements HttpClient {
     public OkHttpClient(@Nullable HttpOptions options) {
         HttpOptions httpOptions = Objects.getIfNull(options, HttpOptions.DEFAULT_OPTIONS);
 
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(httpOptions.maxRequests());
+        dispatcher.setMaxRequestsPerHost(httpOptions.maxRequestsPerHost());
+
         okhttp3.OkHttpClient.Builder builder = new okhttp3.OkHttpClient.Builder()
-                // 连接超时
-                .connectTimeout(httpOptions.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
-                // 读取超时
-                .readTimeout(httpOptions.readTimeoutMillis(), TimeUnit.MILLISECONDS)
-                // 写出超时
-                .writeTimeout(httpOptions.writeTimeoutMillis(), TimeUnit.MILLISECONDS)
-                // 3XX自动跳转
-                .followRedirects(httpOptions.followRedirects());
+                // 连接池
+                .connectionPool(new ConnectionPool(httpOptions.maxIdleConnections(),
+                        httpOptions.idleConnectionTimeoutMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(httpOptions.http2() ? HTTP2_PROTOCOLS : HTTP1_PROTOCOLS);
 //        // debugger
 //        DebugLoggingInterceptor debugLoggingInterceptor = DebugLoggingInterceptor.INSTANCE;
 //        debugLoggingInterceptor.setLoggingLevel(DebugLoggingInterceptor.Level.ALL);
 //        builder.addNetworkInterceptor(debugLoggingInterceptor);
 
-        // 代理
-        ProxyInfo proxyInfo = httpOptions.proxyInfo();
-        if (proxyInfo != null) {
-            builder.proxy(proxyInfo.toJdkProxy());
-            if (Strings.isAllNotBlank(proxyInfo.username(), proxyInfo.password())) {
-                builder.proxyAuthenticator((route, response) -> response.request().newBuilder()
-                        .header("Proxy-Authorization", Credentials.basic(proxyInfo.username(), proxyInfo.password()))
-                        .build());
-            }
-        }
-
-        // 重试机制
-        if (httpOptions.retryCount() > 0) {
-            builder.addNetworkInterceptor(new Retry(httpOptions.retryCount()));
-        }
-
-        this.delegate = builder.build();
+        this.delegate = configure(builder, httpOptions).build();
     }
 
     /**
@@ -83,35 +84,7 @@ public class OkHttpClient implements HttpClient {
      */
     @Override
     public HttpResponse execute(@NotNull HttpRequest request, HttpOptions options) throws IoRuntimeException {
-        okhttp3.OkHttpClient okHttpClientScoped = null;
-        if (options != null) {
-            okhttp3.OkHttpClient.Builder builder = delegate.newBuilder();
-            if (delegate.connectTimeoutMillis() != options.connectTimeoutMillis() ||
-                    delegate.readTimeoutMillis() != options.readTimeoutMillis() ||
-                    delegate.writeTimeoutMillis() != options.writeTimeoutMillis() ||
-                    delegate.followRedirects() != options.followRedirects()) {
-                builder.connectTimeout(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
-                        .readTimeout(options.readTimeoutMillis(), TimeUnit.MILLISECONDS)
-                        .writeTimeout(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
-                        .followRedirects(options.followRedirects())
-                        .build();
-            }
-            ProxyInfo proxyInfo = options.proxyInfo();
-            if (proxyInfo != null) {
-                builder.proxy(proxyInfo.toJdkProxy());
-                if (Strings.isAllNotBlank(proxyInfo.username(), proxyInfo.password())) {
-                    builder.proxyAuthenticator((route, response) -> response.request().newBuilder()
-                            .header("Proxy-Authorization", Credentials.basic(proxyInfo.username(), proxyInfo.password()))
-                            .build());
-                }
-            }
-            if (options.retryCount() > 0) {
-                builder.addNetworkInterceptor(new Retry(options.retryCount()));
-            }
-            okHttpClientScoped = builder.build();
-        } else {
-            okHttpClientScoped = delegate;
-        }
+        okhttp3.OkHttpClient okHttpClientScoped = scoped(options);
         okhttp3.Request okRequest = toOkHttpRequest(request);
         try {
             okhttp3.Response okResponse = okHttpClientScoped.newCall(okRequest).execute();
@@ -123,6 +96,102 @@ public class OkHttpClient implements HttpClient {
         }
     }
 
+    /**
+     * 通过{@code okhttp}的{@linkplain Call#enqueue(Callback)}异步执行HTTP请求，不占用调用线程，
+     * 并发数受{@link HttpOptions#maxRequests()}和{@link HttpOptions#maxRequestsPerHost()}限制。
+     * 取消返回的{@linkplain CompletableFuture}会同时取消请求
+     *
+     * @param request 请求对象
+     * @param options 请求选项
+     * @return 执行结果，请求异常时以{@linkplain IoRuntimeException}异常完成
+     */
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(@NotNull HttpRequest request, HttpOptions options) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        Call call;
+        try {
+            call = scoped(options).newCall(toOkHttpRequest(request));
+        } catch (RuntimeException e) {
+            Utils.closeParts(request.body());
+            future.completeExceptionally(e);
+            return future;
+        }
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                Utils.closeParts(request.body());
+                // okhttp不会再回调onFailure，转换失败时必须在这里结束future，否则调用方会一直等待
+                try {
+                    if (!future.complete(toHttpResponse(response, request))) {
+                        response.close();
+                    }
+                } catch (RuntimeException | Error e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                Utils.closeParts(request.body());
+                future.completeExceptionally(new IoRuntimeException(e));
+            }
+        });
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 获取单次请求使用的客户端
+     * <p>
+     * 连接池、调度器和协议只在构造时生效，单次请求只覆盖超时、跳转、代理和重试，相同的覆盖复用同一个派生客户端。
+     * 重试次数不大于0时沿用原客户端的重试。
+     * </p>
+     *
+     * @param options 请求选项
+     * @return 客户端
+     */
+    okhttp3.OkHttpClient scoped(@Nullable HttpOptions options) {
+        if (options == null) {
+            return delegate;
+        }
+        return scopedClients.computeIfAbsent(new ScopedKey(options),
+                key -> configure(delegate.newBuilder(), options).build());
+    }
+
+    private static okhttp3.OkHttpClient.Builder configure(okhttp3.OkHttpClient.Builder builder, HttpOptions options) {
+        // 连接超时
+        builder.connectTimeout(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                // 读取超时
+                .readTimeout(options.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+                // 写出超时
+                .writeTimeout(options.writeTimeoutMillis(), TimeUnit.MILLISECONDS)
+                // 3XX自动跳转
+                .followRedirects(options.followRedirects());
+
+        // 代理
+        ProxyInfo proxyInfo = options.proxyInfo();
+        if (proxyInfo != null) {
+            builder.proxy(proxyInfo.toJdkProxy());
+            if (Strings.isAllNotBlank(proxyInfo.username(), proxyInfo.password())) {
+                builder.proxyAuthenticator((route, response) -> response.request().newBuilder()
+                        .header("Proxy-Authorization", Credentials.basic(proxyInfo.username(), proxyInfo.password()))
+                        .build());
+            }
+        }
+
+        // 重试机制，只有指定了重试次数时才替换掉从原客户端继承的重试，与Apache HttpClient的实现保持一致
+        if (options.retryCount() > 0) {
+            builder.networkInterceptors().removeIf(interceptor -> interceptor instanceof Retry);
+            builder.addNetworkInterceptor(new Retry(options.retryCount()));
+        }
+        return builder;
+    }
+
     private static okhttp3.Request toOkHttpRequest(HttpRequest input) {
         HttpUrl.Builder httpUrlBuilder = HttpUrl.parse(input.url()).newBuilder();
         if (Maps.isNotEmpty(input.queryParams())) {
@@ -197,10 +266,10 @@ public class OkHttpClient implements HttpClient {
                                 okhttp3.RequestBody.create(partMediaType, part.getFile()));
                     } else if (part.getIn() != null) {
                         builder.addFormDataPart(part.getName(), part.getValue(),
-                                okhttp3.RequestBody.create(partMediaType, HttpRequestBody.create(null, part.getIn()).getData()));
+                                toOkHttpBody(partMediaType, HttpRequestBody.create(null, part.getIn())));
                     } else if (part.getBody() != null) {
                         builder.addFormDataPart(part.getName(), part.getValue(),
-                                okhttp3.RequestBody.create(partMediaType, part.getBody().getData()));
+                                toOkHttpBody(partMediaType, part.getBody()));
                     } else if (part.getValue() != null) {
                         builder.addFormDataPart(part.getName(), null,
                                 okhttp3.RequestBody.create(partMediaType, part.getValue()));
@@ -209,11 +278,55 @@ public class OkHttpClient implements HttpClient {
             }
             requestBuilder.method(input.method().name(), builder.build());
         } else {
-            requestBuilder.method(input.method().name(), okhttp3.RequestBody.create(okhttp3MediaType, input.body().getData()));
+            requestBuilder.method(input.method().name(), toOkHttpBody(okhttp3MediaType, input.body()));
         }
         return requestBuilder.build();
     }
 
+    /**
+     * 转换请求体，文件和流在发送时按块写出，不整体读入内存
+     *
+     * @param mediaType 内容类型
+     * @param body      请求体
+     * @return {@code okhttp}的请求体
+     */
+    private static okhttp3.RequestBody toOkHttpBody(@Nullable MediaType mediaType, HttpRequestBody body) {
+        if (body instanceof HttpFileBody) {
+            return okhttp3.RequestBody.create(mediaType, ((HttpFileBody) body).getFile());
+        }
+        if (body instanceof HttpStreamBody) {
+            return new okhttp3.RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return mediaType;
+                }
+
+                @Override
+                public long contentLength() {
+                    return body.contentLength();
+                }
+
+                @Override
+                public boolean isOneShot() {
+                    return true;
+                }
+
+                @Override
+                public void writeTo(@NotNull BufferedSink sink) throws IOException {
+                    try {
+                        body.writeTo(sink.outputStream());
+                    } catch (IoRuntimeException e) {
+                        if (e.getCause() instanceof IOException) {
+                            throw (IOException) e.getCause();
+                        }
+                        throw e;
+                    }
+                }
+            };
+        }
+        return okhttp3.RequestBody.create(mediaType, body.getData());
+    }
+
     private static HttpResponse toHttpResponse(okhttp3.Response okResponse, HttpRequest input) {
         return HttpResponse.builder()
                 .rawStatus(okResponse.code())
@@ -281,6 +394,32 @@ public class OkHttpClient implements HttpClient {
                 }
             }
 
+            /**
+             * 直接把{@code okio}缓冲区中的数据段写出到通道，不再经过额外的缓冲区拷贝
+             *
+             * @param channel 输出通道
+             * @return 写出的字节数
+             * @throws IoRuntimeException IO异常
+             */
+            @Override
+            public long transferTo(@NotNull WritableByteChannel channel) throws IoRuntimeException {
+                Objects.requireNonNull(channel, "channel == null");
+                BufferedSource source = okBody.source();
+                OutputStream out = Channels.newOutputStream(channel);
+                try {
+                    long total = 0;
+                    while (!source.exhausted()) {
+                        Buffer buffer = source.getBuffer();
+                        long size = buffer.size();
+                        buffer.writeTo(out, size);
+                        total += size;
+                    }
+                    return total;
+                } catch (IOException e) {
+                    throw new IoRuntimeException(e);
+                }
+            }
+
             @Override
             public void close() {
                 okBody.close();
@@ -289,4 +428,59 @@ public class OkHttpClient implements HttpClient {
 
     }
 
+    private static final List<Protocol> HTTP2_PROTOCOLS = Collections.unmodifiableList(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+
+    private static final List<Protocol> HTTP1_PROTOCOLS = Collections.singletonList(Protocol.HTTP_1_1);
+
+    /**
+     * 派生客户端的缓存键，只包含单次请求可覆盖的配置
+     */
+    private static final class ScopedKey {
+
+        private final int connectTimeoutMillis;
+
+        private final int readTimeoutMillis;
+
+        private final int writeTimeoutMillis;
+
+        private final boolean followRedirects;
+
+        private final int retryCount;
+
+        private final ProxyInfo proxyInfo;
+
+        ScopedKey(HttpOptions options) {
+            this.connectTimeoutMillis = options.connectTimeoutMillis();
+            this.readTimeoutMillis = options.readTimeoutMillis();
+            this.writeTimeoutMillis = options.writeTimeoutMillis();
+            this.followRedirects = options.followRedirects();
+            this.retryCount = options.retryCount();
+            this.proxyInfo = options.proxyInfo();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ScopedKey that = (ScopedKey) o;
+            return connectTimeoutMillis == that.connectTimeoutMillis
+                    && readTimeoutMillis == that.readTimeoutMillis
+                    && writeTimeoutMillis == that.writeTimeoutMillis
+                    && followRedirects == that.followRedirects
+                    && retryCount == that.retryCount
+                    && java.util.Objects.equals(proxyInfo, that.proxyInfo);
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis,
+                    followRedirects, retryCount, proxyInfo);
+        }
+
+    }
+
 }
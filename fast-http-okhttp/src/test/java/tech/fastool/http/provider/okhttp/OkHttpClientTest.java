@@ -0,0 +1,67 @@
+package tech.fastool.http.provider.okhttp;
+
+import okhttp3.Interceptor;
+import org.junit.jupiter.api.Test;
+import tech.fastool.http.api.AbstractHttpClientTest;
+import tech.fastool.http.api.HttpClient;
+import tech.fastool.http.api.HttpOptions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain OkHttpClient}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class OkHttpClientTest extends AbstractHttpClientTest {
+
+    @Override
+    protected HttpClient newClient(HttpOptions options) {
+        return new OkHttpClient(options);
+    }
+
+    @Test
+    public void scopedReused() {
+        OkHttpClient client = new OkHttpClient(HttpOptions.DEFAULT_OPTIONS);
+        assertSame(client.scoped(null), client.scoped(null));
+
+        HttpOptions options = HttpOptions.builder().readTimeoutMillis(200).httpProxy("127.0.0.1", 8888).build();
+        HttpOptions same = HttpOptions.builder().readTimeoutMillis(200).httpProxy("127.0.0.1", 8888).build();
+        okhttp3.OkHttpClient scoped = client.scoped(options);
+        assertSame(scoped, client.scoped(same));
+        assertNotSame(scoped, client.scoped(HttpOptions.builder().readTimeoutMillis(300).build()));
+        assertEquals(200, scoped.readTimeoutMillis());
+        // 派生客户端共享连接池和调度器
+        assertSame(client.scoped(null).connectionPool(), scoped.connectionPool());
+        assertSame(client.scoped(null).dispatcher(), scoped.dispatcher());
+    }
+
+    @Test
+    public void scopedKeepsBaseRetry() {
+        OkHttpClient client = new OkHttpClient(HttpOptions.builder().retryCount(2).build());
+        assertEquals(Collections.singletonList(2), retries(client.scoped(null)));
+
+        // 未指定重试次数时沿用原客户端的重试
+        HttpOptions timeoutOnly = HttpOptions.builder().retryCount(0).readTimeoutMillis(200).build();
+        assertEquals(Collections.singletonList(2), retries(client.scoped(timeoutOnly)));
+
+        // 指定了重试次数时替换原客户端的重试
+        HttpOptions moreRetries = HttpOptions.builder().retryCount(5).build();
+        assertEquals(Collections.singletonList(5), retries(client.scoped(moreRetries)));
+    }
+
+    private static List<Integer> retries(okhttp3.OkHttpClient client) {
+        List<Interceptor> interceptors = client.networkInterceptors();
+        return interceptors.stream()
+                .filter(interceptor -> interceptor instanceof Retry)
+                .map(interceptor -> ((Retry) interceptor).maxRetry)
+                .collect(Collectors.toList());
+    }
+
+}
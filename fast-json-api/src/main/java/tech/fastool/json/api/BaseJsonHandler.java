@@ -2,11 +2,14 @@ package tech.fastool.json.api;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tech.fastool.core.io.IOes;
+import tech.fastool.core.lang.Charsets;
 import tech.fastool.core.lang.Objects;
 import tech.fastool.core.lang.Strings;
 
-import java.io.Reader;
+import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 
 /**
  * 基础的 JSON Handler
@@ -69,6 +72,106 @@ public abstract class BaseJsonHandler implements JsonHandler {
      */
     public abstract String doSerialize(@NotNull Object src, @Nullable Type typeOfT);
 
+    /**
+     * 将Java对象序列化为JSON并写入{@linkplain Writer}，写入后{@code flush}，不关闭{@code writer}
+     *
+     * @param src    Java对象，为{@code null}时不写入
+     * @param writer 输出
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public void serialize(@Nullable Object src, @NotNull Writer writer) throws JsonRuntimeException {
+        Objects.requireNonNull(writer, "The parameter [writer] is null");
+        if (Objects.isNull(src)) {
+            return;
+        }
+        try {
+            doSerialize(src, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将Java对象序列化为JSON并写入{@linkplain Writer}，默认先转为字符串再写入，实现类应当覆盖为流式写入
+     *
+     * @param src    Java对象
+     * @param writer 输出
+     * @throws IOException          写入异常
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    public void doSerialize(@NotNull Object src, @NotNull Writer writer) throws IOException, JsonRuntimeException {
+        writer.write(doSerialize(src, (Type) null));
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON并写入输出流，写入后{@code flush}，不关闭输出流
+     *
+     * @param src Java对象，为{@code null}时不写入
+     * @param out 输出流
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public void serialize(@Nullable Object src, @NotNull OutputStream out) throws JsonRuntimeException {
+        Objects.requireNonNull(out, "The parameter [out] is null");
+        if (Objects.isNull(src)) {
+            return;
+        }
+        try {
+            doSerialize(src, out);
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON并写入输出流，默认经由{@linkplain OutputStreamWriter}写入
+     *
+     * @param src Java对象
+     * @param out 输出流
+     * @throws IOException          写入异常
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    public void doSerialize(@NotNull Object src, @NotNull OutputStream out) throws IOException, JsonRuntimeException {
+        Writer writer = new OutputStreamWriter(out, Charsets.UTF_8);
+        doSerialize(src, writer);
+        writer.flush();
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param src Java对象
+     * @return JSON字节数组，{@code src}为{@code null}时返回{@code null}
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public byte[] serializeToBytes(@Nullable Object src) throws JsonRuntimeException {
+        if (Objects.isNull(src)) {
+            return null;
+        }
+        return doSerializeToBytes(src);
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON字节数组，默认写入内存输出流
+     *
+     * @param src Java对象
+     * @return JSON字节数组
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    public byte[] doSerializeToBytes(@NotNull Object src) throws JsonRuntimeException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            doSerialize(src, out);
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * 将JSON字符串放序列化为Java对象
      *
@@ -106,7 +209,104 @@ public abstract class BaseJsonHandler implements JsonHandler {
      */
     @Override
     public <T> T deserialize(@Nullable Reader reader, @Nullable Type typeOfT) throws JsonRuntimeException {
-        throw new UnsupportedOperationException();
+        if (reader == null) {
+            return null;
+        }
+        Objects.requireNonNull(typeOfT, "The parameter [typeOfT] is null");
+        try {
+            PushbackReader pushbackReader = new PushbackReader(reader, 1);
+            int first = pushbackReader.read();
+            if (first == -1) {
+                return null;
+            }
+            pushbackReader.unread(first);
+            return doDeserialize(pushbackReader, typeOfT);
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将{@linkplain Reader}内容转为Java对象，默认读取为字符串后解析，实现类应当覆盖为流式解析
+     *
+     * @param reader  内容
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    public <T> T doDeserialize(@NotNull Reader reader, @NotNull Type typeOfT) throws JsonRuntimeException {
+        String json = IOes.read(reader, false);
+        return Strings.isBlank(json) ? null : doDeserialize(json, typeOfT);
+    }
+
+    /**
+     * 将{@linkplain InputStream}内容转为Java对象，边读边解析，不关闭输入流
+     *
+     * @param in      输入流
+     * @param charset 编码，为{@code null}时使用UTF-8
+     * @param typeOfT Java类型
+     * @return Java对象，输入流为空时返回{@code null}
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T deserialize(@Nullable InputStream in, @Nullable Charset charset, @Nullable Type typeOfT) throws JsonRuntimeException {
+        if (in == null) {
+            return null;
+        }
+        Objects.requireNonNull(typeOfT, "The parameter [typeOfT] is null");
+        try {
+            PushbackInputStream pushbackIn = new PushbackInputStream(in, 1);
+            int first = pushbackIn.read();
+            if (first == -1) {
+                return null;
+            }
+            pushbackIn.unread(first);
+            return doDeserialize(pushbackIn, Charsets.getCharset(charset, Charsets.UTF_8), typeOfT);
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将{@linkplain InputStream}内容转为Java对象，默认按编码转为{@linkplain Reader}解析
+     *
+     * @param in      输入流
+     * @param charset 编码
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    public <T> T doDeserialize(@NotNull InputStream in, @NotNull Charset charset, @NotNull Type typeOfT) throws JsonRuntimeException {
+        return doDeserialize(new InputStreamReader(in, charset), typeOfT);
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象
+     *
+     * @param json    JSON字节数组
+     * @param typeOfT Java类型
+     * @return Java对象，字节数组为空时返回{@code null}
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T deserialize(@Nullable byte[] json, @Nullable Type typeOfT) throws JsonRuntimeException {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        Objects.requireNonNull(typeOfT, "The parameter [typeOfT] is null");
+        return doDeserialize(json, typeOfT);
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象，默认按输入流解析
+     *
+     * @param json    JSON字节数组
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    public <T> T doDeserialize(@NotNull byte[] json, @NotNull Type typeOfT) throws JsonRuntimeException {
+        return doDeserialize(new ByteArrayInputStream(json), Charsets.UTF_8, typeOfT);
     }
 
 }
@@ -1,9 +1,12 @@
 package tech.fastool.json.api;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tech.fastool.core.lang.Charsets;
 
-import java.io.Reader;
+import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 
 /**
  * JSON Handler
@@ -34,6 +37,58 @@ public interface JsonHandler {
      */
     String serialize(@Nullable Object src, @Nullable Type typeOfT) throws JsonRuntimeException;
 
+    /**
+     * 将Java对象序列化为JSON并写入{@linkplain Writer}，写入后{@code flush}，不关闭{@code writer}
+     *
+     * @param src    Java对象，为{@code null}时不写入
+     * @param writer 输出
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    default void serialize(@Nullable Object src, @NotNull Writer writer) throws JsonRuntimeException {
+        String json = serialize(src, (Type) null);
+        if (json == null) {
+            return;
+        }
+        try {
+            writer.write(json);
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON并写入输出流，写入后{@code flush}，不关闭输出流
+     *
+     * @param src Java对象，为{@code null}时不写入
+     * @param out 输出流
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    default void serialize(@Nullable Object src, @NotNull OutputStream out) throws JsonRuntimeException {
+        byte[] bytes = serializeToBytes(src);
+        if (bytes == null) {
+            return;
+        }
+        try {
+            out.write(bytes);
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param src Java对象
+     * @return JSON字节数组，{@code src}为{@code null}时返回{@code null}
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    default byte[] serializeToBytes(@Nullable Object src) throws JsonRuntimeException {
+        String json = serialize(src, (Type) null);
+        return json == null ? null : json.getBytes(Charsets.UTF_8);
+    }
+
     /**
      * 将JSON字符串放序列化为Java对象
      *
@@ -56,4 +111,50 @@ public interface JsonHandler {
      */
     <T> T deserialize(@Nullable Reader reader, @Nullable Type typeOfT) throws JsonRuntimeException;
 
+    /**
+     * 将{@linkplain InputStream}内容转为Java对象，边读边解析，不会先转为字符串，不关闭输入流
+     *
+     * @param in      输入流
+     * @param charset 编码，为{@code null}时使用UTF-8
+     * @param typeOfT Java类型
+     * @param <T>     泛型类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    default <T> T deserialize(@Nullable InputStream in, @Nullable Charset charset, @Nullable Type typeOfT) throws JsonRuntimeException {
+        if (in == null) {
+            return null;
+        }
+        return deserialize(new InputStreamReader(in, Charsets.getCharset(charset, Charsets.UTF_8)), typeOfT);
+    }
+
+    /**
+     * 将UTF-8编码的{@linkplain InputStream}内容转为Java对象，不关闭输入流
+     *
+     * @param in      输入流
+     * @param typeOfT Java类型
+     * @param <T>     泛型类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    default <T> T deserialize(@Nullable InputStream in, @Nullable Type typeOfT) throws JsonRuntimeException {
+        return deserialize(in, Charsets.UTF_8, typeOfT);
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象
+     *
+     * @param json    JSON字节数组
+     * @param typeOfT Java类型
+     * @param <T>     泛型类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    default <T> T deserialize(@Nullable byte[] json, @Nullable Type typeOfT) throws JsonRuntimeException {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        return deserialize(new ByteArrayInputStream(json), Charsets.UTF_8, typeOfT);
+    }
+
 }
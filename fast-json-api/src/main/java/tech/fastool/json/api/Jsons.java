@@ -5,7 +5,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tech.fastool.core.lang.Objects;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 
 /**
  * 提供默认的工具类
@@ -91,6 +96,40 @@ public class Jsons {
         return getJsonHandler(null).serialize(src, ignorePropertyNames);
     }
 
+    /**
+     * Java对象转为JSON并写入{@linkplain Writer}，不关闭{@code writer}
+     *
+     * @param src    Java对象，为{@code null}时不写入
+     * @param writer 输出
+     */
+    public static void toJson(@Nullable Object src, @NotNull Writer writer) {
+        getJsonHandler(null).serialize(src, writer);
+    }
+
+    /**
+     * Java对象转为UTF-8编码的JSON并写入输出流，不关闭输出流
+     *
+     * @param src Java对象，为{@code null}时不写入
+     * @param out 输出流
+     */
+    public static void toJson(@Nullable Object src, @NotNull OutputStream out) {
+        getJsonHandler(null).serialize(src, out);
+    }
+
+    /**
+     * Java对象转为UTF-8编码的JSON字节数组
+     *
+     * @param src Java对象
+     * @return JSON字节数组
+     */
+    @Nullable
+    public static byte[] toJsonBytes(@Nullable Object src) {
+        if (src == null) {
+            return null;
+        }
+        return getJsonHandler(null).serializeToBytes(src);
+    }
+
     /**
      * 将JSON字符串转为Java对象
      *
@@ -164,6 +203,68 @@ public class Jsons {
         return getJsonHandler(custom).deserialize(text, Objects.requireNonNull(typeRef).getType());
     }
 
+    /**
+     * 将输入流中的JSON内容转为Java对象，边读边解析，不关闭输入流
+     *
+     * @param in      输入流，可以为空
+     * @param charset 编码，为{@code null}时使用UTF-8
+     * @param typeOfT 类型
+     * @param <T>     泛型
+     * @return 对象
+     */
+    public static <T> T fromJson(@Nullable InputStream in, @Nullable Charset charset, Type typeOfT) {
+        return getJsonHandler(null).deserialize(in, charset, typeOfT);
+    }
+
+    /**
+     * 将输入流中的JSON内容转为Java对象，边读边解析，不关闭输入流
+     *
+     * @param in      输入流，可以为空
+     * @param charset 编码，为{@code null}时使用UTF-8
+     * @param typeRef 类型
+     * @param <T>     泛型
+     * @return 对象
+     */
+    public static <T> T fromJson(@Nullable InputStream in, @Nullable Charset charset, @NotNull BaseTypeRef<T> typeRef) {
+        return getJsonHandler(null).deserialize(in, charset, Objects.requireNonNull(typeRef).getType());
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象
+     *
+     * @param json    字节数组，可以为空
+     * @param typeOfT 类型
+     * @param <T>     泛型
+     * @return 对象
+     */
+    public static <T> T fromJson(@Nullable byte[] json, Type typeOfT) {
+        return getJsonHandler(null).deserialize(json, typeOfT);
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象
+     *
+     * @param json    字节数组，可以为空
+     * @param typeRef 类型
+     * @param <T>     泛型
+     * @return 对象
+     */
+    public static <T> T fromJson(@Nullable byte[] json, @NotNull BaseTypeRef<T> typeRef) {
+        return getJsonHandler(null).deserialize(json, Objects.requireNonNull(typeRef).getType());
+    }
+
+    /**
+     * 将{@linkplain Reader}中的JSON内容转为Java对象，边读边解析，不关闭{@code reader}
+     *
+     * @param reader  内容，可以为空
+     * @param typeOfT 类型
+     * @param <T>     泛型
+     * @return 对象
+     */
+    public static <T> T fromJson(@Nullable Reader reader, Type typeOfT) {
+        return getJsonHandler(null).deserialize(reader, typeOfT);
+    }
+
     /**
      * 返回JSON引擎
      *
@@ -0,0 +1,210 @@
+package tech.fastool.json.api;
+
+import org.junit.jupiter.api.Test;
+import tech.fastool.core.lang.Charsets;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 各个JSON实现共用的{@linkplain JsonHandler}测试用例，实现模块继承后提供{@link #handler()}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public abstract class AbstractJsonHandlerTest {
+
+    protected static final String JSON = "{\"name\":\"中文\",\"size\":3}";
+
+    /**
+     * 被测试的JSON处理器
+     *
+     * @return JSON处理器
+     */
+    protected abstract JsonHandler handler();
+
+    @Test
+    public void deserializeStream() {
+        JsonHandler handler = handler();
+        TrackedInputStream in = new TrackedInputStream(JSON.getBytes(Charsets.UTF_8));
+        Map<?, ?> result = handler.deserialize(in, Charsets.UTF_8, Map.class);
+        assertEquals("中文", result.get("name"));
+        assertFalse(in.isClosed());
+
+        TrackedInputStream empty = new TrackedInputStream(new byte[0]);
+        assertNull(handler.deserialize(empty, Charsets.UTF_8, Map.class));
+        assertFalse(empty.isClosed());
+        assertNull(handler.deserialize((InputStream) null, Charsets.UTF_8, Map.class));
+    }
+
+    @Test
+    public void deserializeNonUtfStream() {
+        Charset gbk = Charset.forName("GBK");
+        TrackedInputStream in = new TrackedInputStream(JSON.getBytes(gbk));
+        Map<?, ?> result = handler().deserialize(in, gbk, Map.class);
+        assertEquals("中文", result.get("name"));
+        assertFalse(in.isClosed());
+    }
+
+    @Test
+    public void deserializeReader() {
+        JsonHandler handler = handler();
+        Map<?, ?> result = handler.deserialize(new StringReader(JSON), Map.class);
+        assertEquals("中文", result.get("name"));
+        assertNull(handler.deserialize(new StringReader(""), Map.class));
+    }
+
+    @Test
+    public void serializeStream() {
+        JsonHandler handler = handler();
+        Map<String, Object> src = new LinkedHashMap<>();
+        src.put("name", "中文");
+        src.put("size", 3);
+        String expected = handler.serialize(src, (Type) null);
+
+        TrackedOutputStream out = new TrackedOutputStream();
+        handler.serialize(src, out);
+        assertEquals(expected, new String(out.toByteArray(), Charsets.UTF_8));
+        assertFalse(out.isClosed());
+
+        TrackedWriter writer = new TrackedWriter();
+        handler.serialize(src, writer);
+        assertEquals(expected, writer.toString());
+        assertFalse(writer.isClosed());
+
+        TrackedOutputStream nothing = new TrackedOutputStream();
+        handler.serialize(null, nothing);
+        assertEquals(0, nothing.size());
+    }
+
+    @Test
+    public void serializeToBytes() {
+        JsonHandler handler = handler();
+        Map<String, Object> src = new LinkedHashMap<>();
+        src.put("name", "中文");
+        byte[] bytes = handler.serializeToBytes(src);
+        assertEquals(handler.serialize(src, (Type) null), new String(bytes, Charsets.UTF_8));
+        assertNull(handler.serializeToBytes(null));
+
+        Map<?, ?> result = handler.deserialize(bytes, Map.class);
+        assertEquals("中文", result.get("name"));
+        assertNull(handler.deserialize(new byte[0], Map.class));
+    }
+
+    @Test
+    public void serializeIgnoreProperties() {
+        JsonHandler handler = handler();
+        IgnoreBean bean = new IgnoreBean();
+        Map<?, ?> all = handler.deserialize(handler.serialize(bean), Map.class);
+        assertTrue(all.containsKey("a"));
+        assertTrue(all.containsKey("b"));
+
+        Map<?, ?> result = handler.deserialize(handler.serialize(bean, "b"), Map.class);
+        assertEquals(1, ((Number) result.get("a")).intValue());
+        assertFalse(result.containsKey("b"));
+
+        result = handler.deserialize(handler.serialize(bean, "a", "b"), Map.class);
+        assertTrue(result.isEmpty());
+
+        // 忽略属性不影响之后的普通序列化
+        assertEquals(all, handler.deserialize(handler.serialize(bean), Map.class));
+    }
+
+    /**
+     * 用于忽略属性的Bean
+     */
+    public static class IgnoreBean {
+
+        private int a = 1;
+
+        private int b = 2;
+
+        public int getA() {
+            return a;
+        }
+
+        public void setA(int a) {
+            this.a = a;
+        }
+
+        public int getB() {
+            return b;
+        }
+
+        public void setB(int b) {
+            this.b = b;
+        }
+
+    }
+
+    /**
+     * 记录是否被关闭的输出流
+     */
+    protected static class TrackedOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        public TrackedOutputStream() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+    }
+
+    /**
+     * 记录是否被关闭的{@linkplain Writer}
+     */
+    protected static class TrackedWriter extends StringWriter {
+
+        private boolean closed;
+
+        public TrackedWriter() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+    }
+
+    /**
+     * 记录是否被关闭的输入流
+     */
+    protected static class TrackedInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        public TrackedInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+    }
+
+}
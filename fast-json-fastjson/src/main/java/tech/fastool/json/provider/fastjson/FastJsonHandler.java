@@ -4,12 +4,22 @@ import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.filter.SimplePropertyPreFilter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
 import tech.fastool.core.lang.Arrays;
+import tech.fastool.core.lang.Charsets;
 import tech.fastool.json.api.BaseJsonHandler;
 import tech.fastool.json.api.JsonRuntimeException;
 import tech.fastool.json.api.annotation.JsonProviderName;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * 基于{@code Fastjson}的JSON处理器
@@ -21,6 +31,13 @@ import java.lang.reflect.Type;
 @JsonProviderName(value = "fastjson", index = 50)
 public class FastJsonHandler extends BaseJsonHandler {
 
+    /**
+     * 按忽略的属性名缓存构建好的过滤器，过滤器构建后不再修改，可以并发使用
+     */
+    final Cache<Set<String>, SimplePropertyPreFilter> ignoreFilters = CacheBuilder.<Set<String>, SimplePropertyPreFilter>builder()
+            .maximumSize(128)
+            .build();
+
     /**
      * 将Java对象序列化为JSON字符串
      *
@@ -31,12 +48,16 @@ public class FastJsonHandler extends BaseJsonHandler {
      */
     @Override
     public String doSerialize(@NotNull Object src, @Nullable String[] ignorePropertyNames) throws JsonRuntimeException {
-        SimplePropertyPreFilter filter = new SimplePropertyPreFilter();
-        if (Arrays.isNotEmpty(ignorePropertyNames)) {
-            for (String ignorePropertyName : ignorePropertyNames) {
-                filter.getExcludes().add(ignorePropertyName);
-            }
+        if (Arrays.isEmpty(ignorePropertyNames)) {
+            return JSON.toJSONString(src);
         }
+        Set<String> ignoreNames = new HashSet<>();
+        Collections.addAll(ignoreNames, ignorePropertyNames);
+        SimplePropertyPreFilter filter = ignoreFilters.computeIfAbsent(ignoreNames, names -> {
+            SimplePropertyPreFilter preFilter = new SimplePropertyPreFilter();
+            preFilter.getExcludes().addAll(names);
+            return preFilter;
+        });
         return JSON.toJSONString(src, filter);
     }
 
@@ -53,6 +74,30 @@ public class FastJsonHandler extends BaseJsonHandler {
         return JSON.toJSONString(src);
     }
 
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON并直接写入输出流
+     *
+     * @param src Java对象
+     * @param out 输出流
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public void doSerialize(@NotNull Object src, @NotNull OutputStream out) throws JsonRuntimeException {
+        JSON.writeTo(out, src);
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param src Java对象
+     * @return JSON字节数组
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public byte[] doSerializeToBytes(@NotNull Object src) throws JsonRuntimeException {
+        return JSON.toJSONBytes(src);
+    }
+
     /**
      * 将JSON字符串放序列化为Java对象
      *
@@ -66,4 +111,48 @@ public class FastJsonHandler extends BaseJsonHandler {
         return JSON.parseObject(json, typeOfT);
     }
 
+    /**
+     * 将{@linkplain Reader}内容转为Java对象
+     *
+     * @param reader  内容
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull Reader reader, @NotNull Type typeOfT) throws JsonRuntimeException {
+        return JSON.parseObject(reader, typeOfT);
+    }
+
+    /**
+     * 将{@linkplain InputStream}内容转为Java对象，UTF-8编码时由{@code Fastjson}直接解析字节流
+     *
+     * @param in      输入流
+     * @param charset 编码
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull InputStream in, @NotNull Charset charset, @NotNull Type typeOfT) throws JsonRuntimeException {
+        // Fastjson的字节流解析只支持少数编码，其它编码交给Reader解码
+        if (!Charsets.UTF_8.equals(charset)) {
+            return super.doDeserialize(in, charset, typeOfT);
+        }
+        return JSON.parseObject(in, charset, typeOfT);
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象
+     *
+     * @param json    JSON字节数组
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull byte[] json, @NotNull Type typeOfT) throws JsonRuntimeException {
+        return JSON.parseObject(json, typeOfT);
+    }
+
 }
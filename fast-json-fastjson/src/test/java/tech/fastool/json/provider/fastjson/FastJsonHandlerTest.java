@@ -0,0 +1,72 @@
+package tech.fastool.json.provider.fastjson;
+
+import org.junit.jupiter.api.Test;
+import tech.fastool.core.lang.Charsets;
+import tech.fastool.json.api.AbstractJsonHandlerTest;
+import tech.fastool.json.api.JsonHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain FastJsonHandler}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class FastJsonHandlerTest extends AbstractJsonHandlerTest {
+
+    private final FastJsonHandler handler = new FastJsonHandler();
+
+    @Override
+    protected JsonHandler handler() {
+        return handler;
+    }
+
+    @Test
+    public void deserializeUtf8NativeStream() {
+        // UTF-8由Fastjson直接解析字节流，覆盖补充平面字符以及超过单次读取缓冲区的内容
+        StringBuilder value = new StringBuilder();
+        while (value.length() < 200_000) {
+            value.append("中文😀");
+        }
+        String json = "{\"name\":\"" + value + "\"}";
+        TrackedInputStream in = new TrackedInputStream(json.getBytes(Charsets.UTF_8));
+        Map<?, ?> result = handler.deserialize(in, Charsets.UTF_8, Map.class);
+        assertEquals(value.toString(), result.get("name"));
+        assertFalse(in.isClosed());
+    }
+
+    @Test
+    public void deserializeUtf16Stream() {
+        // 其它UTF编码不走Fastjson的字节流解析，交给Reader解码
+        TrackedInputStream in = new TrackedInputStream(JSON.getBytes(StandardCharsets.UTF_16LE));
+        Map<?, ?> result = handler.deserialize(in, StandardCharsets.UTF_16LE, Map.class);
+        assertEquals("中文", result.get("name"));
+        assertFalse(in.isClosed());
+    }
+
+    @Test
+    public void ignoreCacheReused() {
+        IgnoreBean bean = new IgnoreBean();
+        handler.serialize(bean, "a", "b");
+        Set<String> names = new HashSet<>(Arrays.asList("a", "b"));
+        Object cached = handler.ignoreFilters.get(names);
+        assertNotNull(cached);
+
+        // 相同的忽略属性集合（与顺序无关）复用同一个过滤器
+        handler.serialize(bean, "b", "a");
+        assertSame(cached, handler.ignoreFilters.get(names));
+        assertEquals(1, handler.ignoreFilters.size());
+
+        handler.serialize(bean, "b");
+        assertEquals(2, handler.ignoreFilters.size());
+    }
+
+}
@@ -6,6 +6,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
 import tech.fastool.core.lang.Arrays;
 import tech.fastool.core.lang.Objects;
 import tech.fastool.json.api.BaseJsonHandler;
@@ -14,8 +16,13 @@ import tech.fastool.json.api.annotation.JsonProviderName;
 import tech.fastool.json.provider.gson.deser.*;
 import tech.fastool.json.provider.gson.ser.*;
 
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.*;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * 基于{@code Gson}的JSON处理器
@@ -29,6 +36,13 @@ public class GsonJsonHandler extends BaseJsonHandler {
 
     private final Gson gson;
 
+    /**
+     * 按忽略的属性名缓存派生出的{@linkplain Gson}，避免每次重新构建
+     */
+    final Cache<Set<String>, Gson> ignoreGsons = CacheBuilder.<Set<String>, Gson>builder()
+            .maximumSize(128)
+            .build();
+
     public GsonJsonHandler() {
         this(createJson());
     }
@@ -48,11 +62,13 @@ public class GsonJsonHandler extends BaseJsonHandler {
     @Override
     public String doSerialize(@NotNull Object src, @Nullable String[] ignorePropertyNames) throws JsonRuntimeException {
         if (Arrays.isNotEmpty(ignorePropertyNames)) {
-            Gson customGson = this.gson.newBuilder()
+            Set<String> ignoreNames = new HashSet<>();
+            Collections.addAll(ignoreNames, ignorePropertyNames);
+            Gson customGson = ignoreGsons.computeIfAbsent(ignoreNames, names -> this.gson.newBuilder()
                     .addSerializationExclusionStrategy(new ExclusionStrategy() {
                         @Override
                         public boolean shouldSkipField(FieldAttributes fa) {
-                            return Arrays.contains(ignorePropertyNames, fa.getName());
+                            return names.contains(fa.getName());
                         }
 
                         @Override
@@ -60,7 +76,7 @@ public class GsonJsonHandler extends BaseJsonHandler {
                             return false;
                         }
                     })
-                    .create();
+                    .create());
             return customGson.toJson(src);
         } else {
             return serialize(src, (Type) null);
@@ -80,6 +96,18 @@ public class GsonJsonHandler extends BaseJsonHandler {
         return (typeOfT == null) ? gson.toJson(src) : gson.toJson(src, typeOfT);
     }
 
+    /**
+     * 将Java对象序列化为JSON并直接写入{@linkplain Writer}
+     *
+     * @param src    Java对象
+     * @param writer 输出
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public void doSerialize(@NotNull Object src, @NotNull Writer writer) throws JsonRuntimeException {
+        gson.toJson(src, writer);
+    }
+
     /**
      * 将JSON字符串放序列化为Java对象
      *
@@ -93,6 +121,19 @@ public class GsonJsonHandler extends BaseJsonHandler {
         return gson.fromJson(json, typeOfT);
     }
 
+    /**
+     * 将{@linkplain Reader}内容转为Java对象，由{@code Gson}的{@linkplain com.google.gson.stream.JsonReader}流式解析
+     *
+     * @param reader  内容
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull Reader reader, @NotNull Type typeOfT) throws JsonRuntimeException {
+        return gson.fromJson(reader, typeOfT);
+    }
+
     /**
      * 创建支持JSR310的gson处理
      *
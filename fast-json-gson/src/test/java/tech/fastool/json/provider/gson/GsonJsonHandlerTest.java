@@ -0,0 +1,62 @@
+package tech.fastool.json.provider.gson;
+
+import org.junit.jupiter.api.Test;
+import tech.fastool.json.api.AbstractJsonHandlerTest;
+import tech.fastool.json.api.JsonHandler;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain GsonJsonHandler}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class GsonJsonHandlerTest extends AbstractJsonHandlerTest {
+
+    private final GsonJsonHandler handler = new GsonJsonHandler();
+
+    @Override
+    protected JsonHandler handler() {
+        return handler;
+    }
+
+    @Test
+    public void serializeWriterAppends() {
+        // Gson直接写入调用方的Writer，已有内容保留，使用注册的JSR310适配器
+        Map<String, LocalDate> src = Collections.singletonMap("date", LocalDate.of(2026, 10, 17));
+        TrackedWriter writer = new TrackedWriter();
+        writer.write("[");
+        handler.serialize(src, writer);
+        assertEquals("[" + handler.serialize(src, (Type) null), writer.toString());
+        assertEquals("[{\"date\":\"2026-10-17\"}", writer.toString());
+        assertFalse(writer.isClosed());
+    }
+
+    @Test
+    public void ignoreCacheReused() {
+        IgnoreBean bean = new IgnoreBean();
+        handler.serialize(bean, "a", "b");
+        Set<String> names = new HashSet<>(Arrays.asList("a", "b"));
+        Object cached = handler.ignoreGsons.get(names);
+        assertNotNull(cached);
+
+        // 相同的忽略属性集合（与顺序无关）复用同一个Gson
+        handler.serialize(bean, "b", "a");
+        assertSame(cached, handler.ignoreGsons.get(names));
+        assertEquals(1, handler.ignoreGsons.size());
+
+        handler.serialize(bean, "b");
+        assertEquals(2, handler.ignoreGsons.size());
+    }
+
+}
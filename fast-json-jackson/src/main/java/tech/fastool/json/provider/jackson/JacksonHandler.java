@@ -1,20 +1,31 @@
 package tech.fastool.json.provider.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tech.fastool.core.cache.Cache;
+import tech.fastool.core.cache.CacheBuilder;
 import tech.fastool.core.lang.Arrays;
 import tech.fastool.core.lang.Objects;
 import tech.fastool.json.api.BaseJsonHandler;
 import tech.fastool.json.api.JsonRuntimeException;
 import tech.fastool.json.api.annotation.JsonProviderName;
 
-import java.io.IOException;
+import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Jackson Handler
@@ -28,12 +39,37 @@ public class JacksonHandler extends BaseJsonHandler {
 
     private final ObjectMapper objectMapper;
 
+    /**
+     * 读取流时不关闭调用方的输入
+     */
+    private final ObjectReader streamReader;
+
+    /**
+     * 写入流时不关闭调用方的输出
+     */
+    private final ObjectWriter streamWriter;
+
+    /**
+     * 按忽略的属性名缓存构建好的{@linkplain ObjectWriter}，与{@link #objectMapper}共享序列化器缓存，
+     * 过滤器通过{@linkplain JacksonUtil#FIELD_FILTER_ID}绑定到类上
+     */
+    final Cache<Set<String>, ObjectWriter> ignoreWriters = CacheBuilder.<Set<String>, ObjectWriter>builder()
+            .maximumSize(128)
+            .build();
+
     public JacksonHandler() {
         this(JacksonUtil.createObjectMapper());
     }
 
+    /**
+     * 使用自定义的{@linkplain ObjectMapper}，忽略属性依赖{@linkplain JacksonUtil#createObjectMapper()}中绑定的过滤器
+     *
+     * @param objectMapper {@linkplain ObjectMapper}
+     */
     public JacksonHandler(ObjectMapper objectMapper) {
         this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is null");
+        this.streamReader = objectMapper.reader().without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.streamWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
 
@@ -48,10 +84,12 @@ public class JacksonHandler extends BaseJsonHandler {
     @Override
     public String doSerialize(@NotNull Object src, @Nullable String[] ignorePropertyNames) throws JsonRuntimeException {
         if (Arrays.isNotEmpty(ignorePropertyNames)) {
-            SimpleFilterProvider sfp = new SimpleFilterProvider();
-            sfp.addFilter("fieldFilter", SimpleBeanPropertyFilter.serializeAllExcept(ignorePropertyNames));
+            Set<String> ignoreNames = new HashSet<>();
+            Collections.addAll(ignoreNames, ignorePropertyNames);
+            ObjectWriter writer = ignoreWriters.computeIfAbsent(ignoreNames, names -> objectMapper.writer(
+                    new SimpleFilterProvider().addFilter(JacksonUtil.FIELD_FILTER_ID, SimpleBeanPropertyFilter.serializeAllExcept(names))));
             try {
-                return objectMapper.copy().setFilterProvider(sfp).writeValueAsString(src);
+                return writer.writeValueAsString(src);
             } catch (JsonProcessingException e) {
                 throw new JsonRuntimeException(e);
             }
@@ -112,4 +150,105 @@ public class JacksonHandler extends BaseJsonHandler {
         }
     }
 
+    /**
+     * 将{@linkplain Reader}内容转为Java对象，由{@code Jackson}流式解析
+     *
+     * @param reader  内容
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull Reader reader, @NotNull Type typeOfT) throws JsonRuntimeException {
+        try {
+            return streamReader.forType(toJavaType(typeOfT)).readValue(reader);
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将{@linkplain InputStream}内容转为Java对象，UTF-8/16/32编码时由{@code Jackson}直接解析字节流
+     *
+     * @param in      输入流
+     * @param charset 编码
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull InputStream in, @NotNull Charset charset, @NotNull Type typeOfT) throws JsonRuntimeException {
+        // Jackson自动识别UTF-8/16/32，其它编码交给Reader解码
+        if (!charset.name().startsWith("UTF-")) {
+            return super.doDeserialize(in, charset, typeOfT);
+        }
+        try {
+            return streamReader.forType(toJavaType(typeOfT)).readValue(in);
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将UTF-8编码的JSON字节数组转为Java对象
+     *
+     * @param json    JSON字节数组
+     * @param typeOfT Java类型
+     * @return Java对象
+     * @throws JsonRuntimeException 反序列化异常
+     */
+    @Override
+    public <T> T doDeserialize(@NotNull byte[] json, @NotNull Type typeOfT) throws JsonRuntimeException {
+        try {
+            return objectMapper.readValue(json, toJavaType(typeOfT));
+        } catch (IOException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将Java对象序列化为JSON并直接写入{@linkplain Writer}
+     *
+     * @param src    Java对象
+     * @param writer 输出
+     * @throws IOException 写入异常
+     */
+    @Override
+    public void doSerialize(@NotNull Object src, @NotNull Writer writer) throws IOException {
+        streamWriter.writeValue(writer, src);
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON并直接写入输出流
+     *
+     * @param src Java对象
+     * @param out 输出流
+     * @throws IOException 写入异常
+     */
+    @Override
+    public void doSerialize(@NotNull Object src, @NotNull OutputStream out) throws IOException {
+        streamWriter.writeValue(out, src);
+    }
+
+    /**
+     * 将Java对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param src Java对象
+     * @return JSON字节数组
+     * @throws JsonRuntimeException 序列化出现异常
+     */
+    @Override
+    public byte[] doSerializeToBytes(@NotNull Object src) throws JsonRuntimeException {
+        try {
+            return objectMapper.writeValueAsBytes(src);
+        } catch (JsonProcessingException e) {
+            throw new JsonRuntimeException(e);
+        }
+    }
+
+    private JavaType toJavaType(Type typeOfT) {
+        return JacksonUtil.isJacksonJavaType(typeOfT) ? JacksonUtil.toJavaType(typeOfT)
+                : objectMapper.getTypeFactory().constructType(typeOfT);
+    }
+
 }
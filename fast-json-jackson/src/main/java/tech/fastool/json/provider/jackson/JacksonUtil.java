@@ -5,8 +5,12 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.*;
 import com.fasterxml.jackson.datatype.jsr310.ser.*;
@@ -29,6 +33,11 @@ import java.time.format.DateTimeFormatter;
  */
 public class JacksonUtil {
 
+    /**
+     * 忽略属性时使用的过滤器ID，没有声明{@code @JsonFilter}的类都使用该过滤器
+     */
+    public static final String FIELD_FILTER_ID = "fieldFilter";
+
     /**
      * 创建默认的{@linkplain JavaTimeModule}
      *
@@ -87,13 +96,21 @@ public class JacksonUtil {
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-        // 过滤transient
+        // 过滤transient，并为类绑定忽略属性的过滤器
         objectMapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
             @Override
             public boolean hasIgnoreMarker(AnnotatedMember annotatedMember) {
                 return Modifier.isTransient(annotatedMember.getMember().getModifiers()) || super.hasIgnoreMarker(annotatedMember);
             }
+
+            @Override
+            public Object findFilterId(Annotated annotated) {
+                Object filterId = super.findFilterId(annotated);
+                return filterId == null && annotated instanceof AnnotatedClass ? FIELD_FILTER_ID : filterId;
+            }
         });
+        // 默认不忽略任何属性
+        objectMapper.setFilterProvider(new SimpleFilterProvider().addFilter(FIELD_FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
         return objectMapper;
     }
 
@@ -0,0 +1,61 @@
+package tech.fastool.json.provider.jackson;
+
+import org.junit.jupiter.api.Test;
+import tech.fastool.json.api.AbstractJsonHandlerTest;
+import tech.fastool.json.api.JsonHandler;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tester for {@linkplain JacksonHandler}
+ *
+ * @author miles.tang
+ * @version 0.0.1
+ * @date 2026-10-17
+ */
+public class JacksonHandlerTest extends AbstractJsonHandlerTest {
+
+    private final JacksonHandler handler = new JacksonHandler();
+
+    @Override
+    protected JsonHandler handler() {
+        return handler;
+    }
+
+    @Test
+    public void deserializeUtf16Stream() {
+        // UTF-16/32由Jackson自行识别字节序，不经过Reader解码
+        for (Charset charset : new Charset[]{StandardCharsets.UTF_16, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE}) {
+            TrackedInputStream in = new TrackedInputStream(JSON.getBytes(charset));
+            Map<?, ?> result = handler.deserialize(in, charset, Map.class);
+            assertEquals("中文", result.get("name"), charset.name());
+            assertEquals(3, result.get("size"), charset.name());
+            assertFalse(in.isClosed());
+        }
+    }
+
+    @Test
+    public void ignoreCacheReused() {
+        IgnoreBean bean = new IgnoreBean();
+        handler.serialize(bean, "a", "b");
+        Set<String> names = new HashSet<>(Arrays.asList("a", "b"));
+        Object cached = handler.ignoreWriters.get(names);
+        assertNotNull(cached);
+
+        // 相同的忽略属性集合（与顺序无关）复用同一个ObjectWriter
+        handler.serialize(bean, "b", "a");
+        assertSame(cached, handler.ignoreWriters.get(names));
+        assertEquals(1, handler.ignoreWriters.size());
+
+        handler.serialize(bean, "b");
+        assertEquals(2, handler.ignoreWriters.size());
+    }
+
+}
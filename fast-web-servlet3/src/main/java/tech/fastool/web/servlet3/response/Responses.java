@@ -40,7 +40,7 @@ public class Responses {
      * @param response HTTP响应对象
      */
     public static void writeJson(@Nullable Object obj, @Nullable HttpServletResponse response) {
-        writeJson(Jsons.toJson(obj), response);
+        writeJson(obj, null, response);
     }
 
     /**
@@ -53,8 +53,26 @@ public class Responses {
         writeJson(json, null, response);
     }
 
+    /**
+     * 向{@linkplain HttpServletResponse}写入JSON,采用指定编码，对象直接序列化到响应的{@code Writer}，不会先转为字符串
+     *
+     * @param obj      对象
+     * @param encoding 指定编码,如果为空则使用{@code UTF-8}
+     * @param response HTTP响应对象
+     */
     public static void writeJson(@Nullable Object obj, @Nullable Charset encoding, @Nullable HttpServletResponse response) {
-        writeJson(Jsons.toJson(obj), encoding, response);
+        if (Objects.isAnyNull(obj, response)) {
+            return;
+        }
+        encoding = Charsets.getCharset(encoding, Charsets.UTF_8);
+        ContentType contentType = ContentType.APPLICATION_JSON.charset(encoding);
+        response.setCharacterEncoding(encoding.name());
+        response.setContentType(contentType.toString());
+        try {
+            Jsons.toJson(obj, response.getWriter());
+        } catch (IOException e) {
+            throw new IoRuntimeException(e);
+        }
     }
 
     /**